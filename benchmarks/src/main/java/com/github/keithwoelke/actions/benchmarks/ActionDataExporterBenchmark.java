@@ -0,0 +1,44 @@
+package com.github.keithwoelke.actions.benchmarks;
+
+import com.github.keithwoelke.actions.core.ActionDataExporter;
+import com.github.keithwoelke.actions.core.result.ExportData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures exporting the data of a single action.
+ *
+ * @author wkwoelke
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ActionDataExporterBenchmark {
+
+    private ActionDataExporter actionDataExporter;
+    private BenchmarkAction action;
+
+    @Setup
+    public void setup() {
+        actionDataExporter = new ActionDataExporter();
+        action = new BenchmarkAction("export");
+    }
+
+    @Benchmark
+    public ExportData exportData() {
+        return actionDataExporter.exportData(action);
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.keithwoelke.actions.benchmarks;
+
+import com.github.keithwoelke.actions.core.ActionDataImporter;
+import com.github.keithwoelke.actions.core.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures importing into a single action against histories of increasing depth.
+ *
+ * @author wkwoelke
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActionDataImporterBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int historyDepth;
+
+    private ActionDataImporter actionDataImporter;
+    private Result<Object> history;
+
+    @Setup
+    public void setup() {
+        actionDataImporter = new ActionDataImporter();
+        history = Scenarios.history(historyDepth);
+    }
+
+    @Benchmark
+    public BenchmarkAction importData() {
+        BenchmarkAction action = new BenchmarkAction(historyDepth);
+
+        actionDataImporter.importData(history, action);
+
+        return action;
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.keithwoelke.actions.benchmarks;
+
+import com.github.keithwoelke.actions.core.ActionRunner;
+import com.github.keithwoelke.actions.core.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures ActionRunner.doActionsWithDetails end to end for scenarios of increasing length. Every action imports the export of the actions which
+ * ran before it, so the cost of import resolution over a growing history is included.
+ *
+ * @author wkwoelke
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActionRunnerBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int actionCount;
+
+    private ActionRunner actionRunner;
+
+    @Setup
+    public void setup() {
+        actionRunner = Scenarios.actionRunner();
+    }
+
+    @Benchmark
+    public Result<Object> doActionsWithDetails() {
+        return actionRunner.doActionsWithDetails(Scenarios.scenario(actionCount));
+    }
+}
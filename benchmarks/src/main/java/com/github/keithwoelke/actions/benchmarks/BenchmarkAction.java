@@ -0,0 +1,37 @@
+package com.github.keithwoelke.actions.benchmarks;
+
+import com.github.keithwoelke.actions.core.ActionImpl;
+import com.github.keithwoelke.actions.core.Actionable;
+import com.github.keithwoelke.actions.core.annotations.Export;
+import com.github.keithwoelke.actions.core.annotations.Import;
+
+/**
+ * A minimal Action which both exports and imports a value. Used as the unit of work across the benchmarks.
+ *
+ * @author wkwoelke
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class BenchmarkAction extends ActionImpl implements Actionable<Object> {
+
+    public static final String EXPORT_KEY = "value";
+
+    @Export(EXPORT_KEY)
+    private Object value;
+
+    @Import(actionClass = BenchmarkAction.class, importKey = EXPORT_KEY)
+    private Object importedValue;
+
+    public BenchmarkAction(Object value) {
+        super(null);
+        this.value = value;
+    }
+
+    @Override
+    public Object doAction() {
+        return value;
+    }
+
+    public Object getImportedValue() {
+        return importedValue;
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.keithwoelke.actions.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the regular JMH command line options, but unless a result file is given explicitly, results are written
+ * as JSON to results/jmh-result-[timestamp].json so that successive runs can be kept side by side and compared.
+ *
+ * @author wkwoelke
+ */
+public final class BenchmarkMain {
+
+    private static final String RESULTS_DIRECTORY = "results";
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        OptionsBuilder optionsBuilder = new OptionsBuilder();
+
+        if (!commandLineOptions.getResult().hasValue()) {
+            File resultsDirectory = new File(RESULTS_DIRECTORY);
+            //noinspection ResultOfMethodCallIgnored
+            resultsDirectory.mkdirs();
+
+            String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+            optionsBuilder.
+                    resultFormat(ResultFormatType.JSON).
+                    result(new File(resultsDirectory, String.format("jmh-result-%s.json", timestamp)).getPath());
+        }
+
+        Options options = optionsBuilder.
+                parent(commandLineOptions).
+                build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.keithwoelke.actions.benchmarks;
+
+import com.github.keithwoelke.actions.core.field.ActionClassMetadata;
+import com.github.keithwoelke.actions.core.field.FieldAccessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading and writing an Import field through the cached FieldAccessor with the previous approach of toggling Field.setAccessible()
+ * around every reflective Field.get()/Field.set() call.
+ *
+ * @author wkwoelke
+ */
+@SuppressWarnings("deprecation")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FieldAccessBenchmark {
+
+    private BenchmarkAction action;
+    private Field field;
+    private FieldAccessor accessor;
+    private Object value;
+
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        action = new BenchmarkAction("export");
+        field = BenchmarkAction.class.getDeclaredField("importedValue");
+        accessor = ActionClassMetadata.of(BenchmarkAction.class).getImportField(field).getAccessor();
+        value = new Object();
+    }
+
+    @Benchmark
+    public Object getReflectiveToggle() throws IllegalAccessException {
+        boolean isAccessible = field.isAccessible();
+        field.setAccessible(true);
+
+        Object fieldValue = field.get(action);
+        field.setAccessible(isAccessible);
+
+        return fieldValue;
+    }
+
+    @Benchmark
+    public Object getFieldAccessor() {
+        return accessor.get(action);
+    }
+
+    @Benchmark
+    public void setReflectiveToggle() throws IllegalAccessException {
+        boolean isAccessible = field.isAccessible();
+        field.setAccessible(true);
+        field.set(action, value);
+        field.setAccessible(isAccessible);
+    }
+
+    @Benchmark
+    public void setFieldAccessor() {
+        accessor.set(action, value);
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.keithwoelke.actions.benchmarks;
+
+import com.github.keithwoelke.actions.core.Action;
+import com.github.keithwoelke.actions.core.filter.FilterObjectBuilder;
+import com.github.keithwoelke.actions.core.filter.FilterSet;
+import com.github.keithwoelke.actions.core.filter.PersistenceStrategy;
+import com.github.keithwoelke.actions.core.filter.filters.ExcludeFilter;
+import com.github.keithwoelke.actions.core.filter.filters.IncludeFilter;
+import com.github.keithwoelke.actions.core.result.ActionDetails;
+import com.github.keithwoelke.actions.core.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures FilterSet.applyFilters with include, exclude and combined include/exclude filters against histories of increasing size. The include
+ * filter keeps every other action and the exclude filter drops every fourth one.
+ * <p>
+ * applyFilters only creates a view, which filters the history once it is looked up. Every benchmark therefore reads the size of the filtered
+ * execution order into the Blackhole, so the measured time includes the filtering itself.
+ *
+ * @author wkwoelke
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilterSetBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int historyDepth;
+
+    private Result<Object> history;
+    private FilterSet includeFilterSet;
+    private FilterSet excludeFilterSet;
+    private FilterSet combinedFilterSet;
+
+    @Setup
+    public void setup() {
+        FilterObjectBuilder filterObjectBuilder = new FilterObjectBuilder();
+        history = Scenarios.history(historyDepth);
+
+        List<ActionDetails<Object>> actionDetails = history.getActionDetails();
+        Action[] included = new Action[(historyDepth + 1) / 2];
+        Action[] excluded = new Action[(historyDepth + 3) / 4];
+
+        for (int i = 0; i < historyDepth; i++) {
+            if (i % 2 == 0) {
+                included[i / 2] = actionDetails.get(i).getAction();
+            }
+
+            if (i % 4 == 0) {
+                excluded[i / 4] = actionDetails.get(i).getAction();
+            }
+        }
+
+        IncludeFilter includeFilter = new IncludeFilter(filterObjectBuilder, PersistenceStrategy.RUN_FOREVER, included);
+        ExcludeFilter excludeFilter = new ExcludeFilter(filterObjectBuilder, PersistenceStrategy.RUN_FOREVER, excluded);
+
+        includeFilterSet = new FilterSet();
+        includeFilterSet.process(includeFilter);
+
+        excludeFilterSet = new FilterSet();
+        excludeFilterSet.process(excludeFilter);
+
+        combinedFilterSet = new FilterSet();
+        combinedFilterSet.process(includeFilter);
+        combinedFilterSet.process(excludeFilter);
+    }
+
+    @Benchmark
+    public void applyIncludeFilter(Blackhole blackhole) {
+        blackhole.consume(includeFilterSet.applyFilters(history).getActionDetails().size());
+    }
+
+    @Benchmark
+    public void applyExcludeFilter(Blackhole blackhole) {
+        blackhole.consume(excludeFilterSet.applyFilters(history).getActionDetails().size());
+    }
+
+    @Benchmark
+    public void applyIncludeAndExcludeFilters(Blackhole blackhole) {
+        blackhole.consume(combinedFilterSet.applyFilters(history).getActionDetails().size());
+    }
+}
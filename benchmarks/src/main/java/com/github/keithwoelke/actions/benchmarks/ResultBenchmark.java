@@ -0,0 +1,77 @@
+package com.github.keithwoelke.actions.benchmarks;
+
+import com.google.common.collect.ListMultimap;
+import com.github.keithwoelke.actions.core.result.ExportData;
+import com.github.keithwoelke.actions.core.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Result lookups used during import resolution, as well as appending to a Result, against histories of increasing size.
+ *
+ * @author wkwoelke
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int historyDepth;
+
+    private Result<Object> history;
+
+    @Setup
+    public void setup() {
+        history = Scenarios.history(historyDepth);
+    }
+
+    @Benchmark
+    public List<ExportData> getExportedDataByClass() {
+        return history.getExportedDataByClass().get(BenchmarkAction.class);
+    }
+
+    @Benchmark
+    public void getExportedDataByAction(Blackhole blackhole) {
+        ListMultimap<?, ExportData> exportedDataByAction = history.getExportedDataByAction();
+
+        blackhole.consume(exportedDataByAction.size());
+    }
+
+    @Benchmark
+    public List<Object> getResultsByClass() {
+        return history.getResultsByClass().get(BenchmarkAction.class);
+    }
+
+    @Benchmark
+    public Set<Class> getClassesByMostRecentExecution() {
+        return history.getClassesByMostRecentExecution();
+    }
+
+    @Benchmark
+    public List<Object> getExportedValues() {
+        return history.getExportedValues(BenchmarkAction.class, BenchmarkAction.EXPORT_KEY);
+    }
+
+    @Benchmark
+    public Result<Object> buildHistory() {
+        return Scenarios.history(historyDepth);
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.keithwoelke.actions.benchmarks;
+
+import com.github.keithwoelke.actions.core.Action;
+import com.github.keithwoelke.actions.core.ActionDataExporter;
+import com.github.keithwoelke.actions.core.ActionDataImporter;
+import com.github.keithwoelke.actions.core.ActionRunner;
+import com.github.keithwoelke.actions.core.filter.FilterObjectBuilder;
+import com.github.keithwoelke.actions.core.result.ExportData;
+import com.github.keithwoelke.actions.core.result.Result;
+import com.github.keithwoelke.assertion.AssertionRecorder;
+import com.github.keithwoelke.assertion.ValidationResult;
+
+/**
+ * Shared fixtures for the benchmarks. Everything is wired by hand so that no Spring context is involved in the measurements.
+ *
+ * @author wkwoelke
+ */
+@SuppressWarnings("WeakerAccess")
+public final class Scenarios {
+
+    private Scenarios() {
+    }
+
+    public static ActionRunner actionRunner() {
+        return new ActionRunner(new ActionDataImporter(), new ActionDataExporter(), new FilterObjectBuilder(), new NoOpAssertionRecorder());
+    }
+
+    /**
+     * @param actionCount the number of actions in the scenario
+     * @return a scenario of actions which each import the export of the previous action
+     */
+    public static Action[] scenario(int actionCount) {
+        Action[] actions = new Action[actionCount];
+
+        for (int i = 0; i < actionCount; i++) {
+            actions[i] = new BenchmarkAction(i);
+        }
+
+        return actions;
+    }
+
+    /**
+     * @param historyDepth the number of executed actions in the history
+     * @return a Result as if historyDepth BenchmarkActions had already been executed
+     */
+    public static Result<Object> history(int historyDepth) {
+        Result<Object> result = new Result<>();
+
+        for (int i = 0; i < historyDepth; i++) {
+            ExportData exportData = new ExportData();
+            exportData.put(BenchmarkAction.EXPORT_KEY, i);
+
+            result.add(new Result<>(new BenchmarkAction(i), i, exportData));
+        }
+
+        return result;
+    }
+
+    /**
+     * Discards every validation, so that a failing validation is measured as a failure instead of a NullPointerException.
+     */
+    private static class NoOpAssertionRecorder extends AssertionRecorder {
+
+        @Override
+        public void recordValidations(ValidationResult... validationResults) {
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.keithwoelke.actions.benchmarks;
+
+import com.github.keithwoelke.actions.core.Action;
+import com.github.keithwoelke.actions.core.ActionImpl;
+import com.github.keithwoelke.actions.core.ActionStagePlan;
+import com.github.keithwoelke.actions.core.Actionable;
+import com.github.keithwoelke.actions.core.AfterAction;
+import com.github.keithwoelke.actions.core.AfterState;
+import com.github.keithwoelke.actions.core.BeforeAction;
+import com.github.keithwoelke.actions.core.BeforeState;
+import com.github.keithwoelke.actions.core.ChangesState;
+import com.github.keithwoelke.actions.core.SelfDescribing;
+import com.github.keithwoelke.actions.core.SelfDescribingAction;
+import com.github.keithwoelke.actions.core.Validatable;
+import com.github.keithwoelke.actions.core.http.HttpRequestMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a per-Action chain of instanceof checks with the ActionStagePlan ClassValue cache for a mix of Action classes which implement different
+ * combinations of the stage interfaces. The mix keeps the type checks polymorphic, as they are in ActionRunner, so the JIT cannot fold them into a
+ * single class check. The end to end effect on ActionRunner is covered by ActionRunnerBenchmark.
+ *
+ * @author wkwoelke
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StageDispatchBenchmark {
+
+    private Action[] actions;
+
+    @Setup
+    public void setup() {
+        actions = new Action[]{new BenchmarkAction("value"), new DescribedAction(), new HookedAction(), new BenchmarkAction("value"),
+                new DescribedAction(), new HookedAction()};
+    }
+
+    /**
+     * The flags are folded into a single value which is returned to JMH, so the measurement is not dominated by nine Blackhole calls per Action.
+     */
+    @Benchmark
+    public int instanceofChain() {
+        int stages = 0;
+
+        for (Action action : actions) {
+            stages += flag(action instanceof BeforeState, 0) |
+                    flag(action instanceof ChangesState, 1) |
+                    flag(action instanceof BeforeAction, 2) |
+                    flag(action instanceof SelfDescribing, 3) |
+                    flag(action instanceof Actionable, 4) |
+                    flag(action instanceof AfterAction, 5) |
+                    flag(action instanceof AfterState, 6) |
+                    flag(action instanceof Validatable, 7) |
+                    flag(action instanceof HttpRequestMethod, 8);
+        }
+
+        return stages;
+    }
+
+    @Benchmark
+    public int stagePlan() {
+        int stages = 0;
+
+        for (Action action : actions) {
+            ActionStagePlan plan = ActionStagePlan.of(action.getClass());
+
+            stages += flag(plan.isBeforeState(), 0) |
+                    flag(plan.isChangesState(), 1) |
+                    flag(plan.isBeforeAction(), 2) |
+                    flag(plan.isSelfDescribing(), 3) |
+                    flag(plan.isActionable(), 4) |
+                    flag(plan.isAfterAction(), 5) |
+                    flag(plan.isAfterState(), 6) |
+                    flag(plan.isValidatable(), 7) |
+                    flag(plan.isHttpRequestMethod(), 8);
+        }
+
+        return stages;
+    }
+
+    private static int flag(boolean set, int bit) {
+        return set ? 1 << bit : 0;
+    }
+
+    public static class DescribedAction extends ActionImpl implements SelfDescribingAction<Object> {
+
+        public DescribedAction() {
+            super(null);
+        }
+
+        @Override
+        public String describeAction() {
+            return "described";
+        }
+
+        @Override
+        public Object doAction() {
+            return null;
+        }
+    }
+
+    public static class HookedAction extends ActionImpl implements Actionable<Object>, BeforeAction, AfterAction<Object>, BeforeState,
+            AfterState<Object> {
+
+        public HookedAction() {
+            super(null);
+        }
+
+        @Override
+        public Object doAction() {
+            return null;
+        }
+
+        @Override
+        public void beforeAction() {
+        }
+
+        @Override
+        public void afterAction(Object result) {
+        }
+
+        @Override
+        public void beforeState() {
+        }
+
+        @Override
+        public void afterState(Object result) {
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.keithwoelke.actions.core;
+
+import com.github.keithwoelke.actions.core.field.ActionClassMetadata;
+import com.github.keithwoelke.actions.core.field.ActionExportClass;
+import com.github.keithwoelke.actions.core.field.ActionExportField;
+import com.github.keithwoelke.actions.core.field.ExportAdapter;
+import com.github.keithwoelke.actions.core.result.ExportData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * This class is responsible for processing the export annotations on a field and determining which data should be exported.
+ *
+ * @author wkwoelke
+ */
+@Service
+@Slf4j
+public class ActionDataExporter {
+
+    /**
+     * Get the exported data from the Action. If an ExportAdapter was generated for the Action class it will be used, otherwise the Export annotated
+     * fields are read through Reflection.
+     *
+     * @param action the action to pull the export data from
+     * @return an exported data
+     */
+    public ExportData exportData(Action action) {
+        ExportAdapter exportAdapter = ActionClassMetadata.of(action.getClass()).getExportAdapter();
+        ExportData exportedData;
+
+        if (exportAdapter != null) {
+            //noinspection unchecked
+            exportedData = exportAdapter.exportData(action);
+        } else {
+            exportedData = exportDataReflectively(action);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("%s exports: %s", action.getClass().getSimpleName(), exportedData));
+        }
+
+        return exportedData;
+    }
+
+    private ExportData exportDataReflectively(Action action) {
+        ActionExportClass actionClass = new ActionExportClass(action);
+        ExportData exportedData = new ExportData();
+
+        for (ActionExportField actionField : actionClass.getActionFields()) {
+            exportedData.put(actionField.getName(), actionField.getValue());
+        }
+
+        return exportedData;
+    }
+}
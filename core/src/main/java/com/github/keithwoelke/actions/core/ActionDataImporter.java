@@ -8,14 +8,13 @@ import com.github.keithwoelke.actions.core.result.Result;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * This class is responsible for processing the import annotations on a field and determining which data should be injected from the provided data
- * map.
+ * map. Field access goes through the ImportAdapter generated for the Action class when one is available, and through Reflection otherwise.
  *
  * @author wkwoelke
  */
@@ -26,11 +25,12 @@ public class ActionDataImporter {
     /**
      * Check if a field qualifies to have a value imported.
      *
-     * @param actionField the field under consideration for import
+     * @param actionField  the field under consideration for import
+     * @param currentValue the current value of the field
      * @return true, if the field can be imported, false if the field should not be imported
      */
-    private boolean fieldQualifiesForImport(ActionImportField actionField) {
-        return (actionField.hasRequiredImport() && actionField.getValue() == null) || actionField.isOptionalImportRequest();
+    private boolean fieldQualifiesForImport(ActionImportField actionField, Object currentValue) {
+        return (actionField.hasRequiredImport() && currentValue == null) || currentValue instanceof ImportOptional;
     }
 
     /**
@@ -39,22 +39,24 @@ public class ActionDataImporter {
      * @param <ResultType> the Result Type of the Action result
      * @param data         the exported data
      * @param field        the field to import data into
+     * @param currentValue the current value of the field
      * @return a List of the data exported by each matching class
      */
-    private <ResultType> List<Object> getExportCandidatesForField(Result<ResultType> data, ActionImportField field) {
-        Result<ResultType> filteredResults = field.applyFilter(data);
+    private <ResultType> List<Object> getExportCandidatesForField(Result<ResultType> data, ActionImportField field, Object currentValue) {
+        Result<ResultType> filteredResults = field.applyFilter(data, currentValue);
 
         Set<Class> actionClasses = filteredResults.getClassesByMostRecentExecution();
 
         return actionClasses.stream().
-                filter(exportClass -> field.getAnnotationImportClasses().contains(exportClass)).
+                filter(exportClass -> field.getAnnotationsByActionClass().containsKey(exportClass)).
                 flatMap(exportClass -> getExportValuesForClassWithMatchingKeys(filteredResults, exportClass, field.getImportKeysByClass
                         (exportClass)).stream()).
                 collect(Collectors.toList());
     }
 
     /**
-     * Get all export values from exportClass with a matching importKey.
+     * Get all export values from exportClass with a matching importKey. A single import key is answered directly from the export key index of the
+     * Result. Multiple import keys fall back to walking the exported data so that values keep their original interleaving.
      *
      * @param data         the exported data
      * @param exportClass  the class to reference for import value candidates
@@ -63,6 +65,10 @@ public class ActionDataImporter {
      * @return a list of values which are both exported from exportClass, but also match one of the provided importKeys
      */
     private <ResultType> List<Object> getExportValuesForClassWithMatchingKeys(Result<ResultType> data, Class exportClass, List<String> importKeys) {
+        if (importKeys.size() == 1) {
+            return data.getExportedValues(exportClass, importKeys.get(0));
+        }
+
         List<ExportData> exportDataByClass = data.getExportedDataByClass().get(exportClass);
         List<Object> matchingValues = Lists.newArrayList();
 
@@ -78,7 +84,10 @@ public class ActionDataImporter {
     }
 
     public <ResultType> void importData(Result<ResultType> data, Action action) {
-        log.debug(String.format("Data available to import: %s", data.getExportedDataByClass()));
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Data available to import: %s", data.getExportedDataByClass()));
+        }
+
         importDataToAction(data, action);
     }
 
@@ -92,11 +101,11 @@ public class ActionDataImporter {
     private <ResultType> void importDataToAction(Result<ResultType> data, Action action) {
         ActionImportClass actionClass = new ActionImportClass(action);
 
-        for (Field field : actionClass.getAnnotatedFields()) {
-            ActionImportField actionField = actionClass.getActionField(field);
+        for (ActionImportField actionField : actionClass.getActionFields()) {
+            Object currentValue = actionField.getValue();
 
-            if (fieldQualifiesForImport(actionField)) {
-                importDataToField(data, actionField);
+            if (fieldQualifiesForImport(actionField, currentValue)) {
+                importDataToField(data, actionField, currentValue);
             }
         }
     }
@@ -107,10 +116,11 @@ public class ActionDataImporter {
      * @param <ResultType> the Result Type of the Action result
      * @param data         the exported data
      * @param field        the field to import data into
+     * @param currentValue the current value of the field
      */
-    private <ResultType> void importDataToField(Result<ResultType> data, ActionImportField field) {
-        List<Object> exportValues = getExportCandidatesForField(data, field);
+    private <ResultType> void importDataToField(Result<ResultType> data, ActionImportField field, Object currentValue) {
+        List<Object> exportValues = getExportCandidatesForField(data, field, currentValue);
 
-        field.setValueIntelligently(exportValues);
+        field.setValueIntelligently(exportValues, currentValue);
     }
 }
@@ -0,0 +1,190 @@
+package com.github.keithwoelke.actions.core;
+
+import com.github.keithwoelke.actions.core.result.ActionDetails;
+import com.github.keithwoelke.actions.core.result.Result;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes the details of every Action of a scenario as soon as the Action has finished executing. The publisher follows the contract of
+ * java.util.concurrent.Flow.Publisher with a single subscriber: the scenario starts when the subscriber subscribes, and the details of an Action are
+ * only published once they have been requested. actions-core targets Java 8, so the publisher does not implement Flow.Publisher itself; on Java 9
+ * and later, FlowAdapters.toFlowPublisher(ActionDetailsPublisher) of the actions-flow module adapts it.
+ * <p>
+ * In every mode the details are published in scenario order (nested Results are flattened the same way Result.add() flattens them) and the signals
+ * to the subscriber are serialized. What "finished" means, which thread publishes and how far the scenario may run ahead of the subscriber depends
+ * on the RunnerOptions of the ActionRunner:
+ * <ul>
+ * <li>sequential: the details are published on the scenario thread once the Action has been validated. The next Action is only started once the
+ * details have been requested.</li>
+ * <li>pipelinedValidation: the details are published on the validation thread once the Action has been validated. While the subscriber has no
+ * demand the scenario keeps executing until maxPendingValidations Actions are waiting for validation, then it blocks.</li>
+ * <li>deferredValidation: the details are published on the scenario thread as soon as the Action has exported its data, usually before its
+ * validation has finished. Validation failures are not signalled to the subscriber; they are recorded by ActionRunner.awaitValidations(). The next
+ * Action is only started once the details have been requested.</li>
+ * <li>parallel: the details of an Action are published once it and every earlier Action have been executed, on the thread which executed the last
+ * of them. Threads which finish an Action while the details of another Action are being published wait for them, and the publishing thread waits
+ * for demand, so at most one Action per executor thread runs ahead of the subscriber.</li>
+ * </ul>
+ *
+ * @param <ResultType> the Result Type of the Actions
+ * @author wkwoelke
+ * @see ActionRunner#publishActionsWithDetails(Result, Action...)
+ */
+public final class ActionDetailsPublisher<ResultType> {
+
+    private final ActionRunner actionRunner;
+    private final Result<ResultType> executionDetails;
+    private final Action[] actions;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    ActionDetailsPublisher(ActionRunner actionRunner, Result<ResultType> executionDetails, Action... actions) {
+        this.actionRunner = actionRunner;
+        this.executionDetails = executionDetails;
+        this.actions = actions;
+    }
+
+    /**
+     * Subscribe to the details of the scenario and start executing it. Only one subscriber is supported. Any further subscriber is signalled an
+     * IllegalStateException.
+     *
+     * @param subscriber the subscriber to publish to
+     */
+    public void subscribe(ActionDetailsSubscriber<ResultType> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new ActionDetailsSubscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("ActionDetailsPublisher only supports a single subscriber"));
+
+            return;
+        }
+
+        Subscription subscription = new Subscription(subscriber);
+        subscriber.onSubscribe(subscription);
+
+        actionRunner.runScenarioAsync(executionDetails, subscription::isCancelled, subscription::publish, actions).
+                whenComplete((result, throwable) -> subscription.terminate(throwable));
+    }
+
+    /**
+     * Tracks the demand of the subscriber. The demand is guarded by the monitor of the subscription, which is never held while the subscriber is
+     * called, so request() and cancel() return straight away even while the details of an Action are being delivered. The signals themselves are
+     * sent while holding signalLock, which keeps them serialized when Actions are executed in parallel.
+     */
+    private class Subscription implements ActionDetailsSubscription {
+
+        private final ActionDetailsSubscriber<ResultType> subscriber;
+        private final Object signalLock = new Object();
+        private long demand;
+        private boolean cancelled;
+        private boolean terminated;
+
+        private Subscription(ActionDetailsSubscriber<ResultType> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (isCancelled()) {
+                    return;
+                }
+
+                cancel();
+                signal(() -> {
+                    terminated = true;
+                    subscriber.onError(new IllegalArgumentException("The number of requested details must be positive"));
+                });
+
+                return;
+            }
+
+            synchronized (this) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                notifyAll();
+            }
+        }
+
+        @Override
+        public synchronized void cancel() {
+            cancelled = true;
+            notifyAll();
+        }
+
+        private synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Publish the details of an executed Action, waiting for demand. Nested Results are flattened the same way Result.add() flattens them.
+         */
+        private void publish(Result<ResultType> result) {
+            for (ActionDetails<ResultType> actionDetails : result.getActionDetails()) {
+                if (actionDetails.getResult() instanceof Result) {
+                    //noinspection unchecked
+                    publish((Result<ResultType>) actionDetails.getResult());
+                } else if (awaitDemand()) {
+                    signal(() -> subscriber.onNext(actionDetails));
+                }
+            }
+        }
+
+        /**
+         * Wait until the subscriber has requested more details and take one of them.
+         *
+         * @return false, if the subscription was cancelled instead
+         */
+        private synchronized boolean awaitDemand() {
+            while (demand == 0 && !cancelled) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancelled = true;
+                }
+            }
+
+            if (cancelled) {
+                return false;
+            }
+
+            demand--;
+
+            return true;
+        }
+
+        private void terminate(Throwable throwable) {
+            if (isCancelled()) {
+                return;
+            }
+
+            signal(() -> {
+                terminated = true;
+
+                if (throwable == null) {
+                    subscriber.onComplete();
+                } else {
+                    subscriber.onError(throwable);
+                }
+            });
+        }
+
+        /**
+         * Send a signal to the subscriber, unless onComplete() or onError() has already been sent.
+         */
+        private void signal(Runnable signal) {
+            synchronized (signalLock) {
+                if (!terminated) {
+                    signal.run();
+                }
+            }
+        }
+    }
+}
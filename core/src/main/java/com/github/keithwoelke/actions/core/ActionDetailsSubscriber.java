@@ -0,0 +1,37 @@
+package com.github.keithwoelke.actions.core;
+
+import com.github.keithwoelke.actions.core.result.ActionDetails;
+
+/**
+ * Receives the details of every Action published by an ActionDetailsPublisher. The methods follow the contract of java.util.concurrent.Flow.Subscriber,
+ * so a Flow.Subscriber can be adapted by simply delegating each call.
+ *
+ * @param <ResultType> the Result Type of the Actions
+ * @author wkwoelke
+ */
+public interface ActionDetailsSubscriber<ResultType> {
+
+    /**
+     * Called once, before any other method. No details will be published until they are requested through the subscription.
+     *
+     * @param subscription the subscription used to request details or to cancel the scenario
+     */
+    void onSubscribe(ActionDetailsSubscription subscription);
+
+    /**
+     * @param actionDetails the details of the next Action, in execution order
+     */
+    void onNext(ActionDetails<ResultType> actionDetails);
+
+    /**
+     * Called if the scenario failed. No further methods will be called.
+     *
+     * @param throwable the exception which stopped the scenario
+     */
+    void onError(Throwable throwable);
+
+    /**
+     * Called once every Action has been published. No further methods will be called.
+     */
+    void onComplete();
+}
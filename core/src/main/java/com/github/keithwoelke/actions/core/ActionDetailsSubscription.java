@@ -0,0 +1,21 @@
+package com.github.keithwoelke.actions.core;
+
+/**
+ * Links an ActionDetailsSubscriber to a running scenario. Follows the contract of java.util.concurrent.Flow.Subscription.
+ *
+ * @author wkwoelke
+ */
+public interface ActionDetailsSubscription {
+
+    /**
+     * Request the details of up to n more Actions. The scenario pauses before publishing the details of an Action until they have been requested.
+     *
+     * @param n the number of additional details to request. Must be positive
+     */
+    void request(long n);
+
+    /**
+     * Stop publishing and stop the scenario before the next Action starts importing data.
+     */
+    void cancel();
+}
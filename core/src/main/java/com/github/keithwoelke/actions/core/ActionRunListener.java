@@ -0,0 +1,44 @@
+package com.github.keithwoelke.actions.core;
+
+import com.github.keithwoelke.actions.core.ActionRunner.ActionStage;
+
+/**
+ * Receives an event for every stage of every Action executed by an ActionRunner. Register a listener with ActionRunner.addListener(). Listeners are
+ * called on the thread which executes the stage, so they should be cheap and must not throw.
+ * <p>
+ * Stages which do not apply to an Action (for example the validation stages of an Action which is not Validatable) produce no events.
+ *
+ * @author wkwoelke
+ */
+public interface ActionRunListener {
+
+    /**
+     * Called immediately before a stage starts.
+     *
+     * @param action the action which executes the stage
+     * @param stage  the stage
+     */
+    default void stageStarted(Action action, ActionStage stage) {
+    }
+
+    /**
+     * Called immediately after a stage completed successfully.
+     *
+     * @param action the action which executed the stage
+     * @param stage  the stage
+     * @param nanos  the duration of the stage in nanoseconds
+     */
+    default void stageFinished(Action action, ActionStage stage, long nanos) {
+    }
+
+    /**
+     * Called immediately after a stage threw an exception. Depending on the stage, the exception will either be logged and ignored or rethrown.
+     *
+     * @param action    the action which executed the stage
+     * @param stage     the stage
+     * @param nanos     the duration of the stage in nanoseconds
+     * @param throwable the exception thrown by the stage
+     */
+    default void stageFailed(Action action, ActionStage stage, long nanos, Throwable throwable) {
+    }
+}
@@ -0,0 +1,1053 @@
+package com.github.keithwoelke.actions.core;
+
+import com.google.common.collect.Lists;
+import com.github.keithwoelke.actions.core.filter.AppliedFilters;
+import com.github.keithwoelke.actions.core.filter.FilterObjectBuilder;
+import com.github.keithwoelke.actions.core.filter.FilterSet;
+import com.github.keithwoelke.actions.core.http.HttpRequestMethod;
+import com.github.keithwoelke.actions.core.metrics.RunnerMetrics;
+import com.github.keithwoelke.actions.core.result.ActionDetails;
+import com.github.keithwoelke.actions.core.result.ExportData;
+import com.github.keithwoelke.actions.core.result.Result;
+import com.github.keithwoelke.actions.core.result.RetentionPolicy;
+import com.github.keithwoelke.assertion.AssertionRecorder;
+import com.github.keithwoelke.assertion.ValidationResult;
+import com.github.keithwoelke.assertion.ValidationType;
+import com.github.keithwoelke.test.core.http.RequestMethod;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * This class is responsible for processing Actions as below: <b>Action:/b> This is treated as a no-op. <b>Actionable:/b> The doAction() method will
+ * be executed. <b><Validatable:/b> The getCurrentState(), getExpectedState(), and validate() methods will be executed. <b>Filter:</b> This could be
+ * Filter or any of class which derives from Filter. Each filter will be executed via the FilterSet class. <b>FilterControl:</b> FilterControl classes
+ * will by processed via the FilterSet class. <b>SelfDescribing:</b> The describeAction() method will be called. AfterAction: The afterAction method
+ * will be called immediately following the doAction stage. BeforeAction: The beforeAction method will be called immediately prior to the doAction
+ * stage. There are also some interfaces which will combine behaviors for convenience purposes: <b>SelfDescribingAction:</b> See: SelfDescribing,
+ * Actionable <b>SelfDescribingValidatableAction:</b> See: SelfDescribing, Validatable, Actionable
+ *
+ * @author wkwoelke
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+@Service
+@Slf4j
+public class ActionRunner implements AutoCloseable {
+
+    public static final String ERROR_MESSAGE = "An error occurred in the %s stage";
+    static final String CANCELLED_MESSAGE = "The scenario was cancelled";
+    private static final BooleanSupplier NOT_CANCELLED = () -> false;
+    private static final long NOT_TIMED = Long.MIN_VALUE;
+    private static final ActionRunListener[] NO_LISTENERS = new ActionRunListener[0];
+    private final ActionDataImporter actionDataImporter;
+    private final ActionDataExporter actionDataExporter;
+    private final FilterObjectBuilder filterObjectBuilder;
+    private final AssertionRecorder assertionRecorder;
+    private final RunnerOptions runnerOptions;
+    private final DeferredValidator deferredValidator;
+    private volatile ActionRunListener[] listeners = NO_LISTENERS;
+
+    @Autowired
+    public ActionRunner(ActionDataImporter actionDataImporter, ActionDataExporter actionDataExporter, FilterObjectBuilder filterObjectBuilder,
+            AssertionRecorder assertionRecorder) {
+        this(actionDataImporter, actionDataExporter, filterObjectBuilder, assertionRecorder, RunnerOptions.DEFAULT);
+    }
+
+    public ActionRunner(ActionDataImporter actionDataImporter, ActionDataExporter actionDataExporter, FilterObjectBuilder filterObjectBuilder,
+            AssertionRecorder assertionRecorder, RunnerOptions runnerOptions) {
+        this.actionDataImporter = actionDataImporter;
+        this.actionDataExporter = actionDataExporter;
+        this.filterObjectBuilder = filterObjectBuilder;
+        this.assertionRecorder = assertionRecorder;
+        this.runnerOptions = runnerOptions == null ? RunnerOptions.DEFAULT : runnerOptions;
+        this.deferredValidator = this.runnerOptions.isDeferredValidation() ? createDeferredValidator() : null;
+    }
+
+    /**
+     * Get an ActionRunner which shares the dependencies of this ActionRunner but executes Actions according to the provided options.
+     *
+     * @param runnerOptions the options to execute Actions with
+     * @return a new ActionRunner
+     */
+    public ActionRunner withOptions(RunnerOptions runnerOptions) {
+        ActionRunner actionRunner = new ActionRunner(actionDataImporter, actionDataExporter, filterObjectBuilder, assertionRecorder, runnerOptions);
+        actionRunner.listeners = listeners;
+
+        return actionRunner;
+    }
+
+    /**
+     * Register a listener which is notified as every stage of every action starts, finishes or fails. Listeners are called on the thread which
+     * executes the stage and must not throw.
+     *
+     * @param listener the listener to register
+     */
+    public synchronized void addListener(ActionRunListener listener) {
+        ActionRunListener[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+        newListeners[listeners.length] = listener;
+        listeners = newListeners;
+    }
+
+    /**
+     * @param listener the listener to unregister
+     */
+    public synchronized void removeListener(ActionRunListener listener) {
+        List<ActionRunListener> newListeners = Lists.newArrayList(listeners);
+
+        if (newListeners.remove(listener)) {
+            listeners = newListeners.toArray(NO_LISTENERS);
+        }
+    }
+
+    /**
+     * @return the options this ActionRunner executes Actions with
+     */
+    public RunnerOptions getRunnerOptions() {
+        return runnerOptions;
+    }
+
+    /**
+     * Wait until every deferred validation has finished and record the failed validations through the AssertionRecorder. Does nothing unless
+     * deferred validation is enabled.
+     *
+     * @return the number of validations which failed since the last call
+     */
+    public int awaitValidations() {
+        return deferredValidator == null ? 0 : deferredValidator.awaitValidations();
+    }
+
+    /**
+     * @see #awaitValidations()
+     */
+    @Override
+    public void close() {
+        awaitValidations();
+    }
+
+    private DeferredValidator createDeferredValidator() {
+        Executor validationExecutor = runnerOptions.getValidationExecutor();
+
+        if (validationExecutor == null) {
+            validationExecutor = ScenarioThreads.threadPerTaskExecutor();
+        }
+
+        return new DeferredValidator(this, assertionRecorder, validationExecutor, runnerOptions.getMaxPendingValidations());
+    }
+
+    /**
+     * @param httpRequestMethod true, if the action is an HttpRequestMethod
+     * @see #validateResult(ActionStagePlan, Action, Object, Object)
+     */
+    private static <ResultType, ExpectedResultType, StateType> void validateResult(Validatable<ResultType, ExpectedResultType, StateType> action,
+            ResultType result, ExpectedResultType expectedResult, boolean httpRequestMethod) {
+        boolean successfulRequest = false;
+
+        if (httpRequestMethod) {
+            validateHttpRequest(action, result);
+        }
+
+        action.validateResult(result, expectedResult);
+    }
+
+    private static <ResultType> Consumer<Result<ResultType>> ignoreResult() {
+        return result -> {
+        };
+    }
+
+    /**
+     * Tells an HttpRequest action to validate its HttpRequest specific elements.
+     *
+     * @param action       the HttpRequest Action
+     * @param result       the result of the Action
+     * @param <ResultType> the Result Type of the Action
+     * @param <StateType>  the State Type that corresponds to the Action
+     */
+    private static <ResultType, ExpectedResultType, StateType> void validateHttpRequest(Validatable<ResultType, ExpectedResultType, StateType>
+            action, ResultType result) {
+        HttpRequestMethod httpRequest = (HttpRequestMethod) action;
+        Response response = (Response) result;
+        String requestMethod = httpRequest.getRequestMethod();
+
+        List<String> supportedRequestMethods = httpRequest.getSupportedRequestMethods();
+
+        if (!httpRequest.isRecognizedRequestMethod(requestMethod)) {
+            httpRequest.validateUnrecognizedRequestMethod(response);
+        } else if (!httpRequest.isSupportedRequestMethod(requestMethod)) {
+            httpRequest.validateUnsupportedRequestMethod(response, supportedRequestMethods);
+        } else if (isOptionsRequestMethod(requestMethod)) {
+            httpRequest.validateOptionsRequestMethod(response);
+        }
+    }
+
+    /**
+     * Check if the requestMethod is OPTIONS.
+     *
+     * @param requestMethod the name of the request method to check
+     * @return true, if the request method equals OPTIONS. false, if the request method does not equal OPTIONS
+     */
+    private static boolean isOptionsRequestMethod(String requestMethod) {
+        return RequestMethod.OPTIONS.name().equals(requestMethod);
+    }
+
+    /**
+     * Runs immediately following execution of the doAction stage. This is a good place to a prepare data for export (if necessary) due to the fact
+     * that exceptions thrown here will not stop the doAction stage from returning a result.
+     *
+     * @param plan         the stage plan of the action's class
+     * @param action       the action under execution
+     * @param result       the result of the action execution
+     * @param <ResultType> the Result Type of the action
+     */
+    private <ResultType, StateType> void afterAction(ActionStagePlan plan, Action action, ResultType result) {
+        if (plan.isAfterAction()) {
+            long startTime = stageStarted(action, ActionStage.AFTER_ACTION);
+
+            try {
+                //noinspection unchecked
+                ((AfterAction) action).afterAction(result);
+                stageFinished(action, ActionStage.AFTER_ACTION, startTime);
+            } catch (Exception e) {
+                stageFailed(action, ActionStage.AFTER_ACTION, startTime, e);
+            }
+        }
+    }
+
+    /**
+     * Runs immediately following execution of the getFinalState stage. This is a good place to a prepare data for export (if necessary) due to the
+     * fact that exceptions thrown here will not stop the doAction stage from returning a result.
+     *
+     * @param plan         the stage plan of the action's class
+     * @param action       the action under execution
+     * @param result       the result of the action execution
+     * @param <ResultType> the Result Type of the action
+     */
+    private <ResultType, StateType> void afterState(ActionStagePlan plan, Action action, ResultType result) {
+        if (plan.isAfterState()) {
+            long startTime = stageStarted(action, ActionStage.AFTER_STATE);
+
+            try {
+                //noinspection unchecked
+                ((AfterState) action).afterState(result);
+                stageFinished(action, ActionStage.AFTER_STATE, startTime);
+            } catch (Exception e) {
+                stageFailed(action, ActionStage.AFTER_STATE, startTime, e);
+            }
+        }
+    }
+
+    /**
+     * Runs immediately prior to the execution of the describeAction stage. This is a good place to manipulate data before execution (such as
+     * injecting imported values into HTTP request body).
+     *
+     * @param plan         the stage plan of the action's class
+     * @param action       the action under execution
+     * @param <ResultType> the Result Type of the action
+     */
+    private <ResultType> void beforeAction(ActionStagePlan plan, Action action) {
+        if (plan.isBeforeAction()) {
+            long startTime = stageStarted(action, ActionStage.BEFORE_ACTION);
+
+            try {
+                //noinspection unchecked
+                ((BeforeAction) action).beforeAction();
+                stageFinished(action, ActionStage.BEFORE_ACTION, startTime);
+            } catch (Exception e) {
+                stageFailed(action, ActionStage.BEFORE_ACTION, startTime, e);
+            }
+        }
+    }
+
+    /**
+     * Runs immediately prior to the execution of the getBaselineState stage. This is a good place to manipulate data before execution (such as
+     * injecting imported values into HTTP request body).
+     *
+     * @param plan         the stage plan of the action's class
+     * @param action       the action under execution
+     * @param <ResultType> the Result Type of the action
+     */
+    private <ResultType> void beforeState(ActionStagePlan plan, Action action) {
+        if (plan.isBeforeState()) {
+            long startTime = stageStarted(action, ActionStage.BEFORE_STATE);
+
+            try {
+                //noinspection unchecked
+                ((BeforeState) action).beforeState();
+                stageFinished(action, ActionStage.BEFORE_STATE, startTime);
+            } catch (Exception e) {
+                stageFailed(action, ActionStage.BEFORE_STATE, startTime, e);
+            }
+        }
+    }
+
+    /**
+     * Log the description of the action. The action is only asked to describe itself if info logging is enabled.
+     *
+     * @param plan   the stage plan of the action's class
+     * @param action the action which to describe
+     */
+    private void describeAction(ActionStagePlan plan, Action action) {
+        if (plan.isSelfDescribing() && log.isInfoEnabled()) {
+            long startTime = stageStarted(action, ActionStage.DESCRIBE_ACTION);
+
+            try {
+                log.info("***** {}", ((SelfDescribing) action).describeAction());
+                stageFinished(action, ActionStage.DESCRIBE_ACTION, startTime);
+            } catch (Exception e) {
+                stageFailed(action, ActionStage.DESCRIBE_ACTION, startTime, e);
+            }
+        }
+    }
+
+    /**
+     * Execute the action. Behavior depends on the implementation of the action and its interfaces.
+     *
+     * @param action       the action to execute
+     * @param <ResultType> the Result Type of the action
+     * @return a List of results returned by the actions provided
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public <ResultType> ResultType doAction(Action action) {
+        return (ResultType) doActions(action).get(0);
+    }
+
+    /**
+     * @see #doAction(Action)
+     */
+    public <ResultType> ResultType doAction(Result<ResultType> executionDetails, Action action) {
+        List<ResultType> results = doActions(executionDetails, action);
+
+        return (ResultType) results.get(results.size() - 1);
+    }
+
+    /**
+     * @param dataToImport the source Result object to use for importing data between Actions
+     * @see #doAction(Action)
+     */
+    <ResultType> Result<ResultType> doAction(Action action, Result<ResultType> dataToImport) {
+        ExecutedAction<ResultType> executedAction = executeAction(action, dataToImport);
+
+        if (deferredValidator != null) {
+            deferredValidator.submit(executedAction);
+
+            return executedAction.getResult();
+        }
+
+        return validateAction(executedAction);
+    }
+
+    /**
+     * Run every stage of the action up to and including the export stage. If validation is deferred, an Action instance whose earlier execution is
+     * still being validated is only executed once that validation has finished.
+     *
+     * @param action       the action to execute
+     * @param dataToImport the source Result object to use for importing data between Actions
+     * @param <ResultType> the Result Type of the action
+     * @return the executed action, ready to be validated
+     */
+    <ResultType, StateType> ExecutedAction<ResultType> executeAction(Action action, Result<ResultType> dataToImport) {
+        ActionStagePlan plan = ActionStagePlan.of(action.getClass());
+        ResultType result = null;
+        StateType baselineState;
+        StateType finalState;
+        ExportData exportData = new ExportData();
+        boolean validated = isSampled(plan, action);
+
+        if (deferredValidator != null) {
+            deferredValidator.awaitValidation(action);
+        }
+
+        long startTime = stageStarted(action, ActionStage.IMPORT_DATA);
+
+        try {
+            actionDataImporter.importData(dataToImport, action);
+            stageFinished(action, ActionStage.IMPORT_DATA, startTime);
+        } catch (Exception e) {
+            stageFailed(action, ActionStage.IMPORT_DATA, startTime, e);
+        }
+
+        beforeState(plan, action);
+        //noinspection ConstantConditions
+        baselineState = validated ? getBaselineState(plan, action, result) : null;
+        beforeAction(plan, action);
+        describeAction(plan, action);
+        result = execute(plan, action);
+        afterAction(plan, action, result);
+        finalState = validated ? getFinalState(plan, action, result) : null;
+        afterState(plan, action, result);
+
+        startTime = stageStarted(action, ActionStage.EXPORT_DATA);
+
+        try {
+            exportData = actionDataExporter.exportData(action);
+            stageFinished(action, ActionStage.EXPORT_DATA, startTime);
+        } catch (Exception e) {
+            stageFailed(action, ActionStage.EXPORT_DATA, startTime, e);
+        }
+
+        return new ExecutedAction<>(action, result, baselineState, finalState, validated, new Result<>(action, result, exportData, validated));
+    }
+
+    /**
+     * @return true, if the stages which capture state and validate the action should be executed
+     */
+    private boolean isSampled(ActionStagePlan plan, Action action) {
+        ValidationSampler validationSampler = runnerOptions.getValidationSampler();
+
+        if (validationSampler == null || !(plan.isChangesState() || plan.isValidatable())) {
+            return true;
+        }
+
+        return validationSampler.sample(action.getClass());
+    }
+
+    /**
+     * Run the expectation and validation stages of an executed action. Failed validations are recorded through the AssertionRecorder on the
+     * current thread, unless deferred validation is enabled.
+     *
+     * @param executedAction the action to validate
+     * @param <ResultType>   the Result Type of the action
+     * @return the Result of the action
+     */
+    <ResultType> Result<ResultType> validateAction(ExecutedAction<ResultType> executedAction) {
+        // deferred failures are recorded by awaitValidations(), on the thread which waits for them
+        if (deferredValidator != null) {
+            return validateAction(executedAction, validationResult -> {
+            });
+        }
+
+        return validateAction(executedAction, validationResult -> assertionRecorder.recordValidations(validationResult));
+    }
+
+    /**
+     * @param validationFailures receives the failed validations which should be recorded through the AssertionRecorder
+     * @see #validateAction(ExecutedAction)
+     */
+    <ResultType, StateType, ExpectedResultType> Result<ResultType> validateAction(ExecutedAction<ResultType> executedAction,
+            Consumer<ValidationResult> validationFailures) {
+        Action action = executedAction.getAction();
+        ActionStagePlan plan = ActionStagePlan.of(action.getClass());
+        ResultType result = executedAction.getActionResult();
+        //noinspection unchecked
+        StateType baselineState = (StateType) executedAction.getBaselineState();
+        //noinspection unchecked
+        StateType finalState = (StateType) executedAction.getFinalState();
+        StateType expectedState;
+        ExpectedResultType expectedResult;
+
+        if (!executedAction.isValidated()) {
+            return executedAction.getResult();
+        }
+
+        expectedState = getExpectedState(plan, action, result, baselineState, finalState);
+        expectedResult = getExpectedResult(plan, action, result, baselineState, finalState, expectedState);
+        validateState(plan, action, finalState, expectedState);
+        validateResult(plan, action, result, expectedResult, validationFailures);
+
+        return executedAction.getResult();
+    }
+
+    /**
+     * Convenience method to execute the action and directly return the result. Useful if you only need the result of the action and you don't need
+     * any of the metadata associated with the result.
+     *
+     * @param action       the action to execute
+     * @param <ResultType> the Result type of theaction
+     * @return The direct result of executing the doAction stage of the Action.
+     * @deprecated Use doAction or doActions. It now returns result objects directly. For result details, use doActionsWithDetails()
+     */
+    @Deprecated
+    public <ResultType> ResultType doActionAndReturnResult(Action action) {
+        return doAction(action);
+    }
+
+    /**
+     * Execute the action. Behavior depends on the implementation of the action and its interfaces.
+     *
+     * @param action       the action to execute
+     * @param <ResultType> the Result Type of the action
+     * @return a Result object containing information about the execution of all Actions
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public <ResultType> Result<ResultType> doActionWithDetails(Action action) {
+        return doActionsWithDetails(action);
+    }
+
+    /**
+     * @see #doActionWithDetails(Action)
+     */
+    public <ResultType> Result<ResultType> doActionWithDetails(Result<ResultType> executionDetails, Action action) {
+        return doActionsWithDetails(executionDetails, action);
+    }
+
+    /**
+     * @see #doAction(Action)
+     */
+    public <ResultType> List<ResultType> doActions(Result<ResultType> executionDetails, Action... actions) {
+        Result<ResultType> actionDetails = doActionsWithDetails(executionDetails, actions);
+
+        return filterResults(actionDetails);
+    }
+
+    /**
+     * @see #doAction(Action)
+     */
+    public <ResultType> List<ResultType> doActions(Action... actions) {
+        return doActions(null, actions);
+    }
+
+    /**
+     * @see #doActionWithDetails(Action)
+     */
+    public <ResultType> Result<ResultType> doActionsWithDetails(Action... actions) {
+        return doActionsWithDetails(null, actions);
+    }
+
+    /**
+     * If the RunnerOptions enable parallel execution, Actions which do not depend on each other through Import/Export annotations will be executed
+     * concurrently. See ParallelActionScheduler for details. The scenario is executed on the calling thread.
+     *
+     * @see #doActionWithDetails(Action) (Action)
+     */
+    public <ResultType> Result<ResultType> doActionsWithDetails(Result<ResultType> executionDetails, Action... actions) {
+        return runScenario(executionDetails, NOT_CANCELLED, ignoreResult(), actions);
+    }
+
+    /**
+     * Execute the actions asynchronously on the async executor of the RunnerOptions. If no async executor is configured, every scenario is executed
+     * on its own thread (a virtual thread, if the JVM supports them).
+     * <p>
+     * Cancelling the returned future stops the scenario before the next action starts importing data. The action which is executing when the future
+     * is cancelled will run to completion.
+     *
+     * @param executionDetails the Result object to import from and to add the execution details to. May be null
+     * @param actions          the actions to execute
+     * @param <ResultType>     the Result Type of the actions
+     * @return a future which completes with the execution details, or exceptionally with the exception which stopped the scenario
+     * @see #doActionsWithDetails(Result, Action...)
+     */
+    public <ResultType> CompletableFuture<Result<ResultType>> doActionsWithDetailsAsync(Result<ResultType> executionDetails, Action... actions) {
+        return runScenarioAsync(executionDetails, NOT_CANCELLED, ignoreResult(), actions);
+    }
+
+    /**
+     * @see #doActionsWithDetailsAsync(Result, Action...)
+     */
+    public <ResultType> CompletableFuture<Result<ResultType>> doActionsWithDetailsAsync(Action... actions) {
+        return doActionsWithDetailsAsync(null, actions);
+    }
+
+    /**
+     * @see #doActionsWithDetailsAsync(Result, Action...)
+     */
+    public <ResultType> CompletableFuture<Result<ResultType>> doActionsAsync(Action... actions) {
+        return doActionsWithDetailsAsync(null, actions);
+    }
+
+    /**
+     * Execute the actions asynchronously and publish the details of every action, in scenario order, once they have been requested. The scenario
+     * starts when a subscriber subscribes. When details are published, and how far the scenario may run ahead of a slow subscriber, depends on the
+     * RunnerOptions; see ActionDetailsPublisher. Cancelling the subscription stops the scenario before the next action starts importing data.
+     *
+     * @param executionDetails the Result object to import from and to add the execution details to. May be null
+     * @param actions          the actions to execute
+     * @param <ResultType>     the Result Type of the actions
+     * @return a publisher which accepts a single subscriber
+     * @see #doActionsWithDetailsAsync(Result, Action...)
+     */
+    public <ResultType> ActionDetailsPublisher<ResultType> publishActionsWithDetails(Result<ResultType> executionDetails, Action... actions) {
+        return new ActionDetailsPublisher<>(this, executionDetails, actions);
+    }
+
+    /**
+     * @see #publishActionsWithDetails(Result, Action...)
+     */
+    public <ResultType> ActionDetailsPublisher<ResultType> publishActionsWithDetails(Action... actions) {
+        return publishActionsWithDetails(null, actions);
+    }
+
+    /**
+     * Execute the scenario on the async executor of the RunnerOptions.
+     *
+     * @param cancelled       checked before every action, in addition to the returned future
+     * @param actionCompleted called with the Result of every action as soon as it has been executed
+     * @see #doActionsWithDetailsAsync(Result, Action...)
+     */
+    <ResultType> CompletableFuture<Result<ResultType>> runScenarioAsync(Result<ResultType> executionDetails, BooleanSupplier cancelled,
+            Consumer<Result<ResultType>> actionCompleted, Action... actions) {
+        CompletableFuture<Result<ResultType>> future = new CompletableFuture<>();
+        BooleanSupplier stopped = () -> future.isDone() || cancelled.getAsBoolean();
+        Executor executor = runnerOptions.getAsyncExecutor();
+
+        if (executor == null) {
+            executor = ScenarioThreads.threadPerTaskExecutor();
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(runScenario(executionDetails, stopped, actionCompleted, actions));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    /**
+     * Execute the scenario on the current thread.
+     *
+     * @param cancelled       checked before every action. Once it returns true, the scenario is stopped with a CancellationException
+     * @param actionCompleted called with the Result of every action as soon as it has been executed
+     *
+     * @see #doActionsWithDetails(Result, Action...)
+     */
+    private <ResultType> Result<ResultType> runScenario(Result<ResultType> executionDetails, BooleanSupplier cancelled,
+            Consumer<Result<ResultType>> actionCompleted, Action... actions) {
+        Result<ResultType> completeResults = executionDetails;
+
+        if (completeResults == null) {
+            RetentionPolicy retentionPolicy = runnerOptions.getRetentionPolicy();
+            completeResults = retentionPolicy == null ? filterObjectBuilder.getResult() : filterObjectBuilder.getResult(retentionPolicy);
+        }
+
+        FilterSet filters = filterObjectBuilder.getFilterSet();
+
+        if (runnerOptions.isParallel()) {
+            new ParallelActionScheduler(this, runnerOptions).execute(completeResults, filters, cancelled, actionCompleted, actions);
+
+            return completeResults;
+        }
+
+        if (runnerOptions.isPipelinedValidation() && deferredValidator == null) {
+            return runPipelinedScenario(completeResults, filters, cancelled, actionCompleted, actions);
+        }
+
+        AppliedFilters<ResultType> appliedFilters = new AppliedFilters<>(completeResults);
+
+        for (Action action : actions) {
+            if (filters.process(action)) {
+                continue;
+            }
+
+            if (cancelled.getAsBoolean()) {
+                throw new CancellationException(CANCELLED_MESSAGE);
+            }
+
+            Result<ResultType> filteredResults = appliedFilters.apply(filters.consumeRunTokens());
+            Result<ResultType> result = doAction(action, filteredResults);
+            completeResults.add(result);
+            actionCompleted.accept(result);
+        }
+
+        return completeResults;
+    }
+
+    /**
+     * Execute the scenario on the current thread while the expectation and validation stages of each action run on the validation executor. The
+     * details of an action are added to the Result as soon as its data has been exported, so the next action can import from it straight away.
+     *
+     * @see #runScenario(Result, BooleanSupplier, Consumer, Action...)
+     */
+    private <ResultType> Result<ResultType> runPipelinedScenario(Result<ResultType> completeResults, FilterSet filters, BooleanSupplier cancelled,
+            Consumer<Result<ResultType>> actionCompleted, Action... actions) {
+        Executor validationExecutor = runnerOptions.getValidationExecutor();
+
+        if (validationExecutor == null) {
+            validationExecutor = ScenarioThreads.threadPerTaskExecutor();
+        }
+
+        PipelinedValidator<ResultType> validator = new PipelinedValidator<>(this, assertionRecorder, validationExecutor, runnerOptions.isFailFast(),
+                actionCompleted, runnerOptions.getMaxPendingValidations());
+        AppliedFilters<ResultType> appliedFilters = new AppliedFilters<>(completeResults);
+
+        try {
+            for (Action action : actions) {
+                if (filters.process(action)) {
+                    continue;
+                }
+
+                if (cancelled.getAsBoolean()) {
+                    throw new CancellationException(CANCELLED_MESSAGE);
+                }
+
+                validator.checkFailFast();
+                validator.awaitValidation(action);
+
+                Result<ResultType> filteredResults = appliedFilters.apply(filters.consumeRunTokens());
+                ExecutedAction<ResultType> executedAction = executeAction(action, filteredResults);
+                completeResults.add(executedAction.getResult());
+                validator.submit(executedAction);
+            }
+        } catch (RuntimeException | Error e) {
+            validator.finish();
+            throw e;
+        }
+
+        validator.finish();
+
+        return completeResults;
+    }
+
+    /**
+     * Execute the action.
+     *
+     * @param plan         the stage plan of the action's class
+     * @param action       the action to execute
+     * @param <ResultType> the result type of the action
+     * @return the result of the action
+     */
+    private <ResultType> ResultType execute(ActionStagePlan plan, Action action) {
+        ResultType result = null;
+
+        if (plan.isActionable()) {
+            long startTime = stageStarted(action, ActionStage.DO_ACTION);
+
+            try {
+                //noinspection unchecked
+                result = ((Actionable<ResultType>) action).doAction();
+                stageFinished(action, ActionStage.DO_ACTION, startTime);
+            } catch (Exception e) {
+                stageFailed(action, ActionStage.DO_ACTION, startTime, e);
+                throw e;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Filter out the extraneous execution details and get the results of the action execution(s).
+     *
+     * @param actionDetails the execution details.
+     * @param <ResultType>  the Result Type of the action
+     * @return a list containing the results returned by the actions.
+     */
+    public <ResultType> List<ResultType> filterResults(Result<ResultType> actionDetails) {
+        List<ResultType> results = Lists.newArrayList();
+
+        for (ActionDetails<ResultType> actionDetail : actionDetails.getActionDetails()) {
+            results.add(actionDetail.getResult());
+        }
+
+        return results;
+    }
+
+    /**
+     * Get the baseline State as reported by the Action.
+     *
+     * @param plan         the stage plan of the action's class
+     * @param action       the action from which to retrieve state
+     * @param result       the result of the action
+     * @param <ResultType> the Result Type of the action
+     * @param <StateType>  the State Type that corresponds to the Action
+     * @return the state reported by the action
+     */
+    private <ResultType, StateType> StateType getBaselineState(ActionStagePlan plan, Action action, ResultType result) {
+        StateType baselineState = null;
+
+        if (plan.isChangesState()) {
+            long startTime = stageStarted(action, ActionStage.GET_BASELINE);
+
+            try {
+                //noinspection unchecked
+                baselineState = ((ChangesState<ResultType, StateType>) action).getCurrentState(result);
+                stageFinished(action, ActionStage.GET_BASELINE, startTime);
+            } catch (Exception e) {
+                stageFailed(action, ActionStage.GET_BASELINE, startTime, e);
+            }
+        }
+
+        return baselineState;
+    }
+
+    /**
+     * Get the expected result of the action. This is more specifica to actions which do not affect state.
+     *
+     * @param plan                 the stage plan of the action's class
+     * @param action               the action for which to calculate the expected result
+     * @param baselineState        the initial state prior to action execution
+     * @param finalState           the final state after action execution
+     * @param expectedState        the state expected after action execution
+     * @param <ResultType>         the Result Type of the action
+     * @param <ExpectedResultType> the expected result type
+     * @param <StateType>          the State Type that corresponds to the Action
+     * @return a state object which represents the result of the action execution
+     */
+    private <ResultType, ExpectedResultType, StateType> ExpectedResultType getExpectedResult(ActionStagePlan plan, Action action, ResultType result, StateType
+            baselineState, StateType finalState, StateType expectedState) {
+        ExpectedResultType expectedResult = null;
+
+        if (plan.isValidatable()) {
+            long startTime = stageStarted(action, ActionStage.GET_EXPECTED_RESULT);
+
+            try {
+                //noinspection unchecked
+                expectedResult = ((Validatable<ResultType, ExpectedResultType, StateType>) action).getExpectedResult(result, baselineState,
+                        finalState, expectedState);
+                stageFinished(action, ActionStage.GET_EXPECTED_RESULT, startTime);
+            } catch (Exception e) {
+                stageFailed(action, ActionStage.GET_EXPECTED_RESULT, startTime, e);
+                throw e;
+            }
+        }
+
+        return expectedResult;
+    }
+
+    /**
+     * Get the expected State as reported by the Action.
+     *
+     * @param <ResultType>  the Result Type of the action
+     * @param <StateType>   the State Type that corresponds to the Action
+     * @param plan          the stage plan of the action's class
+     * @param action        the action from which to retrieve state
+     * @param result        the result of the action
+     * @param baselineState the baseline State to compare against
+     * @param finalState
+     * @return the state reported by the action
+     */
+    private <ResultType, StateType> StateType getExpectedState(ActionStagePlan plan, Action action, ResultType result, StateType baselineState, StateType finalState) {
+        StateType expectedState = null;
+
+        if (plan.isChangesState()) {
+            long startTime = stageStarted(action, ActionStage.EXPECTED);
+
+            try {
+                //noinspection unchecked
+                expectedState = ((ChangesState<ResultType, StateType>) action).getExpectedState(result, baselineState, finalState);
+                stageFinished(action, ActionStage.EXPECTED, startTime);
+            } catch (Exception e) {
+                stageFailed(action, ActionStage.EXPECTED, startTime, e);
+                throw e;
+            }
+        }
+
+        return expectedState;
+    }
+
+    /**
+     * Get the final State as reported by the Action.
+     *
+     * @param plan         the stage plan of the action's class
+     * @param action       the action from which to retrieve state
+     * @param result       the result of the action
+     * @param <ResultType> the Result Type of the action
+     * @param <StateType>  the State Type that corresponds to the Action
+     * @return the state reported by the action
+     */
+    private <ResultType, StateType> StateType getFinalState(ActionStagePlan plan, Action action, ResultType result) {
+        StateType finalState = null;
+
+        if (plan.isChangesState()) {
+            long startTime = stageStarted(action, ActionStage.GET_FINAL_STATE);
+
+            try {
+                //noinspection unchecked
+                finalState = ((ChangesState<ResultType, StateType>) action).getCurrentState(result);
+                stageFinished(action, ActionStage.GET_FINAL_STATE, startTime);
+            } catch (Exception e) {
+                stageFailed(action, ActionStage.GET_FINAL_STATE, startTime, e);
+            }
+        }
+
+        return finalState;
+    }
+
+    /**
+     * Notify the listeners that a stage is about to start.
+     *
+     * @param action the action which executes the stage
+     * @param stage  the stage
+     * @return the start time of the stage, or NOT_TIMED if neither listeners nor RunnerMetrics are registered
+     */
+    private long stageStarted(Action action, ActionStage stage) {
+        ActionRunListener[] currentListeners = listeners;
+
+        if (currentListeners.length == 0 && runnerOptions.getMetrics() == null) {
+            return NOT_TIMED;
+        }
+
+        for (ActionRunListener listener : currentListeners) {
+            listener.stageStarted(action, stage);
+        }
+
+        return System.nanoTime();
+    }
+
+    /**
+     * Notify the listeners and record the latency of a stage which completed successfully.
+     *
+     * @param action    the action which executed the stage
+     * @param stage     the stage
+     * @param startTime the value returned by stageStarted() when the stage started
+     */
+    private void stageFinished(Action action, ActionStage stage, long startTime) {
+        if (startTime == NOT_TIMED) {
+            return;
+        }
+
+        long nanos = System.nanoTime() - startTime;
+        RunnerMetrics metrics = runnerOptions.getMetrics();
+
+        if (metrics != null) {
+            metrics.record(action.getClass(), stage, nanos);
+        }
+
+        for (ActionRunListener listener : listeners) {
+            listener.stageFinished(action, stage, nanos);
+        }
+    }
+
+    /**
+     * Log the exception, then notify the listeners and record the latency of a stage which failed.
+     *
+     * @param action    the action which executed the stage
+     * @param stage     the stage
+     * @param startTime the value returned by stageStarted() when the stage started
+     * @param e         the exception thrown by the stage
+     */
+    private void stageFailed(Action action, ActionStage stage, long startTime, Exception e) {
+        logException(e, stage);
+
+        if (startTime == NOT_TIMED) {
+            return;
+        }
+
+        long nanos = System.nanoTime() - startTime;
+        RunnerMetrics metrics = runnerOptions.getMetrics();
+
+        if (metrics != null) {
+            metrics.record(action.getClass(), stage, nanos);
+        }
+
+        for (ActionRunListener listener : listeners) {
+            listener.stageFailed(action, stage, nanos, e);
+        }
+    }
+
+    /**
+     * Log the exception. If debug or trace are enabled, the stack track will be logged. Otherwise, only the exception message will be logged.
+     *
+     * @param e     the exception to log
+     * @param stage the stage of the action execution during which the exception occurred
+     */
+    private void logException(Exception e, ActionStage stage) {
+        if (log.isDebugEnabled()) {
+            log.warn(String.format(ERROR_MESSAGE, stage.getStage()), e);
+        } else {
+            log.warn(String.format(ERROR_MESSAGE + ": %s", stage.getStage(), e));
+        }
+    }
+
+    /**
+     * Tells the Action to validate itself. Some additional validations will be executed if the Action is an HttpRequest. Specifically, the following
+     * Action methods <i>may</i> be called: validateUnrecognizedRequestMethod(), validateUnsupportedRequestMethod, validateOptionsRequestMethod().
+     *
+     * @param plan                 the stage plan of the action's class
+     * @param action               the action to validate
+     * @param result               the result of the Action
+     * @param expectedResult       the object which represents the expected result of the action
+     * @param validationFailures   receives the failed validation, if validation fails
+     * @param <ResultType>         the result type of the action * @param
+     * @param <ExpectedResultType> the expected result type
+     * @param <StateType>          the State Type that corresponds to the Action
+     */
+    private <ResultType, ExpectedResultType, StateType> void validateResult(ActionStagePlan plan, Action action, ResultType result, ExpectedResultType expectedResult,
+            Consumer<ValidationResult> validationFailures) {
+
+        if (plan.isValidatable()) {
+            long startTime = stageStarted(action, ActionStage.VALIDATE);
+
+            try {
+                //noinspection unchecked
+                validateResult(((Validatable<ResultType, ExpectedResultType, StateType>) action), result, expectedResult, plan.isHttpRequestMethod());
+                stageFinished(action, ActionStage.VALIDATE, startTime);
+            } catch (Exception e) {
+                ValidationResult.ValidationResultBuilder validationResultBuilder = ValidationResult.builder();
+                validationResultBuilder.
+                        success(false).
+                        message(String.format(ERROR_MESSAGE, ActionStage.VALIDATE.getStage())).
+                        stackTrace(e.getStackTrace()).
+                        type(ValidationType.EXPECTATION);
+
+                validationFailures.accept(validationResultBuilder.build());
+
+                stageFailed(action, ActionStage.VALIDATE, startTime, e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Validate that the state after action execution matches the expected state.
+     *
+     * @param plan          the stage plan of the action's class
+     * @param action        the action to validate
+     * @param expectedState the object which represents the expected result of the action
+     * @param finalState    the object which represents the final state after action execution
+     * @param <StateType>   the State Type that corresponds to the Action
+     */
+    private <ResultType, StateType> void validateState(ActionStagePlan plan, Action action, StateType finalState, StateType expectedState) {
+        if (plan.isChangesState()) {
+            long startTime = stageStarted(action, ActionStage.VALIDATE_STATE);
+
+            try {
+                //noinspection unchecked
+                ((ChangesState<ResultType, StateType>) action).validateState(finalState, expectedState);
+                stageFinished(action, ActionStage.VALIDATE_STATE, startTime);
+            } catch (Exception e) {
+                stageFailed(action, ActionStage.VALIDATE_STATE, startTime, e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Stages of an action.
+     */
+    public enum ActionStage {
+        IMPORT_DATA("importData"),
+        DESCRIBE_ACTION("(describeAction"),
+        GET_BASELINE("getBaselineState"),
+        BEFORE_ACTION("beforeAction"),
+        DO_ACTION("doAction"),
+        AFTER_ACTION("afterAction"),
+        EXPORT_DATA("exportData"),
+        EXPECTED("getExpectedState"),
+        GET_FINAL_STATE("getFinalState"),
+        VALIDATE("validateResult"),
+        GET_EXPECTED_RESULT("getExpectedResult"),
+        VALIDATE_STATE("validateState"),
+        BEFORE_STATE("beforeState"),
+        AFTER_STATE("afterState");
+
+        private final String stage;
+
+        ActionStage(String stage) {
+            this.stage = stage;
+        }
+
+        @Override
+        public String toString() {
+            return "ActionStage{" + "stage='" + stage + '\'' + '}';
+        }
+
+        public String getStage() {
+            return stage;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.keithwoelke.actions.core;
+
+import com.github.keithwoelke.actions.core.http.HttpRequestMethod;
+import lombok.Value;
+
+/**
+ * A per-class cache of the stage interfaces an Action class implements, held in a ClassValue and computed once per class. The ActionRunner looks
+ * up the plan once per Action and reads its flags, instead of repeating a chain of up to nine interface instanceof checks for every Action it
+ * executes. An interface check which fails, the common case for optional stages, has to scan every supertype of the class. StageDispatchBenchmark
+ * compares both approaches.
+ *
+ * @author wkwoelke
+ */
+@SuppressWarnings("WeakerAccess")
+@Value
+public class ActionStagePlan {
+
+    private static final ClassValue<ActionStagePlan> PLANS = new ClassValue<ActionStagePlan>() {
+        @Override
+        protected ActionStagePlan computeValue(Class<?> actionClass) {
+            return new ActionStagePlan(actionClass);
+        }
+    };
+
+    private final Class<?> actionClass;
+    private final boolean beforeState;
+    private final boolean changesState;
+    private final boolean beforeAction;
+    private final boolean selfDescribing;
+    private final boolean actionable;
+    private final boolean afterAction;
+    private final boolean afterState;
+    private final boolean validatable;
+    private final boolean httpRequestMethod;
+
+    private ActionStagePlan(Class<?> actionClass) {
+        this.actionClass = actionClass;
+        this.beforeState = BeforeState.class.isAssignableFrom(actionClass);
+        this.changesState = ChangesState.class.isAssignableFrom(actionClass);
+        this.beforeAction = BeforeAction.class.isAssignableFrom(actionClass);
+        this.selfDescribing = SelfDescribing.class.isAssignableFrom(actionClass);
+        this.actionable = Actionable.class.isAssignableFrom(actionClass);
+        this.afterAction = AfterAction.class.isAssignableFrom(actionClass);
+        this.afterState = AfterState.class.isAssignableFrom(actionClass);
+        this.validatable = Validatable.class.isAssignableFrom(actionClass);
+        this.httpRequestMethod = HttpRequestMethod.class.isAssignableFrom(actionClass);
+    }
+
+    /**
+     * @param actionClass the Action class
+     * @return the cached stage plan of the class
+     */
+    public static ActionStagePlan of(Class<?> actionClass) {
+        return PLANS.get(actionClass);
+    }
+}
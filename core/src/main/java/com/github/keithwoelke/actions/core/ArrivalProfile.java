@@ -0,0 +1,132 @@
+package com.github.keithwoelke.actions.core;
+
+import com.google.common.collect.ImmutableList;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The target arrival rate of an open workload model over time. A profile is made of consecutive segments, each of which changes the rate linearly
+ * from its start rate to its end rate. Constant and ramp profiles consist of a single segment; step profiles are built by appending segments with
+ * then().
+ *
+ * @author wkwoelke
+ * @see OpenLoadModel
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class ArrivalProfile {
+
+    private final List<Segment> segments;
+    private final long durationNanos;
+
+    private ArrivalProfile(List<Segment> segments) {
+        this.segments = segments;
+        this.durationNanos = segments.stream().mapToLong(segment -> segment.durationNanos).sum();
+    }
+
+    /**
+     * @param ratePerSecond the number of scenarios to start per second
+     * @param duration      how long to keep the rate for
+     * @return a profile which starts scenarios at a constant rate
+     */
+    public static ArrivalProfile constant(double ratePerSecond, Duration duration) {
+        return ramp(ratePerSecond, ratePerSecond, duration);
+    }
+
+    /**
+     * @param startRatePerSecond the number of scenarios to start per second at the beginning of the profile
+     * @param endRatePerSecond   the number of scenarios to start per second at the end of the profile
+     * @param duration           how long the ramp takes
+     * @return a profile which changes the rate linearly over the duration
+     */
+    public static ArrivalProfile ramp(double startRatePerSecond, double endRatePerSecond, Duration duration) {
+        if (startRatePerSecond < 0 || endRatePerSecond < 0 || duration.isNegative()) {
+            throw new IllegalArgumentException("Arrival rates and durations must not be negative");
+        }
+
+        return new ArrivalProfile(ImmutableList.of(new Segment(startRatePerSecond, endRatePerSecond, duration.toNanos())));
+    }
+
+    /**
+     * @param next the profile to follow this profile
+     * @return a profile which runs this profile and then the next profile
+     */
+    public ArrivalProfile then(ArrivalProfile next) {
+        return new ArrivalProfile(ImmutableList.<Segment>builder().
+                addAll(segments).
+                addAll(next.segments).
+                build());
+    }
+
+    /**
+     * @return the total duration of the profile in nanoseconds
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @param elapsedNanos the time since the start of the profile
+     * @return the target number of scenarios started per second at that time, or 0 once the profile has ended
+     */
+    public double getRate(long elapsedNanos) {
+        long segmentStart = 0;
+
+        for (Segment segment : segments) {
+            if (elapsedNanos < segmentStart + segment.durationNanos) {
+                double progress = (double) (elapsedNanos - segmentStart) / segment.durationNanos;
+
+                return segment.startRate + (segment.endRate - segment.startRate) * progress;
+            }
+
+            segmentStart += segment.durationNanos;
+        }
+
+        return 0;
+    }
+
+    /**
+     * Get the time at which a scenario should be started. Scenarios are started when the number of arrivals expected so far, the integral of the
+     * rate over time, reaches their number, so ramps and steps start the number of scenarios their rates add up to.
+     *
+     * @param arrival the number of the scenario, counted from 0
+     * @return the time since the start of the profile at which to start the scenario, or -1 if the profile ends before it arrives
+     */
+    public long getArrivalNanos(long arrival) {
+        long segmentStart = 0;
+        double arrivalsBefore = 0;
+
+        for (Segment segment : segments) {
+            double seconds = segment.durationNanos / (double) TimeUnit.SECONDS.toNanos(1);
+            double segmentArrivals = (segment.startRate + segment.endRate) / 2 * seconds;
+
+            if (arrivalsBefore + segmentArrivals > arrival) {
+                double remainingArrivals = Math.max(0, arrival - arrivalsBefore);
+                double acceleration = (segment.endRate - segment.startRate) / seconds;
+                double discriminant = Math.max(0, segment.startRate * segment.startRate + 2 * acceleration * remainingArrivals);
+                double offset = remainingArrivals == 0 ? 0 : 2 * remainingArrivals / (segment.startRate + Math.sqrt(discriminant));
+
+                return segmentStart + Math.min(Math.round(offset * TimeUnit.SECONDS.toNanos(1)), segment.durationNanos);
+            }
+
+            segmentStart += segment.durationNanos;
+            arrivalsBefore += segmentArrivals;
+        }
+
+        return -1;
+    }
+
+    private static class Segment {
+
+        private final double startRate;
+        private final double endRate;
+        private final long durationNanos;
+
+        private Segment(double startRate, double endRate, long durationNanos) {
+            this.startRate = startRate;
+            this.endRate = endRate;
+            this.durationNanos = durationNanos;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.keithwoelke.actions.core;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * A closed workload model: a fixed number of virtual users, each of which executes the scenario, waits for the think time and starts over until the
+ * duration has elapsed. The rate of scenarios therefore adapts to the response time of the system under test.
+ *
+ * @author wkwoelke
+ * @see LoadRunner#run(ClosedLoadModel, java.util.function.Supplier)
+ */
+@SuppressWarnings("unused")
+@Value
+@Builder
+public class ClosedLoadModel {
+
+    /**
+     * The number of virtual users executing scenarios concurrently.
+     */
+    private final int virtualUsers;
+
+    /**
+     * The pause of a virtual user between two scenarios. Defaults to no pause.
+     */
+    private final Duration thinkTime;
+
+    /**
+     * The period over which the virtual users are started, evenly spaced. Defaults to starting every virtual user immediately.
+     */
+    private final Duration rampUp;
+
+    /**
+     * How long the load is generated for, including the ramp-up. Virtual users finish the scenario they are executing when the duration elapses.
+     */
+    private final Duration duration;
+}
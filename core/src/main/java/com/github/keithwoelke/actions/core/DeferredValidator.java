@@ -0,0 +1,166 @@
+package com.github.keithwoelke.actions.core;
+
+import com.github.keithwoelke.assertion.AssertionRecorder;
+import com.github.keithwoelke.assertion.ValidationResult;
+import com.github.keithwoelke.assertion.ValidationType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs the expectation and validation stages of executed Actions in the background, independently of the scenario which executed them. Validations
+ * of different Actions may run concurrently. The number of pending validations is bounded: once the bound is reached, submit() blocks until a
+ * validation has finished, which keeps a fast scenario from queueing an unbounded number of results.
+ * <p>
+ * Validations read the fields of their Action. If the same Action instance is executed again, awaitValidation() holds the execution until the
+ * earlier validations of the instance have finished, so importing into the Action cannot change what those validations see. Pending validations are
+ * tracked by identity, like the Results do.
+ * <p>
+ * Failures are collected in the background and recorded through the AssertionRecorder on the thread which calls awaitValidations().
+ *
+ * @author wkwoelke
+ */
+@Slf4j
+class DeferredValidator {
+
+    private static final String FAILURE_MESSAGE = "Deferred validation of %s failed: %s";
+
+    private final ActionRunner actionRunner;
+    private final AssertionRecorder assertionRecorder;
+    private final Executor executor;
+    private final Semaphore capacity;
+    private final Queue<ValidationResult> failures = new ConcurrentLinkedQueue<>();
+    private final Object lock = new Object();
+    private final Map<Action, Integer> pendingValidationsByAction = new IdentityHashMap<>();
+    private int pendingValidations;
+
+    DeferredValidator(ActionRunner actionRunner, AssertionRecorder assertionRecorder, Executor executor, int maxPendingValidations) {
+        this.actionRunner = actionRunner;
+        this.assertionRecorder = assertionRecorder;
+        this.executor = executor;
+        this.capacity = new Semaphore(maxPendingValidations);
+    }
+
+    /**
+     * Queue the validation of the executed Action, waiting for capacity if the maximum number of pending validations has been reached.
+     *
+     * @param executedAction the Action to validate
+     * @param <ResultType>   the Result Type of the Action
+     */
+    <ResultType> void submit(ExecutedAction<ResultType> executedAction) {
+        capacity.acquireUninterruptibly();
+
+        synchronized (lock) {
+            pendingValidations++;
+            pendingValidationsByAction.merge(executedAction.getAction(), 1, Integer::sum);
+        }
+
+        try {
+            executor.execute(() -> validate(executedAction));
+        } catch (RejectedExecutionException e) {
+            recordFailure(executedAction, e);
+            complete(executedAction.getAction());
+        }
+    }
+
+    /**
+     * Wait until the pending validations of the Action instance, if there are any, have finished. Must be called before the Action is executed
+     * again.
+     *
+     * @param action the Action which is about to be executed
+     */
+    void awaitValidation(Action action) {
+        boolean interrupted = false;
+
+        synchronized (lock) {
+            while (pendingValidationsByAction.containsKey(action)) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Wait until every submitted validation has finished and record the failures collected since the last call through the AssertionRecorder.
+     *
+     * @return the number of failed validations
+     */
+    int awaitValidations() {
+        boolean interrupted = false;
+
+        synchronized (lock) {
+            while (pendingValidations > 0) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        int failedValidations = 0;
+        ValidationResult failure;
+
+        while ((failure = failures.poll()) != null) {
+            assertionRecorder.recordValidations(failure);
+            failedValidations++;
+        }
+
+        return failedValidations;
+    }
+
+    private <ResultType> void validate(ExecutedAction<ResultType> executedAction) {
+        try {
+            actionRunner.validateAction(executedAction);
+        } catch (Throwable e) {
+            recordFailure(executedAction, e);
+        } finally {
+            complete(executedAction.getAction());
+        }
+    }
+
+    private void recordFailure(ExecutedAction<?> executedAction, Throwable e) {
+        String message = String.format(FAILURE_MESSAGE, executedAction.getAction().getClass().getSimpleName(), e);
+        log.warn(message);
+
+        failures.add(ValidationResult.builder().
+                success(false).
+                message(message).
+                stackTrace(e.getStackTrace()).
+                type(ValidationType.EXPECTATION).
+                build());
+    }
+
+    private void complete(Action action) {
+        capacity.release();
+
+        synchronized (lock) {
+            boolean actionValidated = pendingValidationsByAction.merge(action, -1, Integer::sum) == 0;
+
+            if (actionValidated) {
+                pendingValidationsByAction.remove(action);
+            }
+
+            if (--pendingValidations == 0 || actionValidated) {
+                lock.notifyAll();
+            }
+        }
+    }
+}
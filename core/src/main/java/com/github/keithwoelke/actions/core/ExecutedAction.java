@@ -0,0 +1,27 @@
+package com.github.keithwoelke.actions.core;
+
+import com.github.keithwoelke.actions.core.result.Result;
+import lombok.Value;
+
+/**
+ * An Action which has been executed and has exported its data, but which has not been validated yet.
+ *
+ * @param <ResultType> the Result Type of the Action
+ * @author wkwoelke
+ */
+@Value
+class ExecutedAction<ResultType> {
+
+    private final Action action;
+    private final ResultType actionResult;
+    private final Object baselineState;
+    private final Object finalState;
+    /**
+     * false, if the expectation and validation stages are skipped because the execution was not sampled.
+     */
+    private final boolean validated;
+    /**
+     * The details of the execution, as they will be added to the Result of the scenario.
+     */
+    private final Result<ResultType> result;
+}
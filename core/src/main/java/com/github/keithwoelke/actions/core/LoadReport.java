@@ -0,0 +1,86 @@
+package com.github.keithwoelke.actions.core;
+
+import com.github.keithwoelke.actions.core.metrics.LatencyHistogram;
+import com.github.keithwoelke.actions.core.metrics.RunnerMetrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * The outcome of a load run. Only aggregates are kept: the latency of every stage per Action class, the latency of whole scenarios and the number
+ * of errors per Action class. The Results of the individual scenarios are discarded as soon as they complete.
+ *
+ * @author wkwoelke
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public class LoadReport {
+
+    private final RunnerMetrics stageMetrics = new RunnerMetrics();
+    private final LatencyHistogram scenarioLatency = new LatencyHistogram();
+    private final LongAdder failedScenarios = new LongAdder();
+    private final LongAdder missedStarts = new LongAdder();
+    private final ConcurrentMap<Class, LongAdder> errorsByClass = new ConcurrentHashMap<>();
+
+    /**
+     * @return the latency of every stage per Action class. The DO_ACTION stage holds the latency of the Actions themselves
+     */
+    public RunnerMetrics getStageMetrics() {
+        return stageMetrics;
+    }
+
+    /**
+     * @return the latency of whole scenarios, including failed scenarios
+     */
+    public LatencyHistogram getScenarioLatency() {
+        return scenarioLatency;
+    }
+
+    /**
+     * @return the number of scenarios which were executed
+     */
+    public long getScenarios() {
+        return scenarioLatency.getCount();
+    }
+
+    /**
+     * @return the number of scenarios which threw an exception
+     */
+    public long getFailedScenarios() {
+        return failedScenarios.sum();
+    }
+
+    /**
+     * @return the number of scenarios an open workload model did not start because the concurrency cap was reached. Always 0 for closed models
+     */
+    public long getMissedStarts() {
+        return missedStarts.sum();
+    }
+
+    /**
+     * @return the number of failed stages per Action class. This includes failures of stages which do not stop a scenario, such as importData
+     */
+    public Map<Class, Long> getErrorsByClass() {
+        return Collections.unmodifiableMap(errorsByClass.entrySet().stream().
+                collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum())));
+    }
+
+    void recordScenario(long nanos, boolean failed) {
+        scenarioLatency.record(nanos);
+
+        if (failed) {
+            failedScenarios.increment();
+        }
+    }
+
+    void recordMissedStart() {
+        missedStarts.increment();
+    }
+
+    void recordError(Class actionClass) {
+        errorsByClass.computeIfAbsent(actionClass, key -> new LongAdder()).increment();
+    }
+}
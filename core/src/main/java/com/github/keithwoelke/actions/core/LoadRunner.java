@@ -0,0 +1,199 @@
+package com.github.keithwoelke.actions.core;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.github.keithwoelke.actions.core.ActionRunner.ActionStage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Reuses ActionRunner scenarios to generate load. Every scenario is executed with ActionRunner.doActionsWithDetails() and its Result is discarded
+ * once the latencies and errors have been recorded in the LoadReport, so a load run of any length uses a constant amount of memory.
+ * <p>
+ * Two workload models are supported. A closed model keeps a fixed number of virtual users busy, while an open model starts scenarios at a target
+ * arrival rate. By default, virtual users and scenarios are executed on their own threads (virtual threads, if the JVM supports them). The scenario
+ * supplier is called once per scenario and must return new Action instances every time, since Actions hold the data imported into them.
+ *
+ * @author wkwoelke
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+@Slf4j
+public class LoadRunner {
+
+    private final ActionRunner actionRunner;
+    private final Executor executor;
+
+    public LoadRunner(ActionRunner actionRunner) {
+        this(actionRunner, ScenarioThreads.threadPerTaskExecutor());
+    }
+
+    /**
+     * @param executor the executor virtual users are executed on. It must be able to execute every virtual user concurrently
+     */
+    public LoadRunner(ActionRunner actionRunner, Executor executor) {
+        this.actionRunner = actionRunner;
+        this.executor = executor;
+    }
+
+    /**
+     * Generate load according to a closed workload model. The calling thread waits until every virtual user has finished. Virtual users which the
+     * executor rejects are logged and skipped, so the run continues with the remaining virtual users.
+     *
+     * @param model            the workload model
+     * @param scenarioSupplier supplies the Actions of each scenario
+     * @return the aggregated latencies and errors of the run
+     */
+    public LoadReport run(ClosedLoadModel model, Supplier<Action[]> scenarioSupplier) {
+        if (model.getVirtualUsers() <= 0 || model.getDuration() == null) {
+            throw new IllegalArgumentException("A closed load model requires at least one virtual user and a duration");
+        }
+
+        LoadReport report = new LoadReport();
+        ActionRunner measuredRunner = getMeasuredRunner(report);
+        long startTime = System.nanoTime();
+        long deadline = startTime + model.getDuration().toNanos();
+        long rampUpNanos = toNanos(model.getRampUp());
+        long thinkTimeNanos = toNanos(model.getThinkTime());
+        CountDownLatch virtualUsers = new CountDownLatch(model.getVirtualUsers());
+
+        for (int i = 0; i < model.getVirtualUsers(); i++) {
+            long virtualUserStartTime = startTime + rampUpNanos * i / model.getVirtualUsers();
+
+            try {
+                executor.execute(() -> {
+                    try {
+                        sleepUntil(virtualUserStartTime);
+
+                        while (System.nanoTime() < deadline) {
+                            runScenario(measuredRunner, scenarioSupplier, report, System.nanoTime());
+                            sleepUntil(Math.min(System.nanoTime() + thinkTimeNanos, deadline));
+                        }
+                    } finally {
+                        virtualUsers.countDown();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                virtualUsers.countDown();
+                log.warn("Virtual user {} of {} was rejected by the executor", i + 1, model.getVirtualUsers());
+            }
+        }
+
+        Uninterruptibles.awaitUninterruptibly(virtualUsers);
+
+        return report;
+    }
+
+    /**
+     * Generate load according to an open workload model. Scenarios are started from the calling thread at their intended start times and executed on
+     * the executor. The latency of each scenario is measured from its intended start time. The calling thread waits until every started scenario has
+     * finished.
+     *
+     * @param model            the workload model
+     * @param scenarioSupplier supplies the Actions of each scenario
+     * @return the aggregated latencies, errors and missed starts of the run
+     */
+    public LoadReport run(OpenLoadModel model, Supplier<Action[]> scenarioSupplier) {
+        if (model.getMaxConcurrency() <= 0 || model.getArrivalProfile() == null) {
+            throw new IllegalArgumentException("An open load model requires an arrival profile and a concurrency cap of at least one");
+        }
+
+        LoadReport report = new LoadReport();
+        ActionRunner measuredRunner = getMeasuredRunner(report);
+        ArrivalProfile arrivalProfile = model.getArrivalProfile();
+        Semaphore concurrency = new Semaphore(model.getMaxConcurrency());
+        long startTime = System.nanoTime();
+
+        for (long arrival = 0; ; arrival++) {
+            long elapsedNanos = arrivalProfile.getArrivalNanos(arrival);
+
+            if (elapsedNanos < 0 || elapsedNanos >= arrivalProfile.getDurationNanos()) {
+                break;
+            }
+
+            long intendedStartTime = startTime + elapsedNanos;
+
+            sleepUntil(intendedStartTime);
+            start(measuredRunner, scenarioSupplier, report, concurrency, intendedStartTime);
+        }
+
+        concurrency.acquireUninterruptibly(model.getMaxConcurrency());
+
+        return report;
+    }
+
+    /**
+     * Start a scenario on the executor unless the concurrency cap has been reached, in which case the start is counted as missed.
+     */
+    private void start(ActionRunner measuredRunner, Supplier<Action[]> scenarioSupplier, LoadReport report, Semaphore concurrency, long
+            intendedStartTime) {
+        if (!concurrency.tryAcquire()) {
+            report.recordMissedStart();
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    runScenario(measuredRunner, scenarioSupplier, report, intendedStartTime);
+                } finally {
+                    concurrency.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            concurrency.release();
+            report.recordMissedStart();
+        }
+    }
+
+    /**
+     * Execute a single scenario and record its latency, measured from the given start time.
+     */
+    void runScenario(ActionRunner measuredRunner, Supplier<Action[]> scenarioSupplier, LoadReport report, long startTime) {
+        boolean failed = false;
+
+        try {
+            measuredRunner.doActionsWithDetails(scenarioSupplier.get());
+        } catch (Throwable e) {
+            failed = true;
+            log.debug("Scenario failed: {}", e.toString());
+        }
+
+        report.recordScenario(System.nanoTime() - startTime, failed);
+    }
+
+    /**
+     * Get a copy of the ActionRunner which records the latency of every stage and counts the failed stages into the report.
+     */
+    ActionRunner getMeasuredRunner(LoadReport report) {
+        ActionRunner measuredRunner = actionRunner.withOptions(actionRunner.getRunnerOptions().toBuilder().
+                metrics(report.getStageMetrics()).
+                build());
+
+        measuredRunner.addListener(new ActionRunListener() {
+            @Override
+            public void stageFailed(Action action, ActionStage stage, long nanos, Throwable throwable) {
+                report.recordError(action.getClass());
+            }
+        });
+
+        return measuredRunner;
+    }
+
+    static void sleepUntil(long nanoTime) {
+        long remainingNanos = nanoTime - System.nanoTime();
+
+        if (remainingNanos > 0) {
+            Uninterruptibles.sleepUninterruptibly(remainingNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static long toNanos(Duration duration) {
+        return duration == null ? 0 : duration.toNanos();
+    }
+}
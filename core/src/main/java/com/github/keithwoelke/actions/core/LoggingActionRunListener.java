@@ -0,0 +1,30 @@
+package com.github.keithwoelke.actions.core;
+
+import com.github.keithwoelke.actions.core.ActionRunner.ActionStage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logs every stage of every Action at debug level. Nothing is formatted unless debug logging is enabled.
+ *
+ * @author wkwoelke
+ */
+@Slf4j
+public class LoggingActionRunListener implements ActionRunListener {
+
+    @Override
+    public void stageStarted(Action action, ActionStage stage) {
+        if (log.isDebugEnabled()) {
+            log.debug("*** Executing {} for {} ***", stage.getStage(), action.getClass().getSimpleName());
+        }
+    }
+
+    @Override
+    public void stageFinished(Action action, ActionStage stage, long nanos) {
+        if (log.isDebugEnabled()) {
+            log.debug("*** Executed {} for {} in {} ms ***", stage.getStage(), action.getClass().getSimpleName(), TimeUnit.NANOSECONDS.toMillis(
+                    nanos));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.keithwoelke.actions.core;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Validates the first and then every n-th execution of each Action class.
+ *
+ * @author wkwoelke
+ * @see ValidationSampler#oneIn(int)
+ */
+class OneInValidationSampler implements ValidationSampler {
+
+    private final int n;
+    private final ConcurrentMap<Class, AtomicLong> executionsByClass = new ConcurrentHashMap<>();
+
+    OneInValidationSampler(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("The sampling interval must be at least 1");
+        }
+
+        this.n = n;
+    }
+
+    @Override
+    public boolean sample(Class actionClass) {
+        return executionsByClass.computeIfAbsent(actionClass, key -> new AtomicLong()).getAndIncrement() % n == 0;
+    }
+}
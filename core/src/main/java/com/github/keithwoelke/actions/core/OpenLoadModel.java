@@ -0,0 +1,28 @@
+package com.github.keithwoelke.actions.core;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * An open workload model: scenarios are started according to an arrival rate, regardless of how long earlier scenarios take. Scenario latency is
+ * measured from the intended start time, so any delay in starting a scenario is included rather than hidden (coordinated omission).
+ *
+ * @author wkwoelke
+ * @see LoadRunner#run(OpenLoadModel, java.util.function.Supplier)
+ */
+@SuppressWarnings("unused")
+@Value
+@Builder
+public class OpenLoadModel {
+
+    /**
+     * The target arrival rate over time.
+     */
+    private final ArrivalProfile arrivalProfile;
+
+    /**
+     * The maximum number of scenarios executing at once. A scenario which is due while the cap is reached is not started and is counted as a missed
+     * start instead.
+     */
+    private final int maxConcurrency;
+}
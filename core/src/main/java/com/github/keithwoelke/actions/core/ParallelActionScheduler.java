@@ -0,0 +1,424 @@
+package com.github.keithwoelke.actions.core;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.github.keithwoelke.actions.core.field.ActionClassMetadata;
+import com.github.keithwoelke.actions.core.field.ActionImportFieldMetadata;
+import com.github.keithwoelke.actions.core.filter.AppliedFilters;
+import com.github.keithwoelke.actions.core.filter.FilterSet;
+import com.github.keithwoelke.actions.core.filter.strategies.FilterStrategy;
+import com.github.keithwoelke.actions.core.result.Result;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Executes a scenario by building a dependency graph from the Import/Export annotations of its Actions and running every Action as soon as the
+ * Actions it depends on have completed. Independent Actions are executed concurrently on the configured Executor.
+ * <p>
+ * An Action depends on:
+ * <ul>
+ * <li>the most recent earlier Action of the same class, so Actions of one class always execute in scenario order.</li>
+ * <li>the most recent earlier Action of every class it can import from.</li>
+ * <li>the most recent barrier.</li>
+ * </ul>
+ * An Action is treated as a barrier (it waits for every earlier Action and every later Action waits for it) whenever its input cannot be derived from
+ * its annotations: a Filter is active for it, it holds an ImportOptional with its own Filter, or it returns a nested Result (it implements
+ * ReturnsResult or doAction() declares a Result return type). Filters and FilterControls are processed, and Filter run tokens are consumed, in
+ * scenario order before any Action is started.
+ * <p>
+ * The data offered to each Action for import is equivalent to what a sequential run would offer it. Nothing else executes while a barrier does, so
+ * the Actions up to a barrier are added to the scenario Result before it starts and the barrier itself is added once it has finished. Other Actions
+ * import from a view of the scenario Result followed by the Actions they import from which have finished since the last barrier.
+ * <p>
+ * The Result lists the Actions in scenario order, and completed Actions are reported in scenario order as well: an Action which finishes early is
+ * held back until every earlier Action has finished. If an Action fails, every Action which appears after it in the scenario is skipped and the
+ * exception of the earliest failing Action is rethrown once the remaining Actions have finished.
+ *
+ * @author wkwoelke
+ */
+class ParallelActionScheduler {
+
+    private static final ClassValue<Boolean> RETURNS_RESULT = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> actionClass) {
+            if (ReturnsResult.class.isAssignableFrom(actionClass)) {
+                return true;
+            }
+
+            if (!Actionable.class.isAssignableFrom(actionClass)) {
+                return false;
+            }
+
+            try {
+                return Result.class.isAssignableFrom(actionClass.getMethod("doAction").getReturnType());
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    private final ActionRunner actionRunner;
+    private final RunnerOptions runnerOptions;
+
+    ParallelActionScheduler(ActionRunner actionRunner, RunnerOptions runnerOptions) {
+        this.actionRunner = actionRunner;
+        this.runnerOptions = runnerOptions;
+    }
+
+    /**
+     * Execute the Actions and append their details to completeResults.
+     *
+     * @param completeResults the Result object to import from and to add the execution details to
+     * @param filters         the FilterSet of the scenario
+     * @param cancelled       checked before every Action is started. Once it returns true, the remaining Actions fail with a CancellationException
+     * @param actionCompleted called with the Result of every Action once it and every earlier Action have been executed, in scenario order. The
+     *                        calls are serialized, but may come from different threads
+     * @param actions         the Actions to execute
+     * @param <ResultType>    the Result Type of the Actions
+     */
+    <ResultType> void execute(Result<ResultType> completeResults, FilterSet filters, BooleanSupplier cancelled, Consumer<Result<ResultType>>
+            actionCompleted, Action... actions) {
+        List<Node<ResultType>> nodes = plan(filters, actions);
+
+        if (nodes.isEmpty()) {
+            return;
+        }
+
+        Executor executor = runnerOptions.getExecutor();
+        ExecutorService ownedExecutor = null;
+
+        if (executor == null && runnerOptions.isVirtualThreads()) {
+            executor = ScenarioThreads.threadPerTaskExecutor();
+        } else if (executor == null) {
+            ownedExecutor = Executors.newFixedThreadPool(Math.min(runnerOptions.getParallelism(), nodes.size()));
+            executor = ownedExecutor;
+        }
+
+        try {
+            Run<ResultType> run = new Run<>(completeResults, nodes, executor, cancelled, actionCompleted);
+            run.start();
+            run.finish();
+        } finally {
+            if (ownedExecutor != null) {
+                ownedExecutor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Process Filters and FilterControls and build a Node for every other Action, in scenario order.
+     */
+    private <ResultType> List<Node<ResultType>> plan(FilterSet filters, Action... actions) {
+        List<Node<ResultType>> nodes = Lists.newArrayList();
+        Map<Class, Node<ResultType>> lastNodeByClass = Maps.newHashMap();
+        Node<ResultType> lastBarrier = null;
+        int firstIndexSinceBarrier = 0;
+
+        for (Action action : actions) {
+            if (filters.process(action)) {
+                continue;
+            }
+
+            List<FilterStrategy> filterStrategies = filters.consumeRunTokens();
+            ActionClassMetadata metadata = ActionClassMetadata.of(action.getClass());
+            Node<ResultType> node = new Node<>(nodes.size(), action, filterStrategies, metadata.getImportClasses(), isBarrier(action, metadata,
+                    filterStrategies));
+
+            if (node.barrier) {
+                for (int i = firstIndexSinceBarrier; i < nodes.size(); i++) {
+                    node.dependsOn(nodes.get(i));
+                }
+
+                firstIndexSinceBarrier = nodes.size() + 1;
+            } else {
+                node.dependsOn(lastNodeByClass.get(action.getClass()));
+
+                for (Class importClass : node.importClasses) {
+                    node.dependsOn(lastNodeByClass.get(importClass));
+                }
+            }
+
+            node.dependsOn(lastBarrier);
+
+            if (node.barrier) {
+                lastBarrier = node;
+            }
+
+            lastNodeByClass.put(action.getClass(), node);
+            nodes.add(node);
+        }
+
+        return nodes;
+    }
+
+    private static boolean isBarrier(Action action, ActionClassMetadata metadata, List<FilterStrategy> filterStrategies) {
+        if (!filterStrategies.isEmpty() || RETURNS_RESULT.get(action.getClass())) {
+            return true;
+        }
+
+        for (ActionImportFieldMetadata importField : metadata.getImportFields()) {
+            Object value = importField.getAccessor().get(action);
+
+            if (value instanceof ImportOptional && ((ImportOptional) value).getFilter() != null) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * A single Action of the scenario and its position in the dependency graph.
+     */
+    private static class Node<ResultType> {
+
+        private final int index;
+        private final Action action;
+        private final List<FilterStrategy> filterStrategies;
+        private final Set<Class> importClasses;
+        private final boolean barrier;
+        private final List<Node<ResultType>> dependents = Lists.newArrayList();
+        private final AtomicInteger pendingDependencies = new AtomicInteger();
+        private Result<ResultType> result;
+        private Throwable failure;
+        private boolean executed;
+
+        private Node(int index, Action action, List<FilterStrategy> filterStrategies, Set<Class> importClasses, boolean barrier) {
+            this.index = index;
+            this.action = action;
+            this.filterStrategies = filterStrategies;
+            this.importClasses = importClasses;
+            this.barrier = barrier;
+        }
+
+        private void dependsOn(Node<ResultType> dependency) {
+            if (dependency != null && !dependency.dependents.contains(this)) {
+                dependency.dependents.add(this);
+                pendingDependencies.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * The state of a single scenario execution.
+     */
+    private class Run<ResultType> {
+
+        private final Result<ResultType> executionDetails;
+        private final AppliedFilters<ResultType> appliedFilters;
+        private final List<Node<ResultType>> nodes;
+        private final ListMultimap<Class, Node<ResultType>> nodesByClass = ArrayListMultimap.create();
+        private final Executor executor;
+        private final BooleanSupplier cancelled;
+        private final Consumer<Result<ResultType>> actionCompleted;
+        private final CountDownLatch remainingNodes;
+        private final AtomicInteger firstFailedIndex = new AtomicInteger(Integer.MAX_VALUE);
+        private final Object publishLock = new Object();
+        private int committedNodes;
+        private int publishedNodes;
+        private boolean publishing;
+
+        private Run(Result<ResultType> executionDetails, List<Node<ResultType>> nodes, Executor executor, BooleanSupplier cancelled,
+                Consumer<Result<ResultType>> actionCompleted) {
+            this.executionDetails = executionDetails;
+            this.appliedFilters = new AppliedFilters<>(executionDetails);
+            this.nodes = nodes;
+            this.executor = executor;
+            this.cancelled = cancelled;
+            this.actionCompleted = actionCompleted;
+            this.remainingNodes = new CountDownLatch(nodes.size());
+
+            nodes.forEach(node -> nodesByClass.put(node.action.getClass(), node));
+        }
+
+        private void start() {
+            for (Node<ResultType> node : nodes) {
+                if (node.pendingDependencies.get() == 0) {
+                    submit(node);
+                }
+            }
+        }
+
+        private void submit(Node<ResultType> node) {
+            try {
+                executor.execute(() -> run(node));
+            } catch (RejectedExecutionException e) {
+                node.failure = e;
+                firstFailedIndex.accumulateAndGet(node.index, Math::min);
+                complete(node);
+            }
+        }
+
+        private void run(Node<ResultType> node) {
+            try {
+                if (node.index < firstFailedIndex.get()) {
+                    if (cancelled.getAsBoolean()) {
+                        throw new CancellationException(ActionRunner.CANCELLED_MESSAGE);
+                    }
+
+                    if (node.barrier) {
+                        commit(node.index);
+                    }
+
+                    node.result = actionRunner.doAction(node.action, getDataToImport(node));
+                    publish(node);
+
+                    if (node.barrier) {
+                        commit(node.index + 1);
+                    }
+                }
+            } catch (Throwable e) {
+                node.failure = e;
+                firstFailedIndex.accumulateAndGet(node.index, Math::min);
+            } finally {
+                complete(node);
+            }
+        }
+
+        /**
+         * Mark the Node as executed and pass the Results of the executed Nodes which are no longer preceded by a pending Node to actionCompleted, in
+         * scenario order. A Node which fails is never marked, so nothing after it is published.
+         * <p>
+         * actionCompleted may wait for the demand of a subscriber, so it is called without holding publishLock. Only one thread publishes at a
+         * time: a thread which finishes a Node meanwhile waits until the publishing thread is done, which has published that Node as well if it
+         * was next in line.
+         */
+        private void publish(Node<ResultType> node) {
+            List<Result<ResultType>> results = Lists.newArrayList();
+            boolean interrupted = false;
+
+            synchronized (publishLock) {
+                node.executed = true;
+
+                while (publishing) {
+                    try {
+                        publishLock.wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+
+                publishing = true;
+            }
+
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+
+            try {
+                do {
+                    results.clear();
+
+                    synchronized (publishLock) {
+                        for (; publishedNodes < nodes.size() && nodes.get(publishedNodes).executed; publishedNodes++) {
+                            results.add(nodes.get(publishedNodes).result);
+                        }
+                    }
+
+                    results.forEach(actionCompleted);
+                } while (!results.isEmpty());
+            } finally {
+                synchronized (publishLock) {
+                    publishing = false;
+                    publishLock.notifyAll();
+                }
+            }
+        }
+
+        private void complete(Node<ResultType> node) {
+            for (Node<ResultType> dependent : node.dependents) {
+                if (dependent.pendingDependencies.decrementAndGet() == 0) {
+                    submit(dependent);
+                }
+            }
+
+            remainingNodes.countDown();
+        }
+
+        /**
+         * Add the Results of the Nodes before the index to the scenario Result, in scenario order. Only called while a barrier executes, when every
+         * earlier Node has finished and every later Node is waiting for the barrier.
+         */
+        private void commit(int index) {
+            for (; committedNodes < index; committedNodes++) {
+                executionDetails.add(nodes.get(committedNodes).result);
+            }
+        }
+
+        /**
+         * Get the data a sequential run would have offered the Action. Barriers see the scenario Result, which holds every earlier Action. Other
+         * Actions see the scenario Result followed by the Actions of the classes they import from which have finished since the last barrier. This
+         * preserves the relative execution order of those classes; the Actions of other classes are never imported from.
+         */
+        private Result<ResultType> getDataToImport(Node<ResultType> node) {
+            if (node.barrier) {
+                return appliedFilters.apply(node.filterStrategies);
+            }
+
+            Result<ResultType> dataToImport = executionDetails;
+
+            if (!node.importClasses.isEmpty()) {
+                List<Node<ResultType>> uncommittedNodes = Lists.newArrayList();
+
+                for (Class importClass : node.importClasses) {
+                    for (Node<ResultType> importNode : nodesByClass.get(importClass)) {
+                        if (importNode.index >= committedNodes && importNode.index < node.index) {
+                            uncommittedNodes.add(importNode);
+                        }
+                    }
+                }
+
+                if (!uncommittedNodes.isEmpty()) {
+                    Result<ResultType> uncommittedResults = new Result<>();
+                    uncommittedNodes.sort(Comparator.comparingInt(uncommittedNode -> uncommittedNode.index));
+                    uncommittedNodes.forEach(uncommittedNode -> uncommittedResults.add(uncommittedNode.result));
+
+                    dataToImport = executionDetails.concat(uncommittedResults);
+                }
+            }
+
+            return FilterSet.applyFilterStrategies(dataToImport, node.filterStrategies);
+        }
+
+        /**
+         * Wait for every Node, then record the completed Nodes which have not been committed yet in scenario order and rethrow the earliest
+         * failure.
+         */
+        private void finish() {
+            Uninterruptibles.awaitUninterruptibly(remainingNodes);
+
+            int failedIndex = firstFailedIndex.get();
+
+            commit(Math.min(failedIndex, nodes.size()));
+
+            if (failedIndex != Integer.MAX_VALUE) {
+                Throwable failure = nodes.get(failedIndex).failure;
+
+                if (failure instanceof RuntimeException) {
+                    throw (RuntimeException) failure;
+                }
+
+                if (failure instanceof Error) {
+                    throw (Error) failure;
+                }
+
+                throw new IllegalStateException(failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.keithwoelke.actions.core;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validates up to n executions of each Action class per one second window.
+ *
+ * @author wkwoelke
+ * @see ValidationSampler#perSecond(int)
+ */
+class PerSecondValidationSampler implements ValidationSampler {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int n;
+    private final ConcurrentMap<Class, Window> windowsByClass = new ConcurrentHashMap<>();
+
+    PerSecondValidationSampler(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The number of validations per second must not be negative");
+        }
+
+        this.n = n;
+    }
+
+    @Override
+    public boolean sample(Class actionClass) {
+        return windowsByClass.computeIfAbsent(actionClass, key -> new Window()).tryAcquire(System.nanoTime());
+    }
+
+    private class Window {
+
+        private long windowStart = System.nanoTime();
+        private int samples;
+
+        private synchronized boolean tryAcquire(long now) {
+            if (now - windowStart >= WINDOW_NANOS) {
+                windowStart = now;
+                samples = 0;
+            }
+
+            if (samples < n) {
+                samples++;
+                return true;
+            }
+
+            return false;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.github.keithwoelke.actions.core;
+
+import com.github.keithwoelke.actions.core.result.Result;
+import com.github.keithwoelke.assertion.AssertionRecorder;
+import com.github.keithwoelke.assertion.ValidationResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Runs the expectation and validation stages of executed Actions in the background, one Action at a time and in execution order, so that the next
+ * Action of the scenario can be executed in the meantime. The number of pending validations is bounded: once the bound is reached, submit() blocks
+ * until the oldest validation has finished and its Result has been handed to the actionValidated callback. A callback which waits (for instance
+ * for the demand of a subscriber) therefore throttles the scenario instead of letting validations queue up.
+ * <p>
+ * Validations read the fields of their Action. If the same Action instance appears in the scenario again, awaitValidation() holds the scenario until
+ * the earlier validation has finished, so importing into the Action cannot change what that validation sees.
+ * <p>
+ * Failed validations are collected in the background and recorded through the AssertionRecorder by finish(), on the scenario thread. The
+ * exception of the earliest failing validation is rethrown by finish(). If fail-fast is enabled, checkFailFast() rethrows it before the next
+ * Action is started and the validation of every Action executed after the failing one is skipped, which matches the sequential behavior as closely
+ * as possible.
+ *
+ * @param <ResultType> the Result Type of the Actions
+ * @author wkwoelke
+ */
+@Slf4j
+class PipelinedValidator<ResultType> {
+
+    private final ActionRunner actionRunner;
+    private final AssertionRecorder assertionRecorder;
+    private final Executor executor;
+    private final boolean failFast;
+    private final Consumer<Result<ResultType>> actionValidated;
+    private final Semaphore capacity;
+    private final int maxPendingValidations;
+    private final Queue<ValidationResult> validationFailures = new ConcurrentLinkedQueue<>();
+    private final Map<Action, CompletableFuture<Void>> validationsByAction = new IdentityHashMap<>();
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+    private CompletableFuture<Void> validations = CompletableFuture.completedFuture(null);
+
+    PipelinedValidator(ActionRunner actionRunner, AssertionRecorder assertionRecorder, Executor executor, boolean failFast,
+            Consumer<Result<ResultType>> actionValidated, int maxPendingValidations) {
+        this.actionRunner = actionRunner;
+        this.assertionRecorder = assertionRecorder;
+        this.executor = executor;
+        this.failFast = failFast;
+        this.actionValidated = actionValidated;
+        this.capacity = new Semaphore(maxPendingValidations);
+        this.maxPendingValidations = maxPendingValidations;
+    }
+
+    /**
+     * Queue the validation of the executed Action behind the validations of every previously submitted Action, waiting for capacity if the maximum
+     * number of pending validations has been reached.
+     *
+     * @param executedAction the Action to validate
+     */
+    void submit(ExecutedAction<ResultType> executedAction) {
+        capacity.acquireUninterruptibly();
+
+        CompletableFuture<Void> validation = validations.thenRunAsync(() -> validate(executedAction), executor);
+        validation.whenComplete((ignored, throwable) -> capacity.release());
+        validations = validation;
+
+        if (validationsByAction.size() >= maxPendingValidations) {
+            validationsByAction.values().removeIf(CompletableFuture::isDone);
+        }
+
+        validationsByAction.put(executedAction.getAction(), validation);
+    }
+
+    /**
+     * Wait for the pending validation of the Action instance, if there is one. Must be called before the Action is executed again.
+     *
+     * @param action the Action which is about to be executed
+     */
+    void awaitValidation(Action action) {
+        CompletableFuture<Void> validation = validationsByAction.remove(action);
+
+        if (validation != null) {
+            try {
+                validation.join();
+            } catch (CompletionException e) {
+                // rethrown by finish()
+            }
+        }
+    }
+
+    /**
+     * If fail-fast is enabled and a validation has failed, wait for the pending validations and rethrow the failure.
+     */
+    void checkFailFast() {
+        if (failFast && firstFailure.get() != null) {
+            finish();
+        }
+    }
+
+    /**
+     * Wait for every pending validation, record the failed validations through the AssertionRecorder and rethrow the exception of the earliest
+     * failing validation, if any.
+     */
+    void finish() {
+        try {
+            validations.join();
+        } catch (CompletionException e) {
+            firstFailure.compareAndSet(null, e.getCause());
+        }
+
+        ValidationResult validationFailure;
+
+        while ((validationFailure = validationFailures.poll()) != null) {
+            assertionRecorder.recordValidations(validationFailure);
+        }
+
+        Throwable failure = firstFailure.get();
+
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+
+        if (failure != null) {
+            throw new IllegalStateException(failure);
+        }
+    }
+
+    private void validate(ExecutedAction<ResultType> executedAction) {
+        if (failFast && firstFailure.get() != null) {
+            return;
+        }
+
+        try {
+            actionValidated.accept(actionRunner.validateAction(executedAction, validationFailures::add));
+        } catch (Throwable e) {
+            log.warn("Validation of {} failed", executedAction.getAction().getClass().getSimpleName());
+            firstFailure.compareAndSet(null, e);
+        }
+    }
+}
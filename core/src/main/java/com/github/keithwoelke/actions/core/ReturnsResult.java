@@ -0,0 +1,14 @@
+package com.github.keithwoelke.actions.core;
+
+/**
+ * This interface denotes that the doAction() of an action returns a nested Result, typically the Result of the actions it executes itself. The
+ * details of the nested Result are added to the scenario Result in place of the action.
+ * <p>
+ * The parallel scheduler cannot tell from the annotations of such an action which classes its Result will contain, so it executes the action as
+ * a barrier. Actions which declare a Result (or a subclass) as the return type of doAction() are recognized without this interface; it is only
+ * needed when the declared return type is erased, for instance when the action is generic in its Result Type.
+ *
+ * @author wkwoelke
+ */
+public interface ReturnsResult extends Action {
+}
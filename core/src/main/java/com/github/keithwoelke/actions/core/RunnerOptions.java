@@ -0,0 +1,118 @@
+package com.github.keithwoelke.actions.core;
+
+import com.github.keithwoelke.actions.core.metrics.RunnerMetrics;
+import com.github.keithwoelke.actions.core.result.RetentionPolicy;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Optional behaviors of the ActionRunner. The default options run every action sequentially on the calling thread. Use
+ * ActionRunner.withOptions(RunnerOptions) to obtain a runner configured with a different set of options.
+ *
+ * @author wkwoelke
+ */
+@SuppressWarnings("unused")
+@Value
+@Builder(toBuilder = true)
+public class RunnerOptions {
+
+    public static final RunnerOptions DEFAULT = RunnerOptions.builder().build();
+    public static final int DEFAULT_MAX_PENDING_VALIDATIONS = 1024;
+
+    /**
+     * Run actions which share no Import/Export links concurrently. See ParallelActionScheduler for the rules used to order dependent actions.
+     */
+    private final boolean parallel;
+
+    /**
+     * The executor used for parallel execution. If no executor is provided, a fixed thread pool of size parallelism is created for each scenario and
+     * shut down when the scenario completes.
+     */
+    private final Executor executor;
+
+    /**
+     * The number of threads used for parallel execution when no executor is provided. A value of 0 or less uses the number of available processors.
+     */
+    private final int parallelism;
+
+    /**
+     * Parallel execution only: if parallel is enabled and no executor is provided, execute every concurrently scheduled Action on its own virtual
+     * thread (Java 21+, platform threads on older JVMs) instead of a fixed thread pool of size parallelism. The option has no effect otherwise; in
+     * particular it does not change the thread a scenario is executed on. The synchronous ActionRunner methods always execute the scenario on the
+     * calling thread, so ThreadLocals of the caller stay visible to sequentially executed Actions.
+     * <p>
+     * To execute whole scenarios on virtual threads, use the asynchronous ActionRunner methods (doActionsAsync, doActionsWithDetailsAsync) without an
+     * asyncExecutor, or the LoadRunner without an executor. Both start a virtual thread per scenario whenever the JVM supports them.
+     */
+    private final boolean virtualThreads;
+
+    /**
+     * The executor the asynchronous ActionRunner methods execute scenarios on. If no executor is provided, every scenario is executed on its own
+     * thread (a virtual thread, if the JVM supports them).
+     */
+    private final Executor asyncExecutor;
+
+    /**
+     * Run the expectation and validation stages of each Action on the validation executor, so that the next Action is imported and executed while
+     * the previous Action is being validated. Only Actions executed sequentially are pipelined. The exception of the earliest failing validation is
+     * rethrown once the scenario has finished. Note that the details of every executed Action are added to the Result, even if its validation fails.
+     */
+    private final boolean pipelinedValidation;
+
+    /**
+     * With pipelined validation, stop the scenario before the next Action is started as soon as a validation has failed.
+     */
+    private final boolean failFast;
+
+    /**
+     * The executor pipelined and deferred validations are executed on. Pipelined validations of one scenario are always executed one at a time and
+     * in order. If no executor is provided, a new thread is used for every validation (a virtual thread, if the JVM supports them).
+     */
+    private final Executor validationExecutor;
+
+    /**
+     * Hand the expectation and validation stages of every Action to the validation executor and continue with the next Action straight away.
+     * Validations may still be running once the scenario has returned. Failures are not rethrown; they are recorded through the AssertionRecorder
+     * when ActionRunner.awaitValidations() is called. Takes precedence over pipelined validation.
+     */
+    private final boolean deferredValidation;
+
+    /**
+     * The maximum number of deferred or pipelined validations which may be pending at once. Executing an Action blocks while the limit is reached. A
+     * value of 0 or less uses DEFAULT_MAX_PENDING_VALIDATIONS.
+     */
+    private final int maxPendingValidations;
+
+    /**
+     * The RetentionPolicy of the Result the runner creates for a scenario. A Result passed to the runner keeps its own policy. If no policy is
+     * provided, every ActionDetails is kept.
+     */
+    private final RetentionPolicy retentionPolicy;
+
+    /**
+     * If provided, the latency of every stage of every Action is recorded into the metrics.
+     */
+    private final RunnerMetrics metrics;
+
+    /**
+     * If provided, only the executions chosen by the sampler are validated. The other executions skip the getBaselineState, getFinalState,
+     * expectation and validation stages. If no sampler is provided, every execution is validated.
+     */
+    private final ValidationSampler validationSampler;
+
+    /**
+     * @return the effective parallelism
+     */
+    public int getParallelism() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * @return the effective maximum number of pending deferred or pipelined validations
+     */
+    public int getMaxPendingValidations() {
+        return maxPendingValidations > 0 ? maxPendingValidations : DEFAULT_MAX_PENDING_VALIDATIONS;
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.keithwoelke.actions.core;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates the threads asynchronous scenarios and the scenarios of the LoadRunner are executed on if no executor is configured. Parallel Actions
+ * only use these threads with RunnerOptions.parallel and RunnerOptions.virtualThreads enabled and no RunnerOptions.executor. On a JVM which
+ * supports virtual threads (Java 21+) every task gets its own virtual thread. On older JVMs a new daemon platform thread is used instead, so the
+ * behavior stays the same but the number of concurrent tasks is bound by the platform thread limit.
+ * <p>
+ * The synchronous ActionRunner methods never hop to one of these threads; they execute the scenario on the calling thread.
+ *
+ * @author wkwoelke
+ */
+@Slf4j
+final class ScenarioThreads {
+
+    private static final String THREAD_NAME_PREFIX = "action-runner-";
+    private static final ThreadFactory THREAD_FACTORY = createThreadFactory();
+
+    private ScenarioThreads() {
+    }
+
+    /**
+     * @return an Executor which starts a new scenario thread for every task
+     */
+    static Executor threadPerTaskExecutor() {
+        return command -> THREAD_FACTORY.newThread(command).start();
+    }
+
+    /**
+     * Look up Thread.ofVirtual() reflectively, so that the library can still be compiled for and run on older JVMs.
+     */
+    private static ThreadFactory createThreadFactory() {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            MethodHandle ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(Class.forName(
+                    "java.lang.Thread$Builder$OfVirtual")));
+            MethodHandle name = lookup.findVirtual(builderClass, "name", MethodType.methodType(builderClass, String.class, long.class));
+            MethodHandle factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+
+            return (ThreadFactory) factory.invoke(name.invoke(ofVirtual.invoke(), THREAD_NAME_PREFIX, 0L));
+        } catch (Throwable e) {
+            log.debug("Virtual threads are not available, falling back to platform threads: {}", e.toString());
+
+            return new ThreadFactoryBuilder().
+                    setNameFormat(THREAD_NAME_PREFIX + "%d").
+                    setDaemon(true).
+                    build();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.keithwoelke.actions.core;
+
+/**
+ * Decides which executions of an Action are validated. Executions which are not sampled skip the getBaselineState, getFinalState, expectation and
+ * validation stages, while importing and exporting data is unaffected. The decision is recorded in ActionDetails.isValidated().
+ * <p>
+ * Samplers are only consulted for Actions which implement ChangesState or Validatable, and may be called from several threads at once.
+ *
+ * @author wkwoelke
+ * @see RunnerOptions#getValidationSampler()
+ */
+@FunctionalInterface
+public interface ValidationSampler {
+
+    /**
+     * @param n the sampling interval
+     * @return a sampler which validates the first and then every n-th execution of each Action class
+     */
+    static ValidationSampler oneIn(int n) {
+        return new OneInValidationSampler(n);
+    }
+
+    /**
+     * @param n the number of executions to validate per second
+     * @return a sampler which validates up to n executions of each Action class per second
+     */
+    static ValidationSampler perSecond(int n) {
+        return new PerSecondValidationSampler(n);
+    }
+
+    /**
+     * @param actionClass the class of the Action about to be executed
+     * @return true, if the execution should be validated
+     */
+    boolean sample(Class actionClass);
+}
@@ -0,0 +1,66 @@
+package com.github.keithwoelke.actions.core.field;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * This class locates the ExportAdapter/ImportAdapter generated for an Action class. A generated adapter lives in the same package as the Action and
+ * is named after its binary name with '$' replaced by '_', followed by the adapter suffix. For example, the ImportAdapter of
+ * com.example.Outer$CreateUser is com.example.Outer_CreateUser_ImportAdapter.
+ *
+ * @author wkwoelke
+ */
+@Slf4j
+public final class ActionAdapters {
+
+    public static final String EXPORT_ADAPTER_SUFFIX = "_ExportAdapter";
+    public static final String IMPORT_ADAPTER_SUFFIX = "_ImportAdapter";
+
+    private ActionAdapters() {
+    }
+
+    /**
+     * Get the name of the adapter class generated for an Action class.
+     *
+     * @param actionClass the Action class
+     * @param suffix      the adapter suffix
+     * @return the fully qualified name of the adapter class
+     */
+    public static String getAdapterClassName(Class<?> actionClass, String suffix) {
+        return actionClass.getName().replace('$', '_') + suffix;
+    }
+
+    /**
+     * Get the ExportAdapter generated for the Action class.
+     *
+     * @param actionClass the Action class
+     * @return the generated adapter, or null if no adapter was generated
+     */
+    static ExportAdapter findExportAdapter(Class<?> actionClass) {
+        return findAdapter(actionClass, ExportAdapter.class, EXPORT_ADAPTER_SUFFIX);
+    }
+
+    /**
+     * Get the ImportAdapter generated for the Action class.
+     *
+     * @param actionClass the Action class
+     * @return the generated adapter, or null if no adapter was generated
+     */
+    static ImportAdapter findImportAdapter(Class<?> actionClass) {
+        return findAdapter(actionClass, ImportAdapter.class, IMPORT_ADAPTER_SUFFIX);
+    }
+
+    private static <AdapterType> AdapterType findAdapter(Class<?> actionClass, Class<AdapterType> adapterType, String suffix) {
+        String adapterClassName = getAdapterClassName(actionClass, suffix);
+
+        try {
+            Class<?> adapterClass = Class.forName(adapterClassName, true, actionClass.getClassLoader());
+
+            return adapterType.cast(adapterClass.getDeclaredConstructor().newInstance());
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            log.warn(String.format("Unable to use %s, falling back to Reflection: %s", adapterClassName, e));
+            return null;
+        }
+    }
+}
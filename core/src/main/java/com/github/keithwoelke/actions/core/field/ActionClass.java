@@ -27,4 +27,11 @@ public interface ActionClass<ActionFieldType> {
      * @return a list of annotated fields
      */
     List<Field> getAnnotatedFields();
+
+    /**
+     * Get an ActionField object for every annotated field in the Class.
+     *
+     * @return a list of ActionField objects in the same order as getAnnotatedFields()
+     */
+    List<ActionFieldType> getActionFields();
 }
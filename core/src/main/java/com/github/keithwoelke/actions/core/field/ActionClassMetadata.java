@@ -0,0 +1,120 @@
+package com.github.keithwoelke.actions.core.field;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.github.keithwoelke.actions.core.annotations.Export;
+import com.github.keithwoelke.actions.core.annotations.Import;
+import com.github.keithwoelke.actions.core.annotations.Imports;
+import lombok.Value;
+import org.apache.commons.lang3.reflect.FieldUtils;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * This class stores the Import/Export metadata of an Action class. The metadata is resolved once per class and cached against the Class object
+ * itself, which means it is discarded along with the class when its ClassLoader is unloaded.
+ * <p>
+ * If the annotation processor generated an ExportAdapter/ImportAdapter for the class, the adapters are used in place of Reflection to access the
+ * annotated fields.
+ *
+ * @author wkwoelke
+ */
+@Value
+public class ActionClassMetadata {
+
+    private static final ClassValue<ActionClassMetadata> METADATA = new ClassValue<ActionClassMetadata>() {
+        @Override
+        protected ActionClassMetadata computeValue(Class<?> actionClass) {
+            return new ActionClassMetadata(actionClass);
+        }
+    };
+
+    private final Class<?> actionClass;
+    private final ExportAdapter exportAdapter;
+    private final ImportAdapter importAdapter;
+    private final List<ActionExportFieldMetadata> exportFields;
+    private final List<ActionImportFieldMetadata> importFields;
+    private final Set<Class> importClasses;
+    private final Map<Field, ActionExportFieldMetadata> exportFieldsByField;
+    private final Map<Field, ActionImportFieldMetadata> importFieldsByField;
+
+    private ActionClassMetadata(Class<?> actionClass) {
+        ImmutableList.Builder<ActionExportFieldMetadata> exportFieldsBuilder = ImmutableList.builder();
+        ImmutableList.Builder<ActionImportFieldMetadata> importFieldsBuilder = ImmutableList.builder();
+        ImportAdapter generatedImportAdapter = ActionAdapters.findImportAdapter(actionClass);
+
+        for (Field field : FieldUtils.getFieldsListWithAnnotation(actionClass, Export.class)) {
+            exportFieldsBuilder.add(new ActionExportFieldMetadata(field));
+        }
+
+        for (Field field : FieldUtils.getFieldsListWithAnnotation(actionClass, Import.class)) {
+            importFieldsBuilder.add(new ActionImportFieldMetadata(field, getImportFieldAccessor(generatedImportAdapter, field)));
+        }
+
+        for (Field field : FieldUtils.getFieldsListWithAnnotation(actionClass, Imports.class)) {
+            importFieldsBuilder.add(new ActionImportFieldMetadata(field, getImportFieldAccessor(generatedImportAdapter, field)));
+        }
+
+        this.actionClass = actionClass;
+        this.exportAdapter = ActionAdapters.findExportAdapter(actionClass);
+        this.importAdapter = generatedImportAdapter;
+        this.exportFields = exportFieldsBuilder.build();
+        this.importFields = importFieldsBuilder.build();
+        this.importClasses = ImmutableSet.copyOf(this.importFields.stream().
+                flatMap(importField -> importField.getImportClasses().stream()).
+                collect(Collectors.toList()));
+        this.exportFieldsByField = Maps.uniqueIndex(this.exportFields, ActionExportFieldMetadata::getField);
+        this.importFieldsByField = Maps.uniqueIndex(this.importFields, ActionImportFieldMetadata::getField);
+    }
+
+    private static FieldAccessor getImportFieldAccessor(ImportAdapter importAdapter, Field field) {
+        FieldAccessor generatedAccessor = importAdapter == null ? null : importAdapter.getAccessor(field.getName());
+
+        return generatedAccessor == null ? new MethodHandleFieldAccessor(field) : generatedAccessor;
+    }
+
+    /**
+     * Get the metadata for an Action class. The metadata is computed on first access and cached for the lifetime of the class.
+     *
+     * @param actionClass the Action class to inspect
+     * @return the Import/Export metadata of the class
+     */
+    public static ActionClassMetadata of(Class<?> actionClass) {
+        return METADATA.get(actionClass);
+    }
+
+    /**
+     * @param field an Export annotated field of the class
+     * @return the metadata for the field
+     * @throws IllegalArgumentException if the field is not an Export annotated field of the class
+     */
+    public ActionExportFieldMetadata getExportField(Field field) {
+        ActionExportFieldMetadata metadata = exportFieldsByField.get(field);
+
+        if (metadata == null) {
+            throw new IllegalArgumentException(String.format("%s is not an export field of %s", field, actionClass.getName()));
+        }
+
+        return metadata;
+    }
+
+    /**
+     * @param field an Import annotated field of the class
+     * @return the metadata for the field
+     * @throws IllegalArgumentException if the field is not an Import annotated field of the class
+     */
+    public ActionImportFieldMetadata getImportField(Field field) {
+        ActionImportFieldMetadata metadata = importFieldsByField.get(field);
+
+        if (metadata == null) {
+            throw new IllegalArgumentException(String.format("%s is not an import field of %s", field, actionClass.getName()));
+        }
+
+        return metadata;
+    }
+}
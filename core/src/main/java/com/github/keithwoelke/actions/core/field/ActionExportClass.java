@@ -0,0 +1,51 @@
+package com.github.keithwoelke.actions.core.field;
+
+import com.github.keithwoelke.actions.core.Action;
+import lombok.Data;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * This class encapsulates Reflection access for classes which Export data.
+ *
+ * @author wkwoelke
+ */
+@Data
+public final class ActionExportClass implements ActionClass<ActionExportField> {
+
+    private final Action action;
+
+    /**
+     * @see ActionClass#getActionField(Field)
+     */
+    @Override
+    public ActionExportField getActionField(Field field) {
+        return new ActionExportField(getMetadata().getExportField(field), action);
+    }
+
+    /**
+     * @see ActionClass#getAnnotatedFields()
+     */
+    @Override
+    public List<Field> getAnnotatedFields() {
+        return getMetadata().getExportFields().stream().
+                map(ActionExportFieldMetadata::getField).
+                collect(Collectors.toList());
+    }
+
+    /**
+     * @see ActionClass#getActionFields()
+     */
+    @Override
+    public List<ActionExportField> getActionFields() {
+        return getMetadata().getExportFields().stream().
+                map(metadata -> new ActionExportField(metadata, action)).
+                collect(Collectors.toList());
+    }
+
+    private ActionClassMetadata getMetadata() {
+        return ActionClassMetadata.of(action.getClass());
+    }
+}
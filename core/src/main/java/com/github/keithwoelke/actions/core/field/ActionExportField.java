@@ -1,11 +1,9 @@
 package com.github.keithwoelke.actions.core.field;
 
-import com.google.common.collect.Lists;
 import com.github.keithwoelke.actions.core.Action;
 import com.github.keithwoelke.actions.core.annotations.Export;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
-import org.apache.commons.lang3.StringUtils;
 
 import java.lang.reflect.Field;
 import java.util.List;
@@ -22,10 +20,15 @@ import java.util.List;
 @Data
 public final class ActionExportField extends ActionField<Export> {
 
-    private List<Export> annotations;
+    private final ActionExportFieldMetadata metadata;
 
     public ActionExportField(Field field, Action action) {
-        super(field, action, Export.class);
+        this(ActionClassMetadata.of(action.getClass()).getExportField(field), action);
+    }
+
+    public ActionExportField(ActionExportFieldMetadata metadata, Action action) {
+        super(metadata.getField(), action, Export.class, metadata.getAccessor());
+        this.metadata = metadata;
     }
 
     /**
@@ -33,11 +36,7 @@ public final class ActionExportField extends ActionField<Export> {
      */
     @Override
     public List<Export> getAnnotations() {
-        if (this.annotations == null) {
-            this.annotations = Lists.newArrayList(field.getAnnotationsByType(Export.class));
-        }
-
-        return this.annotations;
+        return metadata.getAnnotations();
     }
 
     /**
@@ -45,14 +44,6 @@ public final class ActionExportField extends ActionField<Export> {
      */
     @Override
     public String getName() {
-        String fieldName = field.getName();
-
-        Export export = getAnnotations().get(0);
-
-        if (StringUtils.isNotEmpty(export.value())) {
-            fieldName = export.value();
-        }
-
-        return fieldName;
+        return metadata.getName();
     }
 }
@@ -0,0 +1,32 @@
+package com.github.keithwoelke.actions.core.field;
+
+import com.google.common.collect.ImmutableList;
+import com.github.keithwoelke.actions.core.annotations.Export;
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * This class stores the resolved Export metadata of a single field.
+ *
+ * @author wkwoelke
+ */
+@Value
+public class ActionExportFieldMetadata {
+
+    private final Field field;
+    private final FieldAccessor accessor;
+    private final List<Export> annotations;
+    private final String name;
+
+    ActionExportFieldMetadata(Field field) {
+        this.field = field;
+        this.accessor = new MethodHandleFieldAccessor(field);
+        this.annotations = ImmutableList.copyOf(field.getAnnotationsByType(Export.class));
+
+        String exportName = annotations.get(0).value();
+        this.name = StringUtils.isNotEmpty(exportName) ? exportName : field.getName();
+    }
+}
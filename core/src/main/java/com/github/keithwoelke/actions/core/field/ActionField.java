@@ -2,8 +2,6 @@ package com.github.keithwoelke.actions.core.field;
 
 import com.google.common.collect.Lists;
 import com.github.keithwoelke.actions.core.Action;
-import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
@@ -16,14 +14,25 @@ import java.util.List;
  * @author wkwoelke
  */
 @SuppressWarnings({"WeakerAccess", "unused"})
-@RequiredArgsConstructor
 public class ActionField<AnnotationType extends Annotation> {
 
     protected final Field field;
     private final Action action;
     private final Class<AnnotationType> annotationClass;
+    private final FieldAccessor accessor;
     private List<AnnotationType> annotations;
 
+    public ActionField(Field field, Action action, Class<AnnotationType> annotationClass) {
+        this(field, action, annotationClass, new MethodHandleFieldAccessor(field));
+    }
+
+    public ActionField(Field field, Action action, Class<AnnotationType> annotationClass, FieldAccessor accessor) {
+        this.field = field;
+        this.action = action;
+        this.annotationClass = annotationClass;
+        this.accessor = accessor;
+    }
+
     /**
      * Get annotations on this field.
      *
@@ -51,15 +60,8 @@ public class ActionField<AnnotationType extends Annotation> {
      *
      * @return the value of the field
      */
-    @SneakyThrows
     public Object getValue() {
-        boolean isAccessible = field.isAccessible();
-        field.setAccessible(true);
-
-        Object value = field.get(action);
-        field.setAccessible(isAccessible);
-
-        return value;
+        return accessor.get(action);
     }
 
     /**
@@ -68,13 +70,6 @@ public class ActionField<AnnotationType extends Annotation> {
      * @param value the value to inject
      */
     protected void setValue(Object value) {
-        try {
-            boolean isAccessible = field.isAccessible();
-            field.setAccessible(true);
-            field.set(action, value);
-            field.setAccessible(isAccessible);
-        } catch (IllegalAccessException e) {
-            throw new Error(e);
-        }
+        accessor.set(action, value);
     }
 }
@@ -0,0 +1,51 @@
+package com.github.keithwoelke.actions.core.field;
+
+import com.github.keithwoelke.actions.core.Action;
+import lombok.Data;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * This class encapsulates Reflection access for classes which Import data.
+ *
+ * @author wkwoelke
+ */
+@Data
+public final class ActionImportClass implements ActionClass<ActionImportField> {
+
+    private final Action action;
+
+    /**
+     * @see ActionClass#getActionField(Field)
+     */
+    @Override
+    public ActionImportField getActionField(Field field) {
+        return new ActionImportField(getMetadata().getImportField(field), action);
+    }
+
+    /**
+     * @see ActionClass#getAnnotatedFields()
+     */
+    @Override
+    public List<Field> getAnnotatedFields() {
+        return getMetadata().getImportFields().stream().
+                map(ActionImportFieldMetadata::getField).
+                collect(Collectors.toList());
+    }
+
+    /**
+     * @see ActionClass#getActionFields()
+     */
+    @Override
+    public List<ActionImportField> getActionFields() {
+        return getMetadata().getImportFields().stream().
+                map(metadata -> new ActionImportField(metadata, action)).
+                collect(Collectors.toList());
+    }
+
+    private ActionClassMetadata getMetadata() {
+        return ActionClassMetadata.of(action.getClass());
+    }
+}
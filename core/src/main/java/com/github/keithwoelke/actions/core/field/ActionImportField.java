@@ -1,8 +1,6 @@
 package com.github.keithwoelke.actions.core.field;
 
-import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.ListMultimap;
-import com.google.common.collect.Lists;
 import com.github.keithwoelke.actions.core.Action;
 import com.github.keithwoelke.actions.core.ImportOptional;
 import com.github.keithwoelke.actions.core.annotations.Import;
@@ -13,8 +11,6 @@ import lombok.EqualsAndHashCode;
 
 import java.lang.reflect.Field;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * This class encapsulates Reflection access at the field level. It stores a reference to a class, tightly binding a field to its corresponding
@@ -29,11 +25,15 @@ import java.util.stream.Collectors;
 @Data
 public final class ActionImportField extends ActionField<Import> {
 
-    private Boolean hasRequiredImport;
-    private List<Import> annotations;
+    private final ActionImportFieldMetadata metadata;
 
     public ActionImportField(Field field, Action action) {
-        super(field, action, Import.class);
+        this(ActionClassMetadata.of(action.getClass()).getImportField(field), action);
+    }
+
+    public ActionImportField(ActionImportFieldMetadata metadata, Action action) {
+        super(metadata.getField(), action, Import.class, metadata.getAccessor());
+        this.metadata = metadata;
     }
 
     /**
@@ -41,11 +41,7 @@ public final class ActionImportField extends ActionField<Import> {
      */
     @Override
     public List<Import> getAnnotations() {
-        if (this.annotations == null) {
-            this.annotations = Lists.newArrayList(field.getAnnotationsByType(Import.class));
-        }
-
-        return this.annotations;
+        return metadata.getAnnotations();
     }
 
     /**
@@ -59,11 +55,18 @@ public final class ActionImportField extends ActionField<Import> {
      * @return the filtered results
      */
     public <ResultType> Result<ResultType> applyFilter(Result<ResultType> data) {
+        return applyFilter(data, getValue());
+    }
+
+    /**
+     * @param currentValue the value of the field as previously read by the caller
+     * @see #applyFilter(Result)
+     */
+    public <ResultType> Result<ResultType> applyFilter(Result<ResultType> data, Object currentValue) {
         Result<ResultType> filteredResults = data;
-        Optional<ImportOptional> importOptional = getOptionalImportRequest();
 
-        if (importOptional.isPresent()) {
-            Filter filter = importOptional.get().getFilter();
+        if (currentValue instanceof ImportOptional) {
+            Filter filter = ((ImportOptional) currentValue).getFilter();
 
             if (filter != null) {
                 filteredResults = filter.apply(data);
@@ -79,9 +82,7 @@ public final class ActionImportField extends ActionField<Import> {
      * @return a list of classes from which the field can import
      */
     public List<Class> getAnnotationImportClasses() {
-        return getAnnotations().stream().
-                map(Import::actionClass).
-                collect(Collectors.toList());
+        return metadata.getImportClasses();
     }
 
     /**
@@ -100,11 +101,7 @@ public final class ActionImportField extends ActionField<Import> {
      * @return a mapping of actionClass to the corresponding annotations.
      */
     public ListMultimap<Class, Import> getAnnotationsByActionClass() {
-        ListMultimap<Class, Import> annotationsByImportClass = LinkedListMultimap.create();
-
-        getAnnotations().forEach(annotation -> annotationsByImportClass.put(annotation.actionClass(), annotation));
-
-        return annotationsByImportClass;
+        return metadata.getAnnotationsByActionClass();
     }
 
     /**
@@ -115,24 +112,7 @@ public final class ActionImportField extends ActionField<Import> {
      * @return a List of keys which should be imported from an actions of class type actionClass.
      */
     public List<String> getImportKeysByClass(Class actionClass) {
-        return getAnnotationsByActionClass(actionClass).stream().
-                map(Import::importKey).
-                collect(Collectors.toList());
-    }
-
-    /**
-     * Get the ImportOptional request assigned to this field. The returned Optional will be empty if there is no OptionalImport request to return.
-     *
-     * @return the ImportOptional request assigned to this field
-     */
-    private Optional<ImportOptional> getOptionalImportRequest() {
-        Optional<ImportOptional> value = Optional.empty();
-
-        if (isOptionalImportRequest()) {
-            value = Optional.ofNullable((ImportOptional) getValue());
-        }
-
-        return value;
+        return metadata.getImportKeysByClass().get(actionClass);
     }
 
     /**
@@ -141,18 +121,7 @@ public final class ActionImportField extends ActionField<Import> {
      * @return true, if there are any import annotations on the field marked as optional=false. false, if all annotations are marked as optional=true
      */
     public boolean hasRequiredImport() {
-        if (this.hasRequiredImport == null) {
-            this.hasRequiredImport = false;
-
-            for (Import importAnnotation : getAnnotations()) {
-                if (!importAnnotation.optional()) {
-                    this.hasRequiredImport = true;
-                    break;
-                }
-            }
-        }
-
-        return this.hasRequiredImport;
+        return metadata.isRequiredImport();
     }
 
     /**
@@ -161,7 +130,7 @@ public final class ActionImportField extends ActionField<Import> {
      * @return true, if the Field is a List type. false, if the Field type is anything else
      */
     public boolean isListType() {
-        return List.class.isAssignableFrom(field.getType());
+        return metadata.isListType();
     }
 
     public boolean isOptionalImportRequest() {
@@ -184,16 +153,27 @@ public final class ActionImportField extends ActionField<Import> {
      * @param exportValues a list of exported values which are candidates for import
      */
     public void setValueIntelligently(List<Object> exportValues) {
+        setValueIntelligently(exportValues, getValue());
+    }
+
+    /**
+     * @param currentValue the value of the field as previously read by the caller
+     * @see #setValueIntelligently(List)
+     */
+    public void setValueIntelligently(List<Object> exportValues, Object currentValue) {
+        Object value = currentValue;
+
         if (!exportValues.isEmpty()) {
             if (isListType()) {
-                setValue(exportValues);
+                value = exportValues;
             } else {
-                Object mostRecentActionExport = exportValues.get(exportValues.size() - 1);
-                setValue(mostRecentActionExport);
+                value = exportValues.get(exportValues.size() - 1);
             }
+
+            setValue(value);
         }
 
-        if (isOptionalImportRequest()) {
+        if (value instanceof ImportOptional) {
             setValue(null);
         }
     }
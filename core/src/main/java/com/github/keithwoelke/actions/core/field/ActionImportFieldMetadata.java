@@ -0,0 +1,55 @@
+package com.github.keithwoelke.actions.core.field;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.SetMultimap;
+import com.github.keithwoelke.actions.core.annotations.Import;
+import lombok.Value;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * This class stores the resolved Import metadata of a single field.
+ *
+ * @author wkwoelke
+ */
+@Value
+public class ActionImportFieldMetadata {
+
+    private final Field field;
+    private final FieldAccessor accessor;
+    private final List<Import> annotations;
+    private final List<Class> importClasses;
+    private final ListMultimap<Class, Import> annotationsByActionClass;
+    private final ListMultimap<Class, String> importKeysByClass;
+    private final boolean requiredImport;
+    private final boolean listType;
+
+    ActionImportFieldMetadata(Field field, FieldAccessor accessor) {
+        ImmutableListMultimap.Builder<Class, Import> annotationsByActionClassBuilder = ImmutableListMultimap.builder();
+        SetMultimap<Class, String> uniqueImportKeysByClass = LinkedHashMultimap.create();
+        boolean hasRequiredImport = false;
+
+        this.field = field;
+        this.accessor = accessor;
+        this.annotations = ImmutableList.copyOf(field.getAnnotationsByType(Import.class));
+
+        for (Import annotation : annotations) {
+            annotationsByActionClassBuilder.put(annotation.actionClass(), annotation);
+            uniqueImportKeysByClass.put(annotation.actionClass(), annotation.importKey());
+            hasRequiredImport |= !annotation.optional();
+        }
+
+        this.importClasses = ImmutableList.copyOf(annotations.stream().
+                map(Import::actionClass).
+                collect(Collectors.toList()));
+        this.annotationsByActionClass = annotationsByActionClassBuilder.build();
+        this.importKeysByClass = ImmutableListMultimap.copyOf(uniqueImportKeysByClass);
+        this.requiredImport = hasRequiredImport;
+        this.listType = List.class.isAssignableFrom(field.getType());
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.keithwoelke.actions.core.field;
+
+import com.github.keithwoelke.actions.core.Action;
+import com.github.keithwoelke.actions.core.result.ExportData;
+
+/**
+ * An ExportAdapter reads the Export annotated fields of an Action without Reflection. Implementations are generated at compile time by the
+ * actions-processor annotation processor and discovered through ActionAdapters.
+ *
+ * @param <ActionType> the Action class the adapter was generated for
+ * @author wkwoelke
+ * @see ActionAdapters
+ */
+public interface ExportAdapter<ActionType extends Action> {
+
+    /**
+     * Get the exported data from the Action.
+     *
+     * @param action the action to pull the export data from
+     * @return the exported data, keyed by export name
+     */
+    ExportData exportData(ActionType action);
+}
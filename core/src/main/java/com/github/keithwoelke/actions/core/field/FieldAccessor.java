@@ -0,0 +1,25 @@
+package com.github.keithwoelke.actions.core.field;
+
+/**
+ * Read/write access to a single field of an Action.
+ *
+ * @author wkwoelke
+ */
+public interface FieldAccessor {
+
+    /**
+     * Get the current value of the field.
+     *
+     * @param target the object to read the field from
+     * @return the value of the field
+     */
+    Object get(Object target);
+
+    /**
+     * Assign a value to the field.
+     *
+     * @param target the object to write the field to
+     * @param value  the value to assign
+     */
+    void set(Object target, Object value);
+}
@@ -0,0 +1,26 @@
+package com.github.keithwoelke.actions.core.field;
+
+import com.github.keithwoelke.actions.core.Action;
+
+/**
+ * An ImportAdapter provides access to the Import annotated fields of an Action without Reflection. Implementations are generated at compile time by
+ * the actions-processor annotation processor and discovered through ActionAdapters.
+ * <p>
+ * The adapter is only asked for an accessor once per field, when the metadata of the Action class is resolved. Every accessor it returns is a
+ * separate class which reads and writes its field directly, so no lookup by field name happens when a value is imported.
+ *
+ * @param <ActionType> the Action class the adapter was generated for
+ * @author wkwoelke
+ * @see ActionAdapters
+ */
+@SuppressWarnings("unused")
+public interface ImportAdapter<ActionType extends Action> {
+
+    /**
+     * Get the accessor for an Import field.
+     *
+     * @param fieldName the declared name of the field
+     * @return the accessor of the field, or null if the adapter does not cover the field
+     */
+    FieldAccessor getAccessor(String fieldName);
+}
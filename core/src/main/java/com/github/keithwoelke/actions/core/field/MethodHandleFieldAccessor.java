@@ -0,0 +1,99 @@
+package com.github.keithwoelke.actions.core.field;
+
+import lombok.SneakyThrows;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * This FieldAccessor provides read/write access to a single field through MethodHandles which are bound once when the accessor is created. Unlike toggling
+ * Field.setAccessible() around every Field.get()/Field.set() call, the access check is only performed once.
+ * <p>
+ * The handles are held in final instance fields rather than in static final fields, because there is one accessor per field and the accessors are
+ * created at runtime. The JIT could not constant-fold them either way: every import and export goes through the same call site in ActionField,
+ * which sees the accessors of every field of every Action class. What remains is a direct invokeExact() of a pre-adapted handle, without the access
+ * check and the accessibility toggling of the reflective path. See FieldAccessBenchmark in the benchmarks module.
+ * <p>
+ * Final instance fields can be assigned, as they could through Field.set() after Field.setAccessible(true). If the JVM refuses to bind a setter for
+ * such a field, the accessor falls back to Field.set(). Static final fields cannot be assigned.
+ *
+ * @author wkwoelke
+ */
+@SuppressWarnings("WeakerAccess")
+public final class MethodHandleFieldAccessor implements FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final boolean assignable;
+
+    public MethodHandleFieldAccessor(Field field) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        boolean isStaticFinal = isStatic && Modifier.isFinal(field.getModifiers());
+
+        this.field = field;
+
+        try {
+            field.setAccessible(true);
+
+            MethodHandle fieldGetter = lookup.unreflectGetter(field);
+            MethodHandle fieldSetter = isStaticFinal ? null : unreflectSetter(lookup, field);
+
+            if (isStatic) {
+                fieldGetter = MethodHandles.dropArguments(fieldGetter, 0, Object.class);
+                fieldSetter = fieldSetter == null ? null : MethodHandles.dropArguments(fieldSetter, 0, Object.class);
+            }
+
+            this.getter = fieldGetter.asType(GETTER_TYPE);
+            this.setter = fieldSetter == null ? null : fieldSetter.asType(SETTER_TYPE);
+            this.assignable = !isStaticFinal;
+        } catch (IllegalAccessException e) {
+            throw new Error(e);
+        }
+    }
+
+    /**
+     * @return the setter of the field, or null if the JVM does not permit a MethodHandle to write the (final) field
+     */
+    private static MethodHandle unreflectSetter(MethodHandles.Lookup lookup, Field field) {
+        try {
+            return lookup.unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @see FieldAccessor#get(Object)
+     */
+    @Override
+    @SneakyThrows
+    public Object get(Object target) {
+        return (Object) getter.invokeExact(target);
+    }
+
+    /**
+     * @see FieldAccessor#set(Object, Object)
+     */
+    @Override
+    @SneakyThrows
+    public void set(Object target, Object value) {
+        if (!assignable) {
+            throw new IllegalStateException(String.format("%s is static final and cannot be assigned", field));
+        }
+
+        if (setter == null) {
+            field.set(target, value);
+            return;
+        }
+
+        setter.invokeExact(target, value);
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.keithwoelke.actions.core.filter;
+
+import com.github.keithwoelke.actions.core.filter.strategies.FilterStrategy;
+import com.github.keithwoelke.actions.core.result.Result;
+
+import java.util.List;
+
+/**
+ * Keeps the filtered view of a Result which grows over the course of a scenario. The views returned by FilterSet.applyFilterStrategies(Result, List)
+ * follow later additions to the Result and only visit what was added since they were last asked, so as long as the same FilterStrategies are
+ * permitted to run, every Action is given the view of the previous one instead of a view which has to filter the whole history again.
+ * <p>
+ * The strategies are compared by identity, since the Filters hand out the same instance on every run. The views are only meant for importing
+ * data: adding to a view detaches it from the Result, see Result.filter(Predicate).
+ *
+ * @param <ResultType> the Result Type of the Result object
+ * @author wkwoelke
+ */
+public class AppliedFilters<ResultType> {
+
+    private final Result<ResultType> results;
+    private List<FilterStrategy> filterStrategies;
+    private Result<ResultType> filteredResults;
+
+    public AppliedFilters(Result<ResultType> results) {
+        this.results = results;
+    }
+
+    /**
+     * @param filterStrategies the strategies permitted to run, as returned by FilterSet.consumeRunTokens()
+     * @return the Result filtered by the strategies. See FilterSet.applyFilterStrategies(Result, List)
+     */
+    public synchronized Result<ResultType> apply(List<FilterStrategy> filterStrategies) {
+        if (filteredResults == null || !isSame(filterStrategies, this.filterStrategies)) {
+            this.filterStrategies = filterStrategies;
+            filteredResults = FilterSet.applyFilterStrategies(results, filterStrategies);
+        }
+
+        return filteredResults;
+    }
+
+    private static boolean isSame(List<FilterStrategy> filterStrategies, List<FilterStrategy> previousFilterStrategies) {
+        if (filterStrategies.size() != previousFilterStrategies.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < filterStrategies.size(); i++) {
+            if (filterStrategies.get(i) != previousFilterStrategies.get(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
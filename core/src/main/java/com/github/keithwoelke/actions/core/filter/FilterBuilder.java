@@ -0,0 +1,100 @@
+package com.github.keithwoelke.actions.core.filter;
+
+import com.github.keithwoelke.actions.core.Action;
+import com.github.keithwoelke.actions.core.filter.filters.ActionClassFilter;
+import com.github.keithwoelke.actions.core.filter.filters.ExcludeFilter;
+import com.github.keithwoelke.actions.core.filter.filters.ExportKeyFilter;
+import com.github.keithwoelke.actions.core.filter.filters.IncludeFilter;
+import com.github.keithwoelke.actions.core.filter.filters.LastActionsFilter;
+import com.github.keithwoelke.actions.core.filter.filters.SinceActionFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Builder for Filters to allow for cleaner Filter creation without inhibiting Dependency Injection.
+ *
+ * @author wkwoelke
+ */
+@SuppressWarnings("unused")
+@Service
+public class FilterBuilder {
+
+    private final FilterObjectBuilder filterObjectBuilder;
+
+    @Autowired
+    public FilterBuilder(FilterObjectBuilder filterObjectBuilder) {
+        this.filterObjectBuilder = filterObjectBuilder;
+    }
+
+    public ActionClassFilter actionClassFilter(Class... actionClasses) {
+        return new ActionClassFilter(filterObjectBuilder, actionClasses);
+    }
+
+    public ActionClassFilter actionClassFilter(PersistenceStrategy persistenceStrategy, Class... actionClasses) {
+        return new ActionClassFilter(filterObjectBuilder, persistenceStrategy, actionClasses);
+    }
+
+    public ActionClassFilter actionClassFilter(int timesToExecute, Class... actionClasses) {
+        return new ActionClassFilter(filterObjectBuilder, timesToExecute, actionClasses);
+    }
+
+    public ExcludeFilter excludeFilter(Action... actions) {
+        return new ExcludeFilter(filterObjectBuilder, actions);
+    }
+
+    public ExcludeFilter excludeFilter(PersistenceStrategy persistenceStrategy, Action... actions) {
+        return new ExcludeFilter(filterObjectBuilder, persistenceStrategy, actions);
+    }
+
+    public ExcludeFilter excludeFilter(int timesToExecute, Action... actions) {
+        return new ExcludeFilter(filterObjectBuilder, timesToExecute, actions);
+    }
+
+    public ExportKeyFilter exportKeyFilter(String... exportKeys) {
+        return new ExportKeyFilter(filterObjectBuilder, exportKeys);
+    }
+
+    public ExportKeyFilter exportKeyFilter(PersistenceStrategy persistenceStrategy, String... exportKeys) {
+        return new ExportKeyFilter(filterObjectBuilder, persistenceStrategy, exportKeys);
+    }
+
+    public ExportKeyFilter exportKeyFilter(int timesToExecute, String... exportKeys) {
+        return new ExportKeyFilter(filterObjectBuilder, timesToExecute, exportKeys);
+    }
+
+    public IncludeFilter includeFilter(Action... actions) {
+        return new IncludeFilter(filterObjectBuilder, actions);
+    }
+
+    public IncludeFilter includeFilter(PersistenceStrategy persistenceStrategy, Action... actions) {
+        return new IncludeFilter(filterObjectBuilder, persistenceStrategy, actions);
+    }
+
+    public IncludeFilter includeFilter(int timesToExecute, Action... actions) {
+        return new IncludeFilter(filterObjectBuilder, timesToExecute, actions);
+    }
+
+    public LastActionsFilter lastActionsFilter(int count) {
+        return new LastActionsFilter(filterObjectBuilder, count);
+    }
+
+    public LastActionsFilter lastActionsFilter(PersistenceStrategy persistenceStrategy, int count) {
+        return new LastActionsFilter(filterObjectBuilder, persistenceStrategy, count);
+    }
+
+    public LastActionsFilter lastActionsFilter(int timesToExecute, int count) {
+        return new LastActionsFilter(filterObjectBuilder, timesToExecute, count);
+    }
+
+    public SinceActionFilter sinceActionFilter(Action marker) {
+        return new SinceActionFilter(filterObjectBuilder, marker);
+    }
+
+    public SinceActionFilter sinceActionFilter(PersistenceStrategy persistenceStrategy, Action marker) {
+        return new SinceActionFilter(filterObjectBuilder, persistenceStrategy, marker);
+    }
+
+    public SinceActionFilter sinceActionFilter(int timesToExecute, Action marker) {
+        return new SinceActionFilter(filterObjectBuilder, timesToExecute, marker);
+    }
+}
@@ -1,10 +1,15 @@
 package com.github.keithwoelke.actions.core.filter;
 
 import com.github.keithwoelke.actions.core.Action;
+import com.github.keithwoelke.actions.core.filter.strategies.ActionClassFilterStrategy;
 import com.github.keithwoelke.actions.core.filter.strategies.ExcludeFilterStrategy;
+import com.github.keithwoelke.actions.core.filter.strategies.ExportKeyFilterStrategy;
 import com.github.keithwoelke.actions.core.filter.strategies.FilterStrategy;
 import com.github.keithwoelke.actions.core.filter.strategies.IncludeFilterStrategy;
+import com.github.keithwoelke.actions.core.filter.strategies.LastActionsFilterStrategy;
+import com.github.keithwoelke.actions.core.filter.strategies.SinceActionFilterStrategy;
 import com.github.keithwoelke.actions.core.result.Result;
+import com.github.keithwoelke.actions.core.result.RetentionPolicy;
 import org.springframework.stereotype.Service;
 
 /**
@@ -15,10 +20,18 @@ import org.springframework.stereotype.Service;
 @Service
 public class FilterObjectBuilder {
 
+    public FilterStrategy getActionClassFilterStrategy(Class[] actionClasses) {
+        return new ActionClassFilterStrategy(actionClasses);
+    }
+
     public FilterStrategy getExcludeFilterStrategy(Action[] actions) {
         return new ExcludeFilterStrategy(actions);
     }
 
+    public FilterStrategy getExportKeyFilterStrategy(String[] exportKeys) {
+        return new ExportKeyFilterStrategy(exportKeys);
+    }
+
     public FilterSet getFilterSet() {
         return new FilterSet();
     }
@@ -27,6 +40,10 @@ public class FilterObjectBuilder {
         return new IncludeFilterStrategy(actions);
     }
 
+    public FilterStrategy getLastActionsFilterStrategy(int count) {
+        return new LastActionsFilterStrategy(count);
+    }
+
     public Persistence getPersistence(int timesToExecute) {
         return new Persistence(timesToExecute);
     }
@@ -34,4 +51,12 @@ public class FilterObjectBuilder {
     public <ResultType> Result<ResultType> getResult() {
         return new Result<>();
     }
+
+    public <ResultType> Result<ResultType> getResult(RetentionPolicy retentionPolicy) {
+        return new Result<>(retentionPolicy);
+    }
+
+    public FilterStrategy getSinceActionFilterStrategy(Action marker) {
+        return new SinceActionFilterStrategy(marker);
+    }
 }
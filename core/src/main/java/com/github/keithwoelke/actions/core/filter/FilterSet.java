@@ -0,0 +1,116 @@
+package com.github.keithwoelke.actions.core.filter;
+
+import com.google.common.collect.Lists;
+import com.github.keithwoelke.actions.core.Action;
+import com.github.keithwoelke.actions.core.filter.filters.Filter;
+import com.github.keithwoelke.actions.core.filter.strategies.FilterStrategy;
+import com.github.keithwoelke.actions.core.result.Result;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Predicate;
+
+/**
+ * A FilterSet stores Filters and processes both Filters and FilterControls. When process(Action) is called, if the provided Action is a Filter, it
+ * will simply be stored for later use. If the Action is a FilterControl, it will be immediately applied to all stored Filters.
+ * <p>
+ * The Filters are kept in a copy-on-write set, so a FilterSet can be used by several threads at once. Filters are added rarely and iterated on every
+ * Action, so iterating never locks and always sees a consistent snapshot of the Filters in the order they were added.
+ *
+ * @author wkwoelke
+ */
+@Data
+public class FilterSet {
+
+    private Set<Filter> filters = new CopyOnWriteArraySet<>();
+
+    /**
+     * Apply the Filters sequentially, accumulating all changes as each intermediate result is processed by subsequent filters. Every Filter consumes
+     * a run token, in order, exactly as if Filter.apply(Result) had been called on each of them. The Filters which are permitted to run are then
+     * applied in a single pass. See applyFilterStrategies(Result, List).
+     *
+     * @param results      the Result object to filter
+     * @param <ResultType> the Result Type of the Result object
+     * @return the filtered results
+     */
+    public <ResultType> Result<ResultType> applyFilters(Result<ResultType> results) {
+        return applyFilterStrategies(results, consumeRunTokens());
+    }
+
+    /**
+     * Apply the FilterStrategies in order. The predicates of consecutive strategies which expose one are combined, so that the Result is filtered
+     * once for all of them. Strategies without a predicate are applied to the intermediate Result as usual. The outcome is the same as applying each
+     * strategy in turn.
+     *
+     * @param results          the Result object to filter
+     * @param filterStrategies the strategies to apply
+     * @param <ResultType>     the Result Type of the Result object
+     * @return the filtered results
+     */
+    public static <ResultType> Result<ResultType> applyFilterStrategies(Result<ResultType> results, List<FilterStrategy> filterStrategies) {
+        Predicate<Action> combinedPredicate = null;
+
+        for (FilterStrategy filterStrategy : filterStrategies) {
+            Predicate<Action> actionPredicate = filterStrategy.getActionPredicate();
+
+            if (actionPredicate != null) {
+                combinedPredicate = combinedPredicate == null ? actionPredicate : combinedPredicate.and(actionPredicate);
+                continue;
+            }
+
+            if (combinedPredicate != null) {
+                results = results.filter(combinedPredicate);
+                combinedPredicate = null;
+            }
+
+            results = filterStrategy.apply(results);
+        }
+
+        return combinedPredicate == null ? results : results.filter(combinedPredicate);
+    }
+
+    /**
+     * Consume a run token from every Filter and return the FilterStrategies which were permitted to run, in the order they should be applied.
+     * This allows the token accounting to happen in scenario order even when the filtering itself is deferred. The strategies do not capture the
+     * Result as it was when this method was called: strategies which depend on the position in the execution order, such as the number of most
+     * recent Actions or the most recent execution of a marker, are evaluated against the Result they are applied to. A deferred caller must apply
+     * them to a Result which holds the same executions, which is why the parallel scheduler only applies them once every earlier Action has been
+     * committed.
+     *
+     * @return the strategies of the Filters which consumed a run token
+     */
+    public List<FilterStrategy> consumeRunTokens() {
+        List<FilterStrategy> filterStrategies = Lists.newArrayList();
+
+        for (Filter filter : filters) {
+            if (filter.getPersistence().consumeRunToken()) {
+                filterStrategies.add(filter.getFilterStrategy());
+            }
+        }
+
+        return filterStrategies;
+    }
+
+    /**
+     * Processes either a Filter or a FilterControl. If a Filter is provided, it will be stored for later use. If a FilterControl is supplied, it will
+     * be immediately executed. All other Action types will be ignored.
+     *
+     * @param action the Action to process
+     * @return true, if a Filter or FilterControl was processed. false, if any other type of action was provided
+     */
+    public boolean process(Action action) {
+        if (action instanceof Filter) {
+            filters.add((Filter) action);
+            return true;
+        }
+
+        if (action instanceof FilterControl) {
+            ((FilterControl) action).apply();
+            return true;
+        }
+
+        return false;
+    }
+}
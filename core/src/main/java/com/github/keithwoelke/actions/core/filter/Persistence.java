@@ -0,0 +1,59 @@
+package com.github.keithwoelke.actions.core.filter;
+
+import lombok.Data;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The Persistence class is responsible for storing/tracking the number of remaining times a Filter should be applied.
+ * <p>
+ * A Persistence may be shared by scenarios which run concurrently. Run tokens are consumed atomically, so every token is handed out exactly once. A
+ * Persistence which is exhausted, disabled or set to PersistenceStrategy.RUN_FOREVER never has to write its count, so only a Persistence with a
+ * limited number of runs left is contended.
+ *
+ * @author wkwoelke
+ */
+@SuppressWarnings("unused")
+@Data
+public class Persistence {
+
+    private final AtomicInteger timesToExecute;
+
+    public Persistence(PersistenceStrategy persistenceStrategy) {
+        this(persistenceStrategy.timesToExecute());
+    }
+
+    public Persistence(int timesToExecute) {
+        this.timesToExecute = new AtomicInteger(timesToExecute);
+    }
+
+    /**
+     * This method will determine if a Filter can be applied. If an execution is permissible, the timesToExecute will be decremented and a value of
+     * true will be returned. If a value of false is returned, it means the filter has exhausted its allotted runs or is in a disabled state.
+     * PersistenceStrategy.RUN_FOREVER is never decremented, so it stays RUN_FOREVER however often it is consumed. This includes a count of
+     * Integer.MAX_VALUE passed to the int constructor, which is the value of RUN_FOREVER.
+     *
+     * @return true, if the timesToExecute > 0. false, if timesToExecute is PersistenceStrategy.DISABLED or a value of 0
+     */
+    public boolean consumeRunToken() {
+        while (true) {
+            int remaining = timesToExecute.get();
+
+            if (remaining <= 0) {
+                return false;
+            }
+
+            if (remaining == PersistenceStrategy.RUN_FOREVER.timesToExecute() || timesToExecute.compareAndSet(remaining, remaining - 1)) {
+                return true;
+            }
+        }
+    }
+
+    public int getTimesToExecute() {
+        return timesToExecute.get();
+    }
+
+    public void setTimesToExecute(int timesToExecute) {
+        this.timesToExecute.set(timesToExecute);
+    }
+}
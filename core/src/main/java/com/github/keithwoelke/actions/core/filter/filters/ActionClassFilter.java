@@ -0,0 +1,26 @@
+package com.github.keithwoelke.actions.core.filter.filters;
+
+import com.github.keithwoelke.actions.core.filter.FilterObjectBuilder;
+import com.github.keithwoelke.actions.core.filter.PersistenceStrategy;
+import com.github.keithwoelke.actions.core.filter.strategies.ActionClassFilterStrategy;
+
+/**
+ * This filter wraps the logic defined in the ActionClassFilterStrategy.
+ *
+ * @author wkwoelke
+ * @see ActionClassFilterStrategy
+ */
+public class ActionClassFilter extends Filter {
+
+    public ActionClassFilter(FilterObjectBuilder filterObjectBuilder, Class... actionClasses) {
+        this(filterObjectBuilder, null, actionClasses);
+    }
+
+    public ActionClassFilter(FilterObjectBuilder filterObjectBuilder, PersistenceStrategy persistenceStrategy, Class... actionClasses) {
+        super(filterObjectBuilder, filterObjectBuilder.getActionClassFilterStrategy(actionClasses), persistenceStrategy);
+    }
+
+    public ActionClassFilter(FilterObjectBuilder filterObjectBuilder, int timesToExecute, Class... actionClasses) {
+        super(filterObjectBuilder, filterObjectBuilder.getActionClassFilterStrategy(actionClasses), timesToExecute);
+    }
+}
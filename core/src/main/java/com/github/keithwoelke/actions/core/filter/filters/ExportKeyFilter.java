@@ -0,0 +1,26 @@
+package com.github.keithwoelke.actions.core.filter.filters;
+
+import com.github.keithwoelke.actions.core.filter.FilterObjectBuilder;
+import com.github.keithwoelke.actions.core.filter.PersistenceStrategy;
+import com.github.keithwoelke.actions.core.filter.strategies.ExportKeyFilterStrategy;
+
+/**
+ * This filter wraps the logic defined in the ExportKeyFilterStrategy.
+ *
+ * @author wkwoelke
+ * @see ExportKeyFilterStrategy
+ */
+public class ExportKeyFilter extends Filter {
+
+    public ExportKeyFilter(FilterObjectBuilder filterObjectBuilder, String... exportKeys) {
+        this(filterObjectBuilder, null, exportKeys);
+    }
+
+    public ExportKeyFilter(FilterObjectBuilder filterObjectBuilder, PersistenceStrategy persistenceStrategy, String... exportKeys) {
+        super(filterObjectBuilder, filterObjectBuilder.getExportKeyFilterStrategy(exportKeys), persistenceStrategy);
+    }
+
+    public ExportKeyFilter(FilterObjectBuilder filterObjectBuilder, int timesToExecute, String... exportKeys) {
+        super(filterObjectBuilder, filterObjectBuilder.getExportKeyFilterStrategy(exportKeys), timesToExecute);
+    }
+}
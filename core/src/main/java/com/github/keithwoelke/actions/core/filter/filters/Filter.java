@@ -20,7 +20,7 @@ import lombok.Data;
 public class Filter extends ActionImpl implements Action {
 
     private final FilterStrategy filterStrategy;
-    private Persistence persistence;
+    private volatile Persistence persistence;
 
     public Filter(FilterObjectBuilder filterObjectBuilder, FilterStrategy filterStrategy) {
         this(filterObjectBuilder, filterStrategy, null);
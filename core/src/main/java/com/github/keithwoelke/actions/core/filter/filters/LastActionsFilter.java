@@ -0,0 +1,26 @@
+package com.github.keithwoelke.actions.core.filter.filters;
+
+import com.github.keithwoelke.actions.core.filter.FilterObjectBuilder;
+import com.github.keithwoelke.actions.core.filter.PersistenceStrategy;
+import com.github.keithwoelke.actions.core.filter.strategies.LastActionsFilterStrategy;
+
+/**
+ * This filter wraps the logic defined in the LastActionsFilterStrategy.
+ *
+ * @author wkwoelke
+ * @see LastActionsFilterStrategy
+ */
+public class LastActionsFilter extends Filter {
+
+    public LastActionsFilter(FilterObjectBuilder filterObjectBuilder, int count) {
+        this(filterObjectBuilder, null, count);
+    }
+
+    public LastActionsFilter(FilterObjectBuilder filterObjectBuilder, PersistenceStrategy persistenceStrategy, int count) {
+        super(filterObjectBuilder, filterObjectBuilder.getLastActionsFilterStrategy(count), persistenceStrategy);
+    }
+
+    public LastActionsFilter(FilterObjectBuilder filterObjectBuilder, int timesToExecute, int count) {
+        super(filterObjectBuilder, filterObjectBuilder.getLastActionsFilterStrategy(count), timesToExecute);
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.keithwoelke.actions.core.filter.filters;
+
+import com.github.keithwoelke.actions.core.Action;
+import com.github.keithwoelke.actions.core.filter.FilterObjectBuilder;
+import com.github.keithwoelke.actions.core.filter.PersistenceStrategy;
+import com.github.keithwoelke.actions.core.filter.strategies.SinceActionFilterStrategy;
+
+/**
+ * This filter wraps the logic defined in the SinceActionFilterStrategy.
+ *
+ * @author wkwoelke
+ * @see SinceActionFilterStrategy
+ */
+public class SinceActionFilter extends Filter {
+
+    public SinceActionFilter(FilterObjectBuilder filterObjectBuilder, Action marker) {
+        this(filterObjectBuilder, null, marker);
+    }
+
+    public SinceActionFilter(FilterObjectBuilder filterObjectBuilder, PersistenceStrategy persistenceStrategy, Action marker) {
+        super(filterObjectBuilder, filterObjectBuilder.getSinceActionFilterStrategy(marker), persistenceStrategy);
+    }
+
+    public SinceActionFilter(FilterObjectBuilder filterObjectBuilder, int timesToExecute, Action marker) {
+        super(filterObjectBuilder, filterObjectBuilder.getSinceActionFilterStrategy(marker), timesToExecute);
+    }
+}
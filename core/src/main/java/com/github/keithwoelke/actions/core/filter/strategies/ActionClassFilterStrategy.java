@@ -0,0 +1,53 @@
+package com.github.keithwoelke.actions.core.filter.strategies;
+
+import com.google.common.collect.Sets;
+import com.github.keithwoelke.actions.core.Action;
+import com.github.keithwoelke.actions.core.result.Result;
+import lombok.Data;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * This Filter Strategy takes a list of Action classes. It will filter out all Actions which are not of one of the classes specified when the filter is
+ * constructed.
+ * <p>
+ * Example:
+ * <p>
+ * Filter is constructed with [Class2].
+ * <p>
+ * The filter is applied to [Class1 action1, Class2 action2, Class1 action3, Class2 action4]
+ * <p>
+ * The results will be returned for [action2, action4]
+ * <p>
+ * Classes are matched exactly, in the same way the Result indexes Actions by class, so subclasses of a specified class are filtered out.
+ *
+ * @author wkwoelke
+ */
+@Data
+public class ActionClassFilterStrategy implements FilterStrategy {
+
+    private Set<Class> actionClasses;
+
+    public ActionClassFilterStrategy(Class... actionClasses) {
+        this.actionClasses = Sets.newHashSet(actionClasses);
+    }
+
+    /**
+     * The filtered Result is a view over the provided Result. See Result.filter(Predicate).
+     *
+     * @see FilterStrategy#apply(Result)
+     */
+    @Override
+    public <ResultType> Result<ResultType> apply(Result<ResultType> results) {
+        return results.filter(getActionPredicate());
+    }
+
+    /**
+     * @see FilterStrategy#getActionPredicate()
+     */
+    @Override
+    public Predicate<Action> getActionPredicate() {
+        return action -> actionClasses.contains(action.getClass());
+    }
+}
@@ -1,13 +1,13 @@
 package com.github.keithwoelke.actions.core.filter.strategies;
 
-import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import com.github.keithwoelke.actions.core.Action;
-import com.github.keithwoelke.actions.core.result.ActionDetails;
 import com.github.keithwoelke.actions.core.result.Result;
 import lombok.Data;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * This Filter Strategy takes a list of actions to which it should be applied. It will filter out all Actions which are specified when the filter is
@@ -20,27 +20,36 @@ import java.util.stream.Collectors;
  * The filter is applied to [action1, action2, action3, action4]
  * <p>
  * The results will be returned for [action1, action4]
+ * <p>
+ * Actions are matched by identity, not by equals(), using a set which is built once when the strategy is created.
  *
  * @author wkwoelke
  */
 @Data
 public class ExcludeFilterStrategy implements FilterStrategy {
 
-    private List<Action> actions;
+    private Set<Action> actions;
 
     public ExcludeFilterStrategy(Action... actions) {
-        this.actions = Lists.newArrayList(actions);
+        this.actions = Sets.newIdentityHashSet();
+        Collections.addAll(this.actions, actions);
     }
 
     /**
+     * The filtered Result is a view over the provided Result. See Result.filter(Predicate).
+     *
      * @see FilterStrategy#apply(Result)
      */
     @Override
     public <ResultType> Result<ResultType> apply(Result<ResultType> results) {
-        List<ActionDetails<ResultType>> filteredActionDetails = results.getActionDetails().stream().
-                filter(details -> !actions.contains(details.getAction())).
-                collect(Collectors.toList());
+        return results.filter(getActionPredicate());
+    }
 
-        return new Result<>(filteredActionDetails);
+    /**
+     * @see FilterStrategy#getActionPredicate()
+     */
+    @Override
+    public Predicate<Action> getActionPredicate() {
+        return action -> !actions.contains(action);
     }
 }
@@ -0,0 +1,44 @@
+package com.github.keithwoelke.actions.core.filter.strategies;
+
+import com.google.common.collect.Sets;
+import com.github.keithwoelke.actions.core.result.Result;
+import lombok.Data;
+
+import java.util.Set;
+
+/**
+ * This Filter Strategy takes a list of export keys. It will filter out every Action execution which did not export a value under at least one of the
+ * keys specified when the filter is constructed.
+ * <p>
+ * Example:
+ * <p>
+ * Filter is constructed with ["token"].
+ * <p>
+ * The filter is applied to [action1 (exported "token"), action2 (exported "id"), action3 (exported "token" and "id")]
+ * <p>
+ * The results will be returned for [action1, action3]
+ * <p>
+ * The decision is made per execution, so an Action which was executed more than once is only kept for the executions which exported a key. Classes
+ * which never exported any of the keys, or whose executions all exported one of them, are decided on from the exported values of the Result.
+ *
+ * @author wkwoelke
+ */
+@Data
+public class ExportKeyFilterStrategy implements FilterStrategy {
+
+    private Set<String> exportKeys;
+
+    public ExportKeyFilterStrategy(String... exportKeys) {
+        this.exportKeys = Sets.newHashSet(exportKeys);
+    }
+
+    /**
+     * The filtered Result is a view over the provided Result. See Result.filterExportKeys(Set).
+     *
+     * @see FilterStrategy#apply(Result)
+     */
+    @Override
+    public <ResultType> Result<ResultType> apply(Result<ResultType> results) {
+        return results.filterExportKeys(exportKeys);
+    }
+}
@@ -1,7 +1,10 @@
 package com.github.keithwoelke.actions.core.filter.strategies;
 
+import com.github.keithwoelke.actions.core.Action;
 import com.github.keithwoelke.actions.core.result.Result;
 
+import java.util.function.Predicate;
+
 /**
  * This interface defines the behavior of a FilterStrategy. FilterStrategies are used in conjunction with Filters in order to define the logic for
  * filtering Results.
@@ -18,4 +21,14 @@ public interface FilterStrategy {
      * @return the filtered results
      */
     <ResultType> Result<ResultType> apply(Result<ResultType> results);
+
+    /**
+     * Strategies which decide for each Action on its own, independently of the other Actions in the Result, can expose that decision as a
+     * predicate. The FilterSet combines the predicates of consecutive strategies and filters the Result once, instead of once per strategy.
+     *
+     * @return the predicate an Action must match to be kept, or null if the strategy must be applied to the Result through apply(Result)
+     */
+    default Predicate<Action> getActionPredicate() {
+        return null;
+    }
 }
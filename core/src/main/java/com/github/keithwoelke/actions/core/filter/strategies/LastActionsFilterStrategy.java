@@ -0,0 +1,42 @@
+package com.github.keithwoelke.actions.core.filter.strategies;
+
+import com.github.keithwoelke.actions.core.result.Result;
+import lombok.Data;
+
+/**
+ * This Filter Strategy takes the number of Action executions to keep. It will filter out all but the most recent executions.
+ * <p>
+ * Example:
+ * <p>
+ * Filter is constructed with 2.
+ * <p>
+ * The filter is applied to [action1, action2, action3, action4]
+ * <p>
+ * The results will be returned for [action3, action4]
+ * <p>
+ * The filtered Result is a view over the provided Result which starts at the count-th most recent execution. The start is found from the sequence
+ * numbers of the most recent executions of each class, so neither the history nor the kept executions are copied. See Result.filterLast(int).
+ *
+ * @author wkwoelke
+ */
+@Data
+public class LastActionsFilterStrategy implements FilterStrategy {
+
+    private final int count;
+
+    public LastActionsFilterStrategy(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("The number of Actions to keep must not be negative");
+        }
+
+        this.count = count;
+    }
+
+    /**
+     * @see FilterStrategy#apply(Result)
+     */
+    @Override
+    public <ResultType> Result<ResultType> apply(Result<ResultType> results) {
+        return results.filterLast(count);
+    }
+}
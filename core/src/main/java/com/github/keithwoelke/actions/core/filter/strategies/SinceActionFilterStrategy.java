@@ -0,0 +1,40 @@
+package com.github.keithwoelke.actions.core.filter.strategies;
+
+import com.github.keithwoelke.actions.core.Action;
+import com.github.keithwoelke.actions.core.result.Result;
+import lombok.Data;
+
+/**
+ * This Filter Strategy takes a marker Action. It will filter out the marker and every Action which was executed before the most recent execution of
+ * the marker. If the marker has not been executed, every Action is filtered out.
+ * <p>
+ * Example:
+ * <p>
+ * Filter is constructed with action2.
+ * <p>
+ * The filter is applied to [action1, action2, action3, action4]
+ * <p>
+ * The results will be returned for [action3, action4]
+ * <p>
+ * The marker is matched by identity and is searched for among the executions of its class only. The filtered Result is a view over the provided
+ * Result which starts after the sequence number of that execution, so nothing is copied. See Result.filterSince(Action).
+ *
+ * @author wkwoelke
+ */
+@Data
+public class SinceActionFilterStrategy implements FilterStrategy {
+
+    private final Action marker;
+
+    public SinceActionFilterStrategy(Action marker) {
+        this.marker = marker;
+    }
+
+    /**
+     * @see FilterStrategy#apply(Result)
+     */
+    @Override
+    public <ResultType> Result<ResultType> apply(Result<ResultType> results) {
+        return results.filterSince(marker);
+    }
+}
@@ -0,0 +1,151 @@
+package com.github.keithwoelke.actions.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with log-linear buckets, similar to an HdrHistogram. Values below 64 nanoseconds are recorded exactly and larger
+ * values are recorded with a relative error of at most 1/32 (about 3%). Values above roughly 18 minutes are recorded as the maximum trackable value.
+ * <p>
+ * Recording is wait-free. The count, the sum and the maximum are striped (LongAdder and LongAccumulator), so threads recording into the same
+ * histogram do not contend on a single counter; the bucket counts are spread over many slots already. Histograms can be merged, so per-thread or
+ * per-run histograms can be combined into a single view. Reads are not atomic with respect to concurrent writes, so a percentile may be off by the values recorded while
+ * it is being computed.
+ *
+ * @author wkwoelke
+ */
+@SuppressWarnings("WeakerAccess")
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 6;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+    static final long MAX_TRACKABLE_VALUE = (1L << 40) - 1;
+    static final int BUCKET_COUNT = getIndex(MAX_TRACKABLE_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Record a single latency.
+     *
+     * @param nanos the latency in nanoseconds. Negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_TRACKABLE_VALUE);
+
+        counts.incrementAndGet(getIndex(value));
+        totalCount.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    /**
+     * Add every value recorded by the other histogram to this histogram.
+     *
+     * @param other the histogram to merge into this one
+     */
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = other.counts.get(i);
+
+            if (count != 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+
+        totalCount.add(other.totalCount.sum());
+        totalNanos.add(other.totalNanos.sum());
+        maxNanos.accumulate(other.maxNanos.get());
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * @return the mean of the recorded values in nanoseconds, or 0 if no value has been recorded
+     */
+    public double getMean() {
+        long count = totalCount.sum();
+
+        return count == 0 ? 0 : (double) totalNanos.sum() / count;
+    }
+
+    /**
+     * @return the largest recorded value in nanoseconds
+     */
+    public long getMax() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Get the value at the given percentile. The returned value is the highest value which is equivalent to the recorded values at that percentile,
+     * so it never under-reports a latency.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value at the percentile in nanoseconds, or 0 if no value has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+
+        if (count == 0) {
+            return 0;
+        }
+
+        long countAtPercentile = Math.max(1, (long) Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * count));
+        long runningCount = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            runningCount += snapshot[i];
+
+            if (runningCount >= countAtPercentile) {
+                return Math.min(getHighestEquivalentValue(i), getMax());
+            }
+        }
+
+        return getMax();
+    }
+
+    /**
+     * @see #getValueAtPercentile(double)
+     */
+    public long getValueAtPercentile(double percentile, TimeUnit timeUnit) {
+        return timeUnit.convert(getValueAtPercentile(percentile), TimeUnit.NANOSECONDS);
+    }
+
+    static int getIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> shift);
+
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + (subBucket - SUB_BUCKET_HALF_COUNT);
+    }
+
+    static long getHighestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
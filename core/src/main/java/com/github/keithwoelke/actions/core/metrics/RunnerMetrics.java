@@ -0,0 +1,105 @@
+package com.github.keithwoelke.actions.core.metrics;
+
+import com.github.keithwoelke.actions.core.ActionRunner.ActionStage;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Collects the latency of every ActionStage per Action class. Register an instance through RunnerOptions.metrics to have the ActionRunner record into
+ * it. Recording is lock-free once a stage of an Action class has been seen, and the histograms are only allocated for stages an Action class actually
+ * executes.
+ * <p>
+ * A RunnerMetrics instance may be shared by any number of ActionRunners and threads, and the metrics of several instances can be merged.
+ *
+ * @author wkwoelke
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public class RunnerMetrics {
+
+    private static final int STAGE_COUNT = ActionStage.values().length;
+
+    private final ConcurrentMap<Class, AtomicReferenceArray<LatencyHistogram>> histogramsByClass = new ConcurrentHashMap<>();
+
+    /**
+     * Record the latency of a stage.
+     *
+     * @param actionClass the class of the Action which executed the stage
+     * @param stage       the stage
+     * @param nanos       the latency in nanoseconds
+     */
+    public void record(Class actionClass, ActionStage stage, long nanos) {
+        getOrCreateHistogram(actionClass, stage).record(nanos);
+    }
+
+    /**
+     * @return the Action classes for which at least one stage has been recorded
+     */
+    public Set<Class> getActionClasses() {
+        return Collections.unmodifiableSet(histogramsByClass.keySet());
+    }
+
+    /**
+     * Get the live histogram of a stage. The histogram will continue to be updated as further latencies are recorded.
+     *
+     * @param actionClass the class of the Action
+     * @param stage       the stage
+     * @return the histogram, or null if the stage has never been recorded for the Action class
+     */
+    public LatencyHistogram getHistogram(Class actionClass, ActionStage stage) {
+        AtomicReferenceArray<LatencyHistogram> histograms = histogramsByClass.get(actionClass);
+
+        return histograms == null ? null : histograms.get(stage.ordinal());
+    }
+
+    /**
+     * Get the latency of a stage at the given percentile.
+     *
+     * @param actionClass the class of the Action
+     * @param stage       the stage
+     * @param percentile  the percentile, between 0 and 100
+     * @return the latency in nanoseconds, or 0 if the stage has never been recorded for the Action class
+     */
+    public long getValueAtPercentile(Class actionClass, ActionStage stage, double percentile) {
+        LatencyHistogram histogram = getHistogram(actionClass, stage);
+
+        return histogram == null ? 0 : histogram.getValueAtPercentile(percentile);
+    }
+
+    /**
+     * Add every latency recorded by the other RunnerMetrics to this instance.
+     *
+     * @param other the metrics to merge into this one
+     */
+    public void merge(RunnerMetrics other) {
+        other.histogramsByClass.forEach((actionClass, histograms) -> {
+            for (ActionStage stage : ActionStage.values()) {
+                LatencyHistogram histogram = histograms.get(stage.ordinal());
+
+                if (histogram != null) {
+                    getOrCreateHistogram(actionClass, stage).merge(histogram);
+                }
+            }
+        });
+    }
+
+    private LatencyHistogram getOrCreateHistogram(Class actionClass, ActionStage stage) {
+        AtomicReferenceArray<LatencyHistogram> histograms = histogramsByClass.get(actionClass);
+
+        if (histograms == null) {
+            histograms = histogramsByClass.computeIfAbsent(actionClass, key -> new AtomicReferenceArray<>(STAGE_COUNT));
+        }
+
+        LatencyHistogram histogram = histograms.get(stage.ordinal());
+
+        if (histogram == null) {
+            histograms.compareAndSet(stage.ordinal(), null, new LatencyHistogram());
+            histogram = histograms.get(stage.ordinal());
+        }
+
+        return histogram;
+    }
+}
@@ -5,7 +5,7 @@ import lombok.Data;
 
 /**
  * This class is responsible for storing the details of an Action execution. It stores the data which was exported by the action, the result of the
- * Action.doAction() call, the action itself, and its Class type.
+ * Action.doAction() call, the action itself, its Class type and whether the execution was validated.
  *
  * @param <ResultType> the Result Type of the Action
  * @author wkwoelke
@@ -17,11 +17,20 @@ public class ActionDetails<ResultType> {
     private final ResultType result;
     private final Action action;
     private final Class actionClass;
+    /**
+     * false, if the validation stages were skipped because the execution was not chosen by the ValidationSampler of the runner.
+     */
+    private final boolean validated;
 
     public ActionDetails(Action action, ResultType result, ExportData actionExportData) {
+        this(action, result, actionExportData, true);
+    }
+
+    public ActionDetails(Action action, ResultType result, ExportData actionExportData, boolean validated) {
         this.actionExportData = actionExportData;
         this.result = result;
         this.action = action;
         this.actionClass = action.getClass();
+        this.validated = validated;
     }
 }
@@ -0,0 +1,143 @@
+package com.github.keithwoelke.actions.core.result;
+
+import com.google.common.collect.LinkedListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Multimaps;
+import com.google.common.collect.Sets;
+import com.github.keithwoelke.actions.core.Action;
+import com.github.keithwoelke.actions.core.result.Result.IndexedActionDetails;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * A read-only view of the ActionDetails of a first Result followed by those of a later Result, as if the later Result had been added to the first.
+ * Nothing is copied when the view is created. The lists returned are views of the lists of both Results, and getClassesByMostRecentExecution()
+ * only visits the classes involved; the multimap getters merge both Results when they are called.
+ *
+ * @param <ResultType> the Result Type of the Result object
+ * @author wkwoelke
+ * @see Result#concat(Result)
+ */
+class ConcatenatedResult<ResultType> extends Result<ResultType> {
+
+    private final Result<ResultType> first;
+    private final Result<ResultType> later;
+
+    ConcatenatedResult(Result<ResultType> first, Result<ResultType> later) {
+        this.first = first;
+        this.later = later;
+    }
+
+    @Override
+    public void add(Result<ResultType> results) {
+        throw new UnsupportedOperationException("A concatenated Result is a read-only view");
+    }
+
+    @Override
+    List<IndexedActionDetails<ResultType>> getIndexedActionDetails(Class actionClass) {
+        List<IndexedActionDetails<ResultType>> laterDetails = later.getIndexedActionDetails(actionClass);
+
+        if (laterDetails.isEmpty()) {
+            return first.getIndexedActionDetails(actionClass);
+        }
+
+        long offset = first.nextSequence();
+
+        return new ConcatenatedList<>(first.getIndexedActionDetails(actionClass), Lists.transform(laterDetails, indexedDetails ->
+                new IndexedActionDetails<>(offset + indexedDetails.sequence, indexedDetails.actionDetails)));
+    }
+
+    @Override
+    long nextSequence() {
+        return first.nextSequence() + later.nextSequence();
+    }
+
+    @Override
+    public List<ActionDetails<ResultType>> getActionDetails() {
+        return new ConcatenatedList<>(first.getActionDetails(), later.getActionDetails());
+    }
+
+    @Override
+    public Set<Class> getClassesByMostRecentExecution() {
+        Set<Class> laterClasses = later.getClassesByMostRecentExecution();
+
+        if (laterClasses.isEmpty()) {
+            return first.getClassesByMostRecentExecution();
+        }
+
+        Set<Class> classesByMostRecentExecution = Sets.newLinkedHashSet(first.getClassesByMostRecentExecution());
+        classesByMostRecentExecution.removeAll(laterClasses);
+        classesByMostRecentExecution.addAll(laterClasses);
+
+        return Collections.unmodifiableSet(classesByMostRecentExecution);
+    }
+
+    @Override
+    public List<Object> getExportedValues(Class actionClass, String exportKey) {
+        List<Object> laterValues = later.getExportedValues(actionClass, exportKey);
+
+        if (laterValues.isEmpty()) {
+            return first.getExportedValues(actionClass, exportKey);
+        }
+
+        return new ConcatenatedList<>(first.getExportedValues(actionClass, exportKey), laterValues);
+    }
+
+    @Override
+    public ListMultimap<Action, ExportData> getExportedDataByAction() {
+        return merge(newActionMultimap(), first.getExportedDataByAction(), later.getExportedDataByAction());
+    }
+
+    @Override
+    public ListMultimap<Class, ExportData> getExportedDataByClass() {
+        return merge(LinkedListMultimap.create(), first.getExportedDataByClass(), later.getExportedDataByClass());
+    }
+
+    @Override
+    public ListMultimap<Action, ResultType> getResultsByAction() {
+        return merge(newActionMultimap(), first.getResultsByAction(), later.getResultsByAction());
+    }
+
+    @Override
+    public ListMultimap<Class, ResultType> getResultsByClass() {
+        return merge(LinkedListMultimap.create(), first.getResultsByClass(), later.getResultsByClass());
+    }
+
+    private static <K, V> ListMultimap<K, V> merge(ListMultimap<K, V> merged, ListMultimap<K, V> first, ListMultimap<K, V> later) {
+        merged.putAll(first);
+        merged.putAll(later);
+
+        return Multimaps.unmodifiableListMultimap(merged);
+    }
+
+    /**
+     * A read-only list of the elements of a first list followed by those of a later list.
+     */
+    private static final class ConcatenatedList<E> extends AbstractList<E> implements RandomAccess {
+
+        private final List<E> first;
+        private final List<E> later;
+
+        private ConcatenatedList(List<E> first, List<E> later) {
+            this.first = first;
+            this.later = later;
+        }
+
+        @Override
+        public E get(int index) {
+            int firstSize = first.size();
+
+            return index < firstSize ? first.get(index) : later.get(index - firstSize);
+        }
+
+        @Override
+        public int size() {
+            return first.size() + later.size();
+        }
+    }
+}
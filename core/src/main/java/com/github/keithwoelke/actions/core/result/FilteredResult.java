@@ -0,0 +1,657 @@
+package com.github.keithwoelke.actions.core.result;
+
+import com.google.common.collect.LinkedListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Multimaps;
+import com.google.common.collect.Sets;
+import com.github.keithwoelke.actions.core.Action;
+import com.github.keithwoelke.actions.core.result.Result.IndexedActionDetails;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * A view of the ActionDetails of a source Result which match a predicate and lie within a range of the execution order. Nothing is copied when
+ * the view is created, and every ActionDetails of the source is tested against the predicate at most once over the lifetime of the view:
+ * <ul>
+ * <li>The matching details of a class are collected when the class is first looked up. Later lookups only test the details the source has added
+ * since, and drop the details the source has evicted.</li>
+ * <li>As long as every details of a class matched, lookups of the class are answered straight from the indexes of the source.</li>
+ * <li>The order of the classes by their most recent match is advanced from the classes which matched again since the last lookup.</li>
+ * <li>The execution order and the multimaps are only indexed once one of their getters is called, and are advanced in the same way afterwards.</li>
+ * </ul>
+ * A view is kept up to date as it is used, so keeping a view and asking it again is much cheaper than filtering the source again. Filtering a view
+ * again combines the predicates into a single view over the same source.
+ * <p>
+ * The start of the range is a sequence number computed from the source, such as the sequence of the most recent execution of a marker Action. It is
+ * computed again whenever the source has changed and is applied to the matching details of each class with a binary search, so it can move in
+ * either direction without the predicate being tested again. A view can also decide on every details of a class at once, from the indexes of the
+ * source, instead of testing them one by one.
+ * <p>
+ * Unlike the other views of a Result, a filtered view can be added to, since filters are applied to the Results passed to doActionsWithDetails().
+ * The details added to the view are kept in a Result of the view's own and follow the matching details of the source. Once the view has been added
+ * to, it no longer reflects later additions to the source Result.
+ *
+ * @param <ResultType> the Result Type of the Result object
+ * @author wkwoelke
+ * @see Result#filterActionDetails(Predicate)
+ * @see Result#filterLast(int)
+ * @see Result#filterSince(Action)
+ * @see Result#filterExportKeys(Set)
+ */
+class FilteredResult<ResultType> extends Result<ResultType> {
+
+    private static final long UNBOUNDED = Long.MAX_VALUE;
+
+    private final Result<ResultType> source;
+    private final Predicate<ActionDetails<ResultType>> predicate;
+    private final Function<Class, Boolean> classMatch;
+    private final ToLongFunction<Result<ResultType>> fromBound;
+    private final long toSequence;
+    private long fromSequence = Long.MIN_VALUE;
+    private long boundedSequence = -1;
+    private final Map<Class, Matches<ResultType>> matchesByClass;
+    private final Map<Class, Long> lastSequenceByClass;
+    private final Set<Class> classesByMostRecentExecution;
+    private long orderedSequence = -1;
+    private History<ResultType> history;
+    private Result<ResultType> added;
+    private Result<ResultType> withAdditions;
+
+    FilteredResult(Result<ResultType> source, Predicate<ActionDetails<ResultType>> predicate) {
+        this(source, predicate, null, null, UNBOUNDED);
+    }
+
+    /**
+     * @param predicate  the predicate the details must match, or null if every details matches
+     * @param classMatch decides on every details of a class at once: TRUE if they all match, FALSE if none does and null if the predicate has to be
+     *                   tested. Null if the predicate is always tested
+     * @param fromBound  computes the first sequence of the source which is part of the view, or null if the view starts at the beginning of the
+     *                   source
+     * @param toSequence the details of the source from this sequence on are left out of the view
+     */
+    private FilteredResult(Result<ResultType> source, Predicate<ActionDetails<ResultType>> predicate, Function<Class, Boolean> classMatch,
+                           ToLongFunction<Result<ResultType>> fromBound, long toSequence) {
+        this.source = source;
+        this.predicate = predicate;
+        this.classMatch = classMatch;
+        this.fromBound = fromBound;
+        this.toSequence = toSequence;
+        this.matchesByClass = Maps.newHashMap();
+        this.lastSequenceByClass = Maps.newHashMap();
+        this.classesByMostRecentExecution = Sets.newLinkedHashSet();
+    }
+
+    /**
+     * Take over what the view has collected so far, leaving out the details the source adds from now on.
+     */
+    private FilteredResult(FilteredResult<ResultType> view) {
+        long fromSequence = view.getFromSequence();
+
+        this.source = view.source;
+        this.predicate = view.predicate;
+        this.classMatch = view.classMatch;
+        this.fromBound = view.fromBound == null ? null : result -> fromSequence;
+        this.toSequence = Math.min(view.toSequence, view.source.nextSequence());
+        this.matchesByClass = view.matchesByClass;
+        this.lastSequenceByClass = view.lastSequenceByClass;
+        this.classesByMostRecentExecution = view.classesByMostRecentExecution;
+        this.orderedSequence = view.orderedSequence;
+        this.history = view.history;
+    }
+
+    @Override
+    public Result<ResultType> filterActionDetails(Predicate<ActionDetails<ResultType>> predicate) {
+        if (withAdditions != null) {
+            return withAdditions.filterActionDetails(predicate);
+        }
+
+        if (classMatch != null) {
+            return new FilteredResult<>(this, predicate);
+        }
+
+        return new FilteredResult<>(source, this.predicate == null ? predicate : this.predicate.and(predicate), null, fromBound, toSequence);
+    }
+
+    /**
+     * @param count the number of most recent details to keep
+     * @return a view of the count most recent details of the source
+     */
+    static <ResultType> Result<ResultType> last(Result<ResultType> source, int count) {
+        return new FilteredResult<>(source, null, null, result -> sequenceOfLast(result, count), UNBOUNDED);
+    }
+
+    /**
+     * @param marker the Action whose most recent execution starts the view. It is matched by identity
+     * @return a view of the details of the source which follow the most recent execution of the marker, or an empty view if the marker has not been
+     * executed
+     */
+    static <ResultType> Result<ResultType> since(Result<ResultType> source, Action marker) {
+        return new FilteredResult<>(source, null, null, result -> sequenceAfter(result, marker), UNBOUNDED);
+    }
+
+    /**
+     * A class is decided on from the exported values of the source: if none of its details exported a key, none of them matches, and if every one
+     * of them exported the same key, they all match. Only the details of the remaining classes are tested one by one.
+     *
+     * @param exportKeys the keys of which the details must have exported at least one
+     * @return a view of the details of the source which exported a value under at least one of the keys
+     */
+    static <ResultType> Result<ResultType> exporting(Result<ResultType> source, Set<String> exportKeys) {
+        Predicate<ActionDetails<ResultType>> predicate = details -> {
+            ExportData exportData = details.getActionExportData();
+
+            return exportData != null && exportKeys.stream().anyMatch(exportData::containsKey);
+        };
+
+        Function<Class, Boolean> classMatch = actionClass -> {
+            int size = source.getIndexedActionDetails(actionClass).size();
+            boolean exported = false;
+
+            for (String exportKey : exportKeys) {
+                int exportedValues = source.getExportedValues(actionClass, exportKey).size();
+
+                if (exportedValues == size) {
+                    return true;
+                }
+
+                exported |= exportedValues > 0;
+            }
+
+            return exported ? null : false;
+        };
+
+        return new FilteredResult<>(source, predicate, classMatch, null, UNBOUNDED);
+    }
+
+    @Override
+    public void add(Result<ResultType> results) {
+        if (withAdditions == null) {
+            added = new Result<>();
+            withAdditions = new FilteredResult<>(this).concat(added);
+        }
+
+        added.add(results);
+    }
+
+    @Override
+    List<IndexedActionDetails<ResultType>> getIndexedActionDetails(Class actionClass) {
+        if (withAdditions != null) {
+            return withAdditions.getIndexedActionDetails(actionClass);
+        }
+
+        return Collections.unmodifiableList(getMatchingDetails(actionClass));
+    }
+
+    @Override
+    long nextSequence() {
+        return withAdditions == null ? Math.min(source.nextSequence(), toSequence) : withAdditions.nextSequence();
+    }
+
+    @Override
+    public List<ActionDetails<ResultType>> getActionDetails() {
+        if (withAdditions != null) {
+            return withAdditions.getActionDetails();
+        }
+
+        return Collections.unmodifiableList(Lists.transform(getHistory().details, indexedDetails -> indexedDetails.actionDetails));
+    }
+
+    /**
+     * Orders the classes by their most recent matching execution, which may differ from the order in the source Result.
+     */
+    @Override
+    public Set<Class> getClassesByMostRecentExecution() {
+        if (withAdditions != null) {
+            return withAdditions.getClassesByMostRecentExecution();
+        }
+
+        long sequence = source.nextSequence();
+
+        if (sequence != orderedSequence) {
+            Set<Class> sourceClasses = source.getClassesByMostRecentExecution();
+            List<IndexedActionDetails<ResultType>> lastMatches = Lists.newArrayList();
+            List<IndexedActionDetails<ResultType>> newLastMatches = Lists.newArrayList();
+            long latestUnchangedMatch = Long.MIN_VALUE;
+
+            for (Class actionClass : sourceClasses) {
+                List<IndexedActionDetails<ResultType>> matchingDetails = getMatchingDetails(actionClass);
+
+                if (matchingDetails.isEmpty()) {
+                    forgetClass(actionClass);
+                } else {
+                    IndexedActionDetails<ResultType> lastMatch = matchingDetails.get(matchingDetails.size() - 1);
+
+                    if (Long.valueOf(lastMatch.sequence).equals(lastSequenceByClass.get(actionClass))) {
+                        latestUnchangedMatch = Math.max(latestUnchangedMatch, lastMatch.sequence);
+                    } else {
+                        newLastMatches.add(lastMatch);
+                    }
+
+                    lastMatches.add(lastMatch);
+                }
+            }
+
+            Lists.newArrayList(classesByMostRecentExecution).stream().
+                    filter(actionClass -> !sourceClasses.contains(actionClass)).
+                    forEach(this::forgetClass);
+
+            newLastMatches.sort(Comparator.comparingLong(lastMatch -> lastMatch.sequence));
+
+            // a class which matched again usually did so after every class which did not, so it moves to the end. A class which reappears when the
+            // start of the view moves back may have to go anywhere, so the classes are ordered again
+            if (!newLastMatches.isEmpty() && newLastMatches.get(0).sequence < latestUnchangedMatch) {
+                classesByMostRecentExecution.clear();
+                newLastMatches = lastMatches;
+                newLastMatches.sort(Comparator.comparingLong(lastMatch -> lastMatch.sequence));
+            }
+
+            for (IndexedActionDetails<ResultType> lastMatch : newLastMatches) {
+                Class actionClass = lastMatch.actionDetails.getActionClass();
+
+                classesByMostRecentExecution.remove(actionClass);
+                classesByMostRecentExecution.add(actionClass);
+                lastSequenceByClass.put(actionClass, lastMatch.sequence);
+            }
+
+            orderedSequence = sequence;
+        }
+
+        return Collections.unmodifiableSet(classesByMostRecentExecution);
+    }
+
+    @Override
+    public List<Object> getExportedValues(Class actionClass, String exportKey) {
+        if (withAdditions != null) {
+            return withAdditions.getExportedValues(actionClass, exportKey);
+        }
+
+        Matches<ResultType> matches = advance(actionClass);
+
+        if (matches.details == null && toSequence == UNBOUNDED && fromBound == null) {
+            return source.getExportedValues(actionClass, exportKey);
+        }
+
+        List<IndexedActionDetails<ResultType>> exportingDetails = matches.detailsByExportKey.get(exportKey);
+
+        if (exportingDetails == null) {
+            exportingDetails = new RingBuffer<>();
+
+            for (IndexedActionDetails<ResultType> indexedDetails : getMatchingDetailsToSequence(matches, actionClass)) {
+                if (exports(indexedDetails, exportKey)) {
+                    exportingDetails.add(indexedDetails);
+                }
+            }
+
+            matches.detailsByExportKey.put(exportKey, exportingDetails);
+        }
+
+        return Collections.unmodifiableList(Lists.transform(fromSequence(exportingDetails), indexedDetails -> getExportData(indexedDetails).get(
+                exportKey)));
+    }
+
+    @Override
+    public ListMultimap<Action, ExportData> getExportedDataByAction() {
+        if (withAdditions != null) {
+            return withAdditions.getExportedDataByAction();
+        }
+
+        return Multimaps.unmodifiableListMultimap(Multimaps.transformValues(getHistory().detailsByAction, FilteredResult::getExportData));
+    }
+
+    @Override
+    public ListMultimap<Class, ExportData> getExportedDataByClass() {
+        if (withAdditions != null) {
+            return withAdditions.getExportedDataByClass();
+        }
+
+        return Multimaps.unmodifiableListMultimap(Multimaps.transformValues(getHistory().detailsByClass, FilteredResult::getExportData));
+    }
+
+    @Override
+    public ListMultimap<Action, ResultType> getResultsByAction() {
+        if (withAdditions != null) {
+            return withAdditions.getResultsByAction();
+        }
+
+        return Multimaps.unmodifiableListMultimap(Multimaps.transformValues(getHistory().detailsByAction, FilteredResult::getResult));
+    }
+
+    @Override
+    public ListMultimap<Class, ResultType> getResultsByClass() {
+        if (withAdditions != null) {
+            return withAdditions.getResultsByClass();
+        }
+
+        return Multimaps.unmodifiableListMultimap(Multimaps.transformValues(getHistory().detailsByClass, FilteredResult::getResult));
+    }
+
+    /**
+     * @return the live list of the matching details of the class, in execution order
+     */
+    private List<IndexedActionDetails<ResultType>> getMatchingDetails(Class actionClass) {
+        return fromSequence(getMatchingDetailsToSequence(advance(actionClass), actionClass));
+    }
+
+    /**
+     * @return the live list of the matching details of the class, including those before the start of the view
+     */
+    private List<IndexedActionDetails<ResultType>> getMatchingDetailsToSequence(Matches<ResultType> matches, Class actionClass) {
+        if (matches.details != null) {
+            return matches.details;
+        }
+
+        List<IndexedActionDetails<ResultType>> sourceDetails = source.getIndexedActionDetails(actionClass);
+
+        return toSequence == UNBOUNDED ? sourceDetails : sourceDetails.subList(0, indexOf(sourceDetails, toSequence));
+    }
+
+    /**
+     * @return the details of the list from the start of the view on
+     */
+    private List<IndexedActionDetails<ResultType>> fromSequence(List<IndexedActionDetails<ResultType>> indexedActionDetails) {
+        long fromSequence = getFromSequence();
+
+        if (fromSequence == Long.MIN_VALUE) {
+            return indexedActionDetails;
+        }
+
+        return indexedActionDetails.subList(indexOf(indexedActionDetails, fromSequence), indexedActionDetails.size());
+    }
+
+    /**
+     * @return the first sequence of the source which is part of the view, computed again if the source has changed since it was last computed
+     */
+    private long getFromSequence() {
+        if (fromBound == null) {
+            return Long.MIN_VALUE;
+        }
+
+        long sequence = source.nextSequence();
+
+        if (sequence != boundedSequence) {
+            fromSequence = fromBound.applyAsLong(source);
+            boundedSequence = sequence;
+        }
+
+        return fromSequence;
+    }
+
+    /**
+     * Test the details of the class the source has added since the class was last looked up, and drop the details the source has evicted since.
+     * Evictions always remove the oldest details of a class, so only the start of the matching details has to be checked.
+     */
+    private Matches<ResultType> advance(Class actionClass) {
+        Matches<ResultType> matches = matchesByClass.computeIfAbsent(actionClass, key -> new Matches<>());
+        List<IndexedActionDetails<ResultType>> sourceDetails = source.getIndexedActionDetails(actionClass);
+        int end = toSequence == UNBOUNDED ? sourceDetails.size() : indexOf(sourceDetails, toSequence);
+        int start = end;
+
+        while (start > 0 && sourceDetails.get(start - 1).sequence >= matches.nextSequence) {
+            start--;
+        }
+
+        Boolean classMatches = classMatch == null || start == end ? null : classMatch.apply(actionClass);
+
+        for (int i = start; i < end; i++) {
+            IndexedActionDetails<ResultType> indexedDetails = sourceDetails.get(i);
+            boolean matched = classMatches != null ? classMatches : predicate == null || predicate.test(indexedDetails.actionDetails);
+
+            if (matched) {
+                matches.add(indexedDetails);
+            } else if (matches.details == null) {
+                matches.details = new RingBuffer<>();
+                matches.details.addAll(sourceDetails.subList(0, i));
+            }
+
+            matches.nextSequence = indexedDetails.sequence + 1;
+        }
+
+        matches.evictBefore(sourceDetails.isEmpty() ? UNBOUNDED : sourceDetails.get(0).sequence);
+
+        return matches;
+    }
+
+    private void forgetClass(Class actionClass) {
+        classesByMostRecentExecution.remove(actionClass);
+        lastSequenceByClass.remove(actionClass);
+    }
+
+    /**
+     * Bring the execution order and the multimaps up to date. For every class, the matching details the source has evicted since are removed from
+     * the start, and the details which matched since are collected from the end; the latter are then added in execution order. The indexes are only
+     * built again if details have to go before those already indexed, which happens when the start of the view moves back.
+     */
+    private History<ResultType> getHistory() {
+        if (history == null) {
+            history = new History<>();
+        }
+
+        long sequence = source.nextSequence();
+
+        if (sequence == history.sequence) {
+            return history;
+        }
+
+        Set<Class> actionClasses = Sets.newHashSet(source.getClassesByMostRecentExecution());
+        actionClasses.addAll(history.detailsByClass.keySet());
+        Set<Long> removedSequences = Sets.newHashSet();
+        List<IndexedActionDetails<ResultType>> addedDetails = Lists.newArrayList();
+
+        for (Class actionClass : actionClasses) {
+            List<IndexedActionDetails<ResultType>> matchingDetails = getMatchingDetails(actionClass);
+            List<IndexedActionDetails<ResultType>> indexedDetails = history.detailsByClass.get(actionClass);
+            long firstSequence = matchingDetails.isEmpty() ? UNBOUNDED : matchingDetails.get(0).sequence;
+
+            if (!indexedDetails.isEmpty() && firstSequence < indexedDetails.get(0).sequence) {
+                history = new History<>();
+
+                return getHistory();
+            }
+
+            while (!indexedDetails.isEmpty() && indexedDetails.get(0).sequence < firstSequence) {
+                IndexedActionDetails<ResultType> removed = indexedDetails.remove(0);
+
+                history.detailsByAction.get(removed.actionDetails.getAction()).remove(0);
+                removedSequences.add(removed.sequence);
+            }
+
+            long lastSequence = indexedDetails.isEmpty() ? Long.MIN_VALUE : indexedDetails.get(indexedDetails.size() - 1).sequence;
+            int start = matchingDetails.size();
+
+            while (start > 0 && matchingDetails.get(start - 1).sequence > lastSequence) {
+                start--;
+            }
+
+            addedDetails.addAll(matchingDetails.subList(start, matchingDetails.size()));
+        }
+
+        while (!removedSequences.isEmpty() && removedSequences.remove(history.details.get(0).sequence)) {
+            history.details.remove(0);
+        }
+
+        if (!removedSequences.isEmpty()) {
+            history.details.removeIf(indexedDetails -> removedSequences.contains(indexedDetails.sequence));
+        }
+
+        addedDetails.sort(Comparator.comparingLong(indexedDetails -> indexedDetails.sequence));
+
+        long lastIndexedSequence = history.details.isEmpty() ? Long.MIN_VALUE : history.details.get(history.details.size() - 1).sequence;
+
+        if (!addedDetails.isEmpty() && addedDetails.get(0).sequence < lastIndexedSequence) {
+            history = new History<>();
+
+            return getHistory();
+        }
+
+        for (IndexedActionDetails<ResultType> indexedDetails : addedDetails) {
+            history.details.add(indexedDetails);
+            history.detailsByClass.put(indexedDetails.actionDetails.getActionClass(), indexedDetails);
+            history.detailsByAction.put(indexedDetails.actionDetails.getAction(), indexedDetails);
+        }
+
+        history.sequence = sequence;
+
+        return history;
+    }
+
+    /**
+     * @return the sequence of the count-th most recent details of the Result, found by merging the ends of the lists of its classes
+     */
+    private static <ResultType> long sequenceOfLast(Result<ResultType> results, int count) {
+        if (count == 0) {
+            return UNBOUNDED;
+        }
+
+        List<List<IndexedActionDetails<ResultType>>> indexedActionDetails = Lists.newArrayList();
+
+        for (Class actionClass : results.getClassesByMostRecentExecution()) {
+            indexedActionDetails.add(results.getIndexedActionDetails(actionClass));
+        }
+
+        int[] positions = new int[indexedActionDetails.size()];
+        PriorityQueue<Integer> byLatestSequence = new PriorityQueue<>(Math.max(1, positions.length), Comparator.comparingLong((Integer list) ->
+                indexedActionDetails.get(list).get(positions[list]).sequence).reversed());
+
+        for (int list = 0; list < positions.length; list++) {
+            positions[list] = indexedActionDetails.get(list).size() - 1;
+
+            if (positions[list] >= 0) {
+                byLatestSequence.add(list);
+            }
+        }
+
+        long sequence = Long.MIN_VALUE;
+
+        for (int taken = 0; taken < count; taken++) {
+            Integer list = byLatestSequence.poll();
+
+            if (list == null) {
+                return Long.MIN_VALUE;
+            }
+
+            sequence = indexedActionDetails.get(list).get(positions[list]--).sequence;
+
+            if (positions[list] >= 0) {
+                byLatestSequence.add(list);
+            }
+        }
+
+        return sequence;
+    }
+
+    /**
+     * @return the sequence which follows the most recent execution of the marker in the Result, or UNBOUNDED if the marker has not been executed
+     */
+    private static long sequenceAfter(Result<?> results, Action marker) {
+        if (marker == null) {
+            return UNBOUNDED;
+        }
+
+        List<? extends IndexedActionDetails<?>> indexedActionDetails = results.getIndexedActionDetails(marker.getClass());
+
+        for (int i = indexedActionDetails.size() - 1; i >= 0; i--) {
+            if (indexedActionDetails.get(i).actionDetails.getAction() == marker) {
+                return indexedActionDetails.get(i).sequence + 1;
+            }
+        }
+
+        return UNBOUNDED;
+    }
+
+    private static <ResultType> ResultType getResult(IndexedActionDetails<ResultType> indexedDetails) {
+        return indexedDetails.actionDetails.getResult();
+    }
+
+    private static ExportData getExportData(IndexedActionDetails<?> indexedDetails) {
+        return indexedDetails.actionDetails.getActionExportData();
+    }
+
+    private static boolean exports(IndexedActionDetails<?> indexedDetails, String exportKey) {
+        ExportData exportData = getExportData(indexedDetails);
+
+        return exportData != null && exportData.containsKey(exportKey);
+    }
+
+    /**
+     * @return the index of the first details with a sequence of at least the given sequence, or the size of the list if there is none
+     */
+    private static int indexOf(List<? extends IndexedActionDetails<?>> indexedActionDetails, long sequence) {
+        int low = 0;
+        int high = indexedActionDetails.size();
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (indexedActionDetails.get(middle).sequence < sequence) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * The matching details of a single class.
+     */
+    private static final class Matches<ResultType> {
+
+        /**
+         * The sequence of the first details of the source which has not been tested yet.
+         */
+        private long nextSequence = Long.MIN_VALUE;
+        /**
+         * The matching details, or null as long as every tested details matched.
+         */
+        private List<IndexedActionDetails<ResultType>> details;
+        /**
+         * The matching details which exported a key, for the keys which have been looked up.
+         */
+        private final Map<String, List<IndexedActionDetails<ResultType>>> detailsByExportKey = Maps.newHashMap();
+
+        private void add(IndexedActionDetails<ResultType> indexedDetails) {
+            if (details != null) {
+                details.add(indexedDetails);
+            }
+
+            detailsByExportKey.forEach((exportKey, exportingDetails) -> {
+                if (exports(indexedDetails, exportKey)) {
+                    exportingDetails.add(indexedDetails);
+                }
+            });
+        }
+
+        private void evictBefore(long sequence) {
+            evictBefore(details, sequence);
+            detailsByExportKey.values().forEach(exportingDetails -> evictBefore(exportingDetails, sequence));
+        }
+
+        private static void evictBefore(List<? extends IndexedActionDetails<?>> indexedActionDetails, long sequence) {
+            while (indexedActionDetails != null && !indexedActionDetails.isEmpty() && indexedActionDetails.get(0).sequence < sequence) {
+                indexedActionDetails.remove(0);
+            }
+        }
+    }
+
+    /**
+     * The matching details in execution order, by class and by Action.
+     */
+    private static final class History<ResultType> {
+
+        private final List<IndexedActionDetails<ResultType>> details = new RingBuffer<>();
+        private final ListMultimap<Class, IndexedActionDetails<ResultType>> detailsByClass = LinkedListMultimap.create();
+        private final ListMultimap<Action, IndexedActionDetails<ResultType>> detailsByAction = newActionMultimap();
+        private long sequence = -1;
+    }
+}
@@ -0,0 +1,238 @@
+package com.github.keithwoelke.actions.core.result;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Multimaps;
+import com.google.common.collect.Sets;
+import com.github.keithwoelke.actions.core.Action;
+import com.github.keithwoelke.actions.core.result.Result.IndexedActionDetails;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A Result which writes the Action, the result and the exported values of every execution to a MappedResultLog as they are added. Only a compact
+ * entry per execution (the class, a weak reference to the Action and the locations of its values) stays on the heap. The getters return lazy views
+ * which read values back from the log as they are accessed, so lookups and imports keep working over very long histories while the heap stays
+ * flat. Lookups by class and export key, and the filtered views used to import data, only visit the entries of the classes involved.
+ * <p>
+ * Every value read from the log is a copy of the value which was added, unless it could not be serialized, in which case the log keeps the value
+ * itself on the heap. The log caches recently read copies and hands the same copy to every reader, so values read from a MappedResult must be
+ * treated as read-only. Actions are read back as the instance which was added for as long as it is referenced elsewhere; after that, a
+ * Serializable Action is read back as a copy. Since lookups by Action match by identity, the by-Action getters only find Actions which are still
+ * referenced; they index the history when they are called.
+ * <p>
+ * MappedResults are compared by identity, since comparing their contents would require reading back every value. Pass a MappedResult to
+ * ActionRunner.doActionsWithDetails() to use it for a scenario.
+ *
+ * @param <ResultType> the Result Type of the Result object
+ * @author wkwoelke
+ */
+@SuppressWarnings("unused")
+public class MappedResult<ResultType> extends Result<ResultType> {
+
+    private final MappedResultLog log;
+    private final List<Entry> entries = Lists.newArrayList();
+    private final ListMultimap<Class, Entry> entriesByClass = ArrayListMultimap.create();
+    private final Set<Class> classesByMostRecentExecution = Sets.newLinkedHashSet();
+    private final Map<Class, ListMultimap<String, Long>> exportLocationsByClassAndKey = Maps.newHashMap();
+    private long sequence;
+
+    /**
+     * @param log the log to write results and exported values to. The log may be shared by several MappedResults
+     */
+    public MappedResult(MappedResultLog log) {
+        this.log = log;
+    }
+
+    @Override
+    public void add(Result<ResultType> results) {
+        for (ActionDetails<ResultType> details : results.getActionDetails()) {
+            ResultType result = details.getResult();
+
+            if (result instanceof Result) {
+                //noinspection unchecked
+                ((Result<ResultType>) result).getActionDetails().forEach(this::append);
+            } else {
+                append(details);
+            }
+        }
+    }
+
+    private void append(ActionDetails<ResultType> details) {
+        Entry entry = new Entry(details, sequence++, log);
+        Class actionClass = entry.actionClass;
+
+        entries.add(entry);
+        entriesByClass.put(actionClass, entry);
+
+        classesByMostRecentExecution.remove(actionClass);
+        classesByMostRecentExecution.add(actionClass);
+
+        if (entry.exportKeys != null && entry.exportKeys.length > 0) {
+            ListMultimap<String, Long> exportLocationsByKey = exportLocationsByClassAndKey.computeIfAbsent(actionClass, key -> ArrayListMultimap
+                    .create());
+
+            for (int i = 0; i < entry.exportKeys.length; i++) {
+                exportLocationsByKey.put(entry.exportKeys[i], entry.exportLocations[i]);
+            }
+        }
+    }
+
+    @Override
+    List<IndexedActionDetails<ResultType>> getIndexedActionDetails(Class actionClass) {
+        return Lists.transform(entriesByClass.get(actionClass), entry -> new IndexedActionDetails<ResultType>(entry.sequence,
+                readActionDetails(entry)));
+    }
+
+    @Override
+    long nextSequence() {
+        return sequence;
+    }
+
+    @Override
+    public List<ActionDetails<ResultType>> getActionDetails() {
+        return Collections.unmodifiableList(Lists.transform(entries, this::readActionDetails));
+    }
+
+    @Override
+    public Set<Class> getClassesByMostRecentExecution() {
+        return Collections.unmodifiableSet(classesByMostRecentExecution);
+    }
+
+    @Override
+    public ListMultimap<Action, ExportData> getExportedDataByAction() {
+        return Multimaps.unmodifiableListMultimap(Multimaps.transformValues(getEntriesByAction(), this::readExportData));
+    }
+
+    @Override
+    public ListMultimap<Class, ExportData> getExportedDataByClass() {
+        return Multimaps.unmodifiableListMultimap(Multimaps.transformValues(entriesByClass, this::readExportData));
+    }
+
+    @Override
+    public List<Object> getExportedValues(Class actionClass, String exportKey) {
+        ListMultimap<String, Long> exportLocationsByKey = exportLocationsByClassAndKey.get(actionClass);
+
+        if (exportLocationsByKey == null) {
+            return Collections.emptyList();
+        }
+
+        return Collections.unmodifiableList(Lists.transform(exportLocationsByKey.get(exportKey), log::read));
+    }
+
+    @Override
+    public ListMultimap<Action, ResultType> getResultsByAction() {
+        return Multimaps.unmodifiableListMultimap(Multimaps.transformValues(getEntriesByAction(), this::readResult));
+    }
+
+    @Override
+    public ListMultimap<Class, ResultType> getResultsByClass() {
+        return Multimaps.unmodifiableListMultimap(Multimaps.transformValues(entriesByClass, this::readResult));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return "MappedResult(actionDetails=" + entries.size() + ")";
+    }
+
+    private ActionDetails<ResultType> readActionDetails(Entry entry) {
+        return new ActionDetails<>(readAction(entry), readResult(entry), readExportData(entry), entry.validated);
+    }
+
+    private Action readAction(Entry entry) {
+        Action action = entry.action.get();
+
+        return action == null ? (Action) log.read(entry.actionLocation) : action;
+    }
+
+    /**
+     * Index the entries by the Actions which are still referenced. The index is not maintained as entries are added, since it would keep every
+     * Action reachable.
+     */
+    private ListMultimap<Action, Entry> getEntriesByAction() {
+        ListMultimap<Action, Entry> entriesByAction = newActionMultimap();
+
+        for (Entry entry : entries) {
+            Action action = entry.action.get();
+
+            if (action != null) {
+                entriesByAction.put(action, entry);
+            }
+        }
+
+        return entriesByAction;
+    }
+
+    private ResultType readResult(Entry entry) {
+        //noinspection unchecked
+        return (ResultType) log.read(entry.resultLocation);
+    }
+
+    private ExportData readExportData(Entry entry) {
+        if (entry.exportKeys == null) {
+            return null;
+        }
+
+        ExportData exportData = new ExportData();
+
+        for (int i = 0; i < entry.exportKeys.length; i++) {
+            exportData.put(entry.exportKeys[i], log.read(entry.exportLocations[i]));
+        }
+
+        return exportData;
+    }
+
+    /**
+     * The heap-resident part of an ActionDetails: everything needed to answer lookups, and the log locations of the Action and the values.
+     */
+    private static class Entry {
+
+        private final WeakReference<Action> action;
+        private final long actionLocation;
+        private final Class actionClass;
+        private final boolean validated;
+        private final long sequence;
+        private final long resultLocation;
+        private final String[] exportKeys;
+        private final long[] exportLocations;
+
+        private Entry(ActionDetails<?> details, long sequence, MappedResultLog log) {
+            this.action = new WeakReference<>(details.getAction());
+            this.actionLocation = log.write(details.getAction());
+            this.actionClass = details.getActionClass();
+            this.validated = details.isValidated();
+            this.sequence = sequence;
+            this.resultLocation = log.write(details.getResult());
+
+            ExportData exportData = details.getActionExportData();
+
+            if (exportData == null) {
+                this.exportKeys = null;
+                this.exportLocations = null;
+            } else {
+                this.exportKeys = exportData.keySet().toArray(new String[exportData.size()]);
+                this.exportLocations = new long[exportKeys.length];
+
+                for (int i = 0; i < exportKeys.length; i++) {
+                    exportLocations[i] = log.write(exportData.get(exportKeys[i]));
+                }
+            }
+        }
+    }
+}
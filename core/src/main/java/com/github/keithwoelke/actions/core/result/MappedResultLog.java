@@ -0,0 +1,226 @@
+package com.github.keithwoelke.actions.core.result;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * An append-only log of values, stored in a memory-mapped file. Every value written is serialized into the log and identified by its location, from
+ * which it is deserialized again on demand. The file is mapped in segments, so the log can grow well beyond the heap.
+ * <p>
+ * Every value read back is a copy of the value which was written. The most recently read copies are cached, so repeated reads of a location return
+ * the same copy as long as it is cached; the copies must therefore be treated as read-only. Values are deserialized outside the monitor of the log,
+ * so concurrent readers only wait for each other while the bytes of a record are copied out of the mapped segment.
+ * <p>
+ * Values which cannot be serialized (they do not implement Serializable, or hold a reference to an object which does not) are kept on the heap
+ * instead, so writing never fails because of the type of a value.
+ * <p>
+ * Memory-mapped segments are released once they are garbage collected, which may be after the log has been closed.
+ *
+ * @author wkwoelke
+ * @see MappedResult
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+@Slf4j
+public class MappedResultLog implements Closeable {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+    static final long NULL_LOCATION = -1;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final int segmentSize;
+    private final boolean deleteOnClose;
+    private final List<MappedByteBuffer> segments = Lists.newArrayList();
+    private final List<Object> heapValues = Lists.newArrayList();
+    private final Cache<Long, Object> values;
+    private MappedByteBuffer currentSegment;
+    private long mappedSize;
+
+    /**
+     * @param file          the file to write the log to. An existing file is truncated
+     * @param segmentSize   the number of bytes mapped at a time
+     * @param deleteOnClose true, if the file should be deleted when the log is closed
+     * @throws IOException if the file cannot be opened
+     */
+    public MappedResultLog(Path file, int segmentSize, boolean deleteOnClose) throws IOException {
+        this(file, segmentSize, DEFAULT_CACHE_SIZE, deleteOnClose);
+    }
+
+    /**
+     * @param file          the file to write the log to. An existing file is truncated
+     * @param segmentSize   the number of bytes mapped at a time
+     * @param cacheSize     the number of deserialized values to keep for repeated reads
+     * @param deleteOnClose true, if the file should be deleted when the log is closed
+     * @throws IOException if the file cannot be opened
+     */
+    public MappedResultLog(Path file, int segmentSize, int cacheSize, boolean deleteOnClose) throws IOException {
+        if (segmentSize <= Integer.BYTES) {
+            throw new IllegalArgumentException("The segment size must be larger than " + Integer.BYTES);
+        }
+
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption
+                .TRUNCATE_EXISTING);
+        this.segmentSize = segmentSize;
+        this.deleteOnClose = deleteOnClose;
+        this.values = CacheBuilder.newBuilder().
+                maximumSize(cacheSize).
+                build();
+    }
+
+    /**
+     * @return a log in a new temporary file, which is deleted when the log is closed
+     * @throws IOException if the file cannot be created
+     */
+    public static MappedResultLog createTemporary() throws IOException {
+        return new MappedResultLog(Files.createTempFile("action-results", ".log"), DEFAULT_SEGMENT_SIZE, true);
+    }
+
+    /**
+     * Append the value to the log.
+     *
+     * @param value the value to append
+     * @return the location of the value
+     */
+    public synchronized long write(Object value) {
+        if (value == null) {
+            return NULL_LOCATION;
+        }
+
+        byte[] bytes = serialize(value);
+
+        if (bytes == null) {
+            heapValues.add(value);
+
+            return -(heapValues.size() + 1);
+        }
+
+        int recordSize = Integer.BYTES + bytes.length;
+
+        if (currentSegment == null || currentSegment.remaining() < recordSize) {
+            map(Math.max(segmentSize, recordSize));
+        }
+
+        long location = ((long) (segments.size() - 1) << Integer.SIZE) | currentSegment.position();
+        currentSegment.putInt(bytes.length);
+        currentSegment.put(bytes);
+
+        return location;
+    }
+
+    /**
+     * Read a value back from the log.
+     *
+     * @param location the location returned when the value was written
+     * @return a copy of the value, or the value itself if it was kept on the heap
+     */
+    public Object read(long location) {
+        if (location == NULL_LOCATION) {
+            return null;
+        }
+
+        if (location < 0) {
+            return readHeapValue(location);
+        }
+
+        Object value = values.getIfPresent(location);
+
+        if (value == null) {
+            value = deserialize(readRecord(location));
+            values.put(location, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * @return the number of bytes mapped so far
+     */
+    public synchronized long getMappedSize() {
+        return mappedSize;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        segments.clear();
+        heapValues.clear();
+        values.invalidateAll();
+        currentSegment = null;
+        channel.close();
+
+        if (deleteOnClose) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private synchronized Object readHeapValue(long location) {
+        return heapValues.get((int) (-location - 2));
+    }
+
+    private synchronized byte[] readRecord(long location) {
+        ByteBuffer record = segments.get((int) (location >>> Integer.SIZE)).duplicate();
+        record.position((int) location);
+        byte[] bytes = new byte[record.getInt()];
+        record.get(bytes);
+
+        return bytes;
+    }
+
+    private void map(int size) {
+        try {
+            currentSegment = channel.map(FileChannel.MapMode.READ_WRITE, mappedSize, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        segments.add(currentSegment);
+        mappedSize += size;
+    }
+
+    private static byte[] serialize(Object value) {
+        if (!(value instanceof Serializable)) {
+            return null;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(value);
+        } catch (IOException e) {
+            log.debug("Keeping {} on the heap: {}", value.getClass().getSimpleName(), e.toString());
+
+            return null;
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) {
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return input.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.github.keithwoelke.actions.core.result;
+
+import com.google.common.collect.LinkedListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Multimaps;
+import com.google.common.collect.Sets;
+import com.github.keithwoelke.actions.core.Action;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The Result class stores the Result of one or more Actions.
+ * <p>
+ * Lookups by class, by action and by execution order are served from indexes which are maintained as ActionDetails are added, so the getters are
+ * cheap to call repeatedly. The returned collections are read-only views over those indexes and will reflect any later additions.
+ * <p>
+ * Lookups by Action match the Action instance by identity, not by equals(). Actions are usually mutable (imported values are assigned to them and
+ * they may be executed repeatedly), so a hash derived from their fields would change after the Action was indexed.
+ * <p>
+ * The RetentionPolicy of the Result decides which ActionDetails are kept as further details are added. See RetentionPolicy.
+ *
+ * @param <ResultType> the Result Type of the Result object
+ * @author wkwoelke
+ */
+@SuppressWarnings("unused")
+@NoArgsConstructor
+@Data
+@EqualsAndHashCode(of = "actionDetails")
+@ToString(of = "actionDetails")
+public class Result<ResultType> {
+
+    private final List<ActionDetails<ResultType>> actionDetails = new RingBuffer<>();
+    @Getter(AccessLevel.NONE)
+    private final ListMultimap<Action, ExportData> exportedDataByAction = newActionMultimap();
+    @Getter(AccessLevel.NONE)
+    private final ListMultimap<Class, ExportData> exportedDataByClass = LinkedListMultimap.create();
+    @Getter(AccessLevel.NONE)
+    private final ListMultimap<Action, ResultType> resultsByAction = newActionMultimap();
+    @Getter(AccessLevel.NONE)
+    private final ListMultimap<Class, ResultType> resultsByClass = LinkedListMultimap.create();
+    @Getter(AccessLevel.NONE)
+    private final Set<Class> classesByMostRecentExecution = Sets.newLinkedHashSet();
+    @Getter(AccessLevel.NONE)
+    private final Map<Class, ListMultimap<String, Object>> exportedValuesByClassAndKey = Maps.newHashMap();
+    @Getter(AccessLevel.NONE)
+    private final ListMultimap<Class, IndexedActionDetails<ResultType>> indexedActionDetailsByClass = Multimaps.newListMultimap(Maps.newHashMap(),
+            RingBuffer::new);
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long sequence;
+    @Setter(AccessLevel.NONE)
+    private RetentionPolicy retentionPolicy = RetentionPolicy.KEEP_ALL;
+
+    /**
+     * @param retentionPolicy the policy which decides which ActionDetails are kept
+     */
+    public Result(RetentionPolicy retentionPolicy) {
+        this.retentionPolicy = retentionPolicy;
+    }
+
+    public Result(Action action, ResultType result, ExportData exportedData) {
+        this(action, result, exportedData, true);
+    }
+
+    public Result(Action action, ResultType result, ExportData exportedData, boolean validated) {
+        append(new ActionDetails<>(action, result, exportedData, validated));
+    }
+
+    public Result(List<ActionDetails<ResultType>> actionDetails) {
+        actionDetails.forEach(this::append);
+    }
+
+    /**
+     * Merge the provided Results into this Result collection.
+     *
+     * @param results the Result to merge
+     */
+    public void add(Result<ResultType> results) {
+        for (ActionDetails<ResultType> actionResultCollection : results.getActionDetails()) {
+            ResultType result = actionResultCollection.getResult();
+
+            if (result instanceof Result) {
+                //noinspection unchecked
+                ((Result<ResultType>) result).getActionDetails().forEach(this::append);
+            } else {
+                append(actionResultCollection);
+            }
+        }
+    }
+
+    /**
+     * Store the ActionDetails and update every index which is derived from it.
+     *
+     * @param details the details of a single Action execution
+     */
+    private void append(ActionDetails<ResultType> details) {
+        Action action = details.getAction();
+        Class actionClass = details.getActionClass();
+        ExportData exportData = details.getActionExportData();
+
+        if (retentionPolicy.isLatestPerClass() && exportedDataByClass.containsKey(actionClass)) {
+            evict(indexOfFirst(actionClass));
+        }
+
+        if (retentionPolicy.isRetainResults()) {
+            resultsByAction.put(action, details.getResult());
+            resultsByClass.put(actionClass, details.getResult());
+        } else if (details.getResult() != null) {
+            details = new ActionDetails<>(action, null, exportData, details.isValidated());
+        }
+
+        actionDetails.add(details);
+        indexedActionDetailsByClass.put(actionClass, new IndexedActionDetails<>(sequence++, details));
+        exportedDataByAction.put(action, exportData);
+        exportedDataByClass.put(actionClass, exportData);
+
+        classesByMostRecentExecution.remove(actionClass);
+        classesByMostRecentExecution.add(actionClass);
+
+        if (exportData != null && !exportData.isEmpty()) {
+            ListMultimap<String, Object> exportedValuesByKey = exportedValuesByClassAndKey.computeIfAbsent(actionClass, key -> Multimaps
+                    .newListMultimap(Maps.newHashMap(), RingBuffer::new));
+            exportData.forEach(exportedValuesByKey::put);
+        }
+
+        if (actionDetails.size() > retentionPolicy.getWindowSize()) {
+            evict(0);
+        }
+    }
+
+    /**
+     * Remove the ActionDetails at the index and every index entry derived from it. The ActionDetails must be the oldest of its class, which holds
+     * for every RetentionPolicy, so its entries are always the first of their keys. Every index list is a RingBuffer, so removing those entries
+     * does not shift the rest of the history. The per-Action indexes match by identity, so the entries are found even if the hashCode of the
+     * Action has changed since it was added.
+     *
+     * @param index the index of the ActionDetails to remove
+     */
+    private void evict(int index) {
+        ActionDetails<ResultType> details = actionDetails.remove(index);
+        Action action = details.getAction();
+        Class actionClass = details.getActionClass();
+        ExportData exportData = details.getActionExportData();
+
+        indexedActionDetailsByClass.get(actionClass).remove(0);
+        exportedDataByAction.get(action).remove(0);
+        exportedDataByClass.get(actionClass).remove(0);
+
+        if (retentionPolicy.isRetainResults()) {
+            resultsByAction.get(action).remove(0);
+            resultsByClass.get(actionClass).remove(0);
+        }
+
+        if (exportData != null && !exportData.isEmpty()) {
+            ListMultimap<String, Object> exportedValuesByKey = exportedValuesByClassAndKey.get(actionClass);
+            exportData.keySet().forEach(key -> exportedValuesByKey.get(key).remove(0));
+
+            if (exportedValuesByKey.isEmpty()) {
+                exportedValuesByClassAndKey.remove(actionClass);
+            }
+        }
+
+        if (!exportedDataByClass.containsKey(actionClass)) {
+            classesByMostRecentExecution.remove(actionClass);
+        }
+    }
+
+    private int indexOfFirst(Class actionClass) {
+        for (int i = 0; i < actionDetails.size(); i++) {
+            if (actionDetails.get(i).getActionClass() == actionClass) {
+                return i;
+            }
+        }
+
+        throw new IllegalStateException("No details of " + actionClass);
+    }
+
+    /**
+     * @param <V> the type of the values
+     * @return an empty multimap which matches its Action keys by identity. Its keys are not ordered, but the values of each key are kept in
+     * insertion order
+     */
+    static <V> ListMultimap<Action, V> newActionMultimap() {
+        return Multimaps.newListMultimap(new IdentityHashMap<>(), RingBuffer::new);
+    }
+
+    /**
+     * Get a view of the details of the Actions which match the predicate. The view is created in constant time and shares the indexes of this
+     * Result, so lookups made through it only visit the details of the classes they ask for, and it keeps what it has matched so far: asking the
+     * same view again after this Result grew only tests the new details. The view reflects later additions to this Result until ActionDetails
+     * are added to the view itself; from then on it holds the details which matched up to that point, followed by the details added to it.
+     *
+     * @param predicate the predicate the Actions must match
+     * @return the filtered view
+     */
+    public Result<ResultType> filter(Predicate<Action> predicate) {
+        return filterActionDetails(details -> predicate.test(details.getAction()));
+    }
+
+    /**
+     * Get a view of the ActionDetails which match the predicate. Unlike filter(Predicate), the predicate is evaluated once per execution,
+     * so it can decide on what a single execution exported. See filter(Predicate).
+     *
+     * @param predicate the predicate the ActionDetails must match
+     * @return the filtered view
+     */
+    public Result<ResultType> filterActionDetails(Predicate<ActionDetails<ResultType>> predicate) {
+        return new FilteredResult<>(this, predicate);
+    }
+
+    /**
+     * Get a view of the count most recent ActionDetails. The start of the view is found from the ends of the per-class indexes whenever this Result
+     * has changed, so the cost does not depend on the length of the history. See filter(Predicate).
+     *
+     * @param count the number of most recent ActionDetails to keep
+     * @return the filtered view
+     */
+    public Result<ResultType> filterLast(int count) {
+        return FilteredResult.last(this, count);
+    }
+
+    /**
+     * Get a view of the ActionDetails which follow the most recent execution of the marker. The marker is matched by identity and is searched for
+     * among the executions of its class only. The view is empty as long as the marker has not been executed. See filter(Predicate).
+     *
+     * @param marker the Action whose most recent execution starts the view
+     * @return the filtered view
+     */
+    public Result<ResultType> filterSince(Action marker) {
+        return FilteredResult.since(this, marker);
+    }
+
+    /**
+     * Get a view of the ActionDetails which exported a value under at least one of the keys. Classes which never exported any of the keys, or whose
+     * executions all exported one of them, are decided on from the exported values without visiting their executions. See filter(Predicate).
+     *
+     * @param exportKeys the export keys
+     * @return the filtered view
+     */
+    public Result<ResultType> filterExportKeys(Set<String> exportKeys) {
+        return FilteredResult.exporting(this, exportKeys);
+    }
+
+    /**
+     * Get a read-only view of the ActionDetails of this Result followed by those of the later Result. The view answers every lookup as if the later
+     * Result had been added to this one, without copying either Result. Unlike add(Result), nested Results are not flattened.
+     *
+     * @param later the Result whose ActionDetails follow those of this Result
+     * @return the concatenated view
+     */
+    public Result<ResultType> concat(Result<ResultType> later) {
+        return new ConcatenatedResult<>(this, later);
+    }
+
+    /**
+     * @return the sequence number the next ActionDetails added to this Result will be given
+     */
+    long nextSequence() {
+        return sequence;
+    }
+
+    /**
+     * @param actionClass the class of the Actions
+     * @return the live list of the details of every Action of the class, in execution order, together with their position in the execution order
+     */
+    List<IndexedActionDetails<ResultType>> getIndexedActionDetails(Class actionClass) {
+        return indexedActionDetailsByClass.get(actionClass);
+    }
+
+    /**
+     * @return a read-only view of the details of every Action in execution order, which reflects later additions. Copy the list to modify it
+     */
+    public List<ActionDetails<ResultType>> getActionDetails() {
+        return Collections.unmodifiableList(actionDetails);
+    }
+
+    /**
+     * Returns a list of classes ordered by execution. However, unlike a simple call to .keys(), this function will re-order the classes to match the
+     * execution order according the the last execution of a class type.
+     * <p>
+     * Example:
+     * <p>
+     * Execution order: Class1, Class2, Class1
+     * <p>
+     * A call to .key() would return the execution order by first execution: [Class1, Class2].
+     * <p>
+     * A call to getClassesByMostRecentExecution() will instead return [Class2, Class1].
+     *
+     * @return a read-only view of the classes ordered by most recent execution, which reflects later additions.
+     */
+    public Set<Class> getClassesByMostRecentExecution() {
+        return Collections.unmodifiableSet(classesByMostRecentExecution);
+    }
+
+    /**
+     * @return a read-only view of the exported data with a lookup by the Action object, which reflects later additions. Actions are matched by
+     * identity, not by equals()
+     */
+    public ListMultimap<Action, ExportData> getExportedDataByAction() {
+        return Multimaps.unmodifiableListMultimap(exportedDataByAction);
+    }
+
+    /**
+     * @return a read-only view of the exported data with a lookup by the Action class, which reflects later additions.
+     */
+    public ListMultimap<Class, ExportData> getExportedDataByClass() {
+        return Multimaps.unmodifiableListMultimap(exportedDataByClass);
+    }
+
+    /**
+     * Get every value exported under exportKey by Actions of type actionClass.
+     *
+     * @param actionClass the class of the exporting Actions
+     * @param exportKey   the key the value was exported under
+     * @return a read-only list of the exported values in execution order. The list will be empty if no matching value has been exported
+     */
+    public List<Object> getExportedValues(Class actionClass, String exportKey) {
+        ListMultimap<String, Object> exportedValuesByKey = exportedValuesByClassAndKey.get(actionClass);
+
+        if (exportedValuesByKey == null) {
+            return Collections.emptyList();
+        }
+
+        return Collections.unmodifiableList(exportedValuesByKey.get(exportKey));
+    }
+
+    /**
+     * @return a read-only view of the Action results with a lookup by the Action object, which reflects later additions. Actions are matched by
+     * identity, not by equals()
+     */
+    public ListMultimap<Action, ResultType> getResultsByAction() {
+        return Multimaps.unmodifiableListMultimap(resultsByAction);
+    }
+
+    /**
+     * @return a read-only view of the Action results with a lookup by the Action class, which reflects later additions.
+     */
+    public ListMultimap<Class, ResultType> getResultsByClass() {
+        return Multimaps.unmodifiableListMultimap(resultsByClass);
+    }
+
+    /**
+     * ActionDetails together with a sequence number which orders them by execution, even after earlier details have been evicted.
+     */
+    static final class IndexedActionDetails<ResultType> {
+
+        final long sequence;
+        final ActionDetails<ResultType> actionDetails;
+
+        IndexedActionDetails(long sequence, ActionDetails<ResultType> actionDetails) {
+            this.sequence = sequence;
+            this.actionDetails = actionDetails;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.keithwoelke.actions.core.result;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Controls how much of the history a Result keeps. By default, every ActionDetails is kept for the life of the Result, including the Action result
+ * (often a complete HTTP response). For long running scenarios, a policy can bound the memory a Result uses:
+ * <ul>
+ * <li>withoutResults() drops the Action results as they are added. ActionDetails, exports and imports are unaffected, but getResultsByAction() and
+ * getResultsByClass() stay empty and the result of every ActionDetails is null.</li>
+ * <li>slidingWindow(n) keeps the details of the last n Actions only.</li>
+ * <li>latestPerClass() keeps the details of the most recent Action of each class only.</li>
+ * </ul>
+ * Evicted ActionDetails are removed from every index, so imports resolve against the retained Actions exactly as they would against a Result which
+ * only ever contained those Actions. In particular, the most recent export of every class is always retained by latestPerClass().
+ * <p>
+ * The policy only applies to ActionDetails added to the Result. The per-Action Results passed to subscribers and validators are unaffected.
+ *
+ * @author wkwoelke
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RetentionPolicy {
+
+    public static final RetentionPolicy KEEP_ALL = new RetentionPolicy(true, Integer.MAX_VALUE, false);
+
+    private final boolean retainResults;
+    /**
+     * The maximum number of ActionDetails kept.
+     */
+    private final int windowSize;
+    private final boolean latestPerClass;
+
+    /**
+     * @param windowSize the number of ActionDetails to keep
+     * @return a policy which keeps the details of the most recent windowSize Actions
+     */
+    public static RetentionPolicy slidingWindow(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("The window size must be at least 1");
+        }
+
+        return new RetentionPolicy(true, windowSize, false);
+    }
+
+    /**
+     * @return a policy which keeps the details of the most recent Action of each class
+     */
+    public static RetentionPolicy latestPerClass() {
+        return new RetentionPolicy(true, Integer.MAX_VALUE, true);
+    }
+
+    /**
+     * @return a policy which keeps every ActionDetails, but not the Action results
+     */
+    public static RetentionPolicy exportsOnly() {
+        return KEEP_ALL.withoutResults();
+    }
+
+    /**
+     * @return a copy of this policy which drops the Action results as they are added
+     */
+    public RetentionPolicy withoutResults() {
+        return new RetentionPolicy(false, windowSize, latestPerClass);
+    }
+}
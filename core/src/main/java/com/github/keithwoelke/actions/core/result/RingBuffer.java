@@ -0,0 +1,127 @@
+package com.github.keithwoelke.actions.core.result;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * A list backed by a circular array. Appending and removing the first element take constant time, so a Result can evict its oldest ActionDetails on
+ * every addition without shifting the rest of its history. Random access stays constant time. Inserting or removing anywhere else shifts the
+ * elements after that position, as an ArrayList would.
+ *
+ * @param <E> the type of the elements
+ * @author wkwoelke
+ */
+final class RingBuffer<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private Object[] elements = new Object[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+
+    @Override
+    public E get(int index) {
+        checkIndex(index, size);
+
+        return elementAt(index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index, size);
+
+        E previous = elementAt(index);
+        elements[slot(index)] = element;
+
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkIndex(index, size + 1);
+
+        if (size == elements.length) {
+            grow();
+        }
+
+        if (index == 0) {
+            head = (head - 1) & (elements.length - 1);
+        } else {
+            for (int i = size; i > index; i--) {
+                elements[slot(i)] = elements[slot(i - 1)];
+            }
+        }
+
+        elements[slot(index)] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkIndex(index, size);
+
+        E removed = elementAt(index);
+
+        if (index == 0) {
+            elements[head] = null;
+            head = (head + 1) & (elements.length - 1);
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elements[slot(i)] = elements[slot(i + 1)];
+            }
+
+            elements[slot(size - 1)] = null;
+        }
+
+        size--;
+        modCount++;
+
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            elements[slot(i)] = null;
+        }
+
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int index) {
+        return (E) elements[slot(index)];
+    }
+
+    /**
+     * The capacity is always a power of two, so wrapping around is a mask instead of a division.
+     */
+    private int slot(int index) {
+        return (head + index) & (elements.length - 1);
+    }
+
+    private void grow() {
+        Object[] grown = new Object[elements.length * 2];
+
+        for (int i = 0; i < size; i++) {
+            grown[i] = elements[slot(i)];
+        }
+
+        elements = grown;
+        head = 0;
+    }
+
+    private void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
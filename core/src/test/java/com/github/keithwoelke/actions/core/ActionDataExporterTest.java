@@ -1,6 +1,8 @@
 package com.github.keithwoelke.actions.core;
 
 import com.github.keithwoelke.actions.core.result.ExportData;
+import com.github.keithwoelke.actions.core.stubs.ActionWithAdapter;
+import com.github.keithwoelke.actions.core.stubs.ActionWithAdapter_ExportAdapter;
 import com.github.keithwoelke.actions.core.stubs.ActionWithExport;
 import org.junit.Before;
 import org.junit.Test;
@@ -31,6 +33,17 @@ public class ActionDataExporterTest {
         assertThat(exportData.get(ActionWithExport.EXPORT_FIELD_NAME), equalTo(EXPORT_FIELD));
     }
 
+    @Test
+    public void exportData_generatedExportAdapter_exportsThroughAdapter() {
+        ActionWithAdapter actionWithAdapter = new ActionWithAdapter();
+        actionWithAdapter.adaptedExport = EXPORT_FIELD;
+
+        ExportData exportData = actionDataExporter.exportData(actionWithAdapter);
+
+        assertThat(exportData.size(), is(1));
+        assertThat(exportData.get(ActionWithAdapter_ExportAdapter.ADAPTER_EXPORT), equalTo(EXPORT_FIELD));
+    }
+
     @Test
     public void exportData_exportData_exportsCorrectNumberOfValues() {
         ExportData exportData = actionDataExporter.exportData(actionWithExport);
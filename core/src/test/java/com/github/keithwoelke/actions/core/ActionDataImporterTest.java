@@ -15,11 +15,13 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.when;
 
 @SuppressWarnings({"FieldCanBeLocal"})
@@ -212,6 +214,12 @@ public class ActionDataImporterTest {
         when(resultMock.getExportedDataByClass()).
                 thenReturn(exportDataByClass);
 
+        when(resultMock.getExportedValues(any(Class.class), any(String.class))).
+                thenAnswer(invocation -> exportDataByClass.get(invocation.getArgument(0)).stream().
+                        filter(data -> data.containsKey(invocation.<String>getArgument(1))).
+                        map(data -> data.get(invocation.<String>getArgument(1))).
+                        collect(Collectors.toList()));
+
         classesByMostRecentExecutionOrder = Sets.newLinkedHashSet();
         classesByMostRecentExecutionOrder.add(ActionWithExport.class);
 
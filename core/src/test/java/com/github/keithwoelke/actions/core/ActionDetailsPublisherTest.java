@@ -0,0 +1,272 @@
+package com.github.keithwoelke.actions.core;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.github.keithwoelke.actions.core.filter.FilterObjectBuilder;
+import com.github.keithwoelke.actions.core.result.ActionDetails;
+import com.github.keithwoelke.actions.core.stubs.ValueAction;
+import com.github.keithwoelke.assertion.AssertionRecorder;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ActionDetailsPublisherTest {
+
+    @Mock
+    private AssertionRecorder assertionRecorderMock;
+    private ActionRunner baseRunner;
+    private ActionRunner actionRunner;
+    private RecordingSubscriber subscriber;
+
+    @Before
+    public void init() {
+        baseRunner = new ActionRunner(new ActionDataImporter(), new ActionDataExporter(), new FilterObjectBuilder(), assertionRecorderMock);
+        actionRunner = baseRunner.withOptions(RunnerOptions.builder().
+                asyncExecutor(Runnable::run).
+                build());
+    }
+
+    @Test
+    public void subscribe_unboundedDemand_publishesEveryActionAndCompletes() {
+        subscriber = new RecordingSubscriber(Long.MAX_VALUE, Integer.MAX_VALUE);
+
+        actionRunner.<String>publishActionsWithDetails(new ValueAction("first"), new ValueAction("second")).subscribe(subscriber);
+
+        assertThat(subscriber.results, equalTo(Lists.newArrayList("first", "second")));
+        assertThat(subscriber.completed, equalTo(true));
+    }
+
+    @Test
+    public void subscribe_subscriberCancels_remainingActionsNotPublished() {
+        subscriber = new RecordingSubscriber(1, 1);
+
+        actionRunner.<String>publishActionsWithDetails(new ValueAction("first"), new ValueAction("second")).subscribe(subscriber);
+
+        assertThat(subscriber.results, equalTo(Lists.newArrayList("first")));
+        assertThat(subscriber.completed, equalTo(false));
+    }
+
+    @Test
+    public void subscribe_secondSubscriber_receivesError() {
+        ActionDetailsPublisher<String> publisher = actionRunner.publishActionsWithDetails(new ValueAction("first"));
+        subscriber = new RecordingSubscriber(Long.MAX_VALUE, Integer.MAX_VALUE);
+        RecordingSubscriber secondSubscriber = new RecordingSubscriber(Long.MAX_VALUE, Integer.MAX_VALUE);
+
+        publisher.subscribe(subscriber);
+        publisher.subscribe(secondSubscriber);
+
+        assertThat(secondSubscriber.error, instanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    public void subscribe_parallelActionsFinishOutOfOrder_publishesInScenarioOrder() {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        CountDownLatch firstTaskFinished = new CountDownLatch(1);
+        Executor executor = command -> pool.execute(() -> {
+            command.run();
+            firstTaskFinished.countDown();
+        });
+        subscriber = new RecordingSubscriber(Long.MAX_VALUE, Integer.MAX_VALUE);
+
+        try {
+            baseRunner.withOptions(RunnerOptions.builder().
+                    asyncExecutor(Runnable::run).
+                    parallel(true).
+                    executor(executor).
+                    build()).
+                    <String>publishActionsWithDetails(new AwaitingAction("first", firstTaskFinished), new ValueAction("second")).
+                    subscribe(subscriber);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(subscriber.results, equalTo(Lists.newArrayList("first", "second")));
+        assertThat(subscriber.completed, equalTo(true));
+    }
+
+    @Test
+    public void subscribe_pipelinedWithoutDemand_scenarioWaitsOnceMaxPendingValidationsReached() {
+        ExecutorService validationExecutor = Executors.newSingleThreadExecutor();
+        AtomicInteger executions = new AtomicInteger();
+        subscriber = new RecordingSubscriber(0, Integer.MAX_VALUE);
+
+        try {
+            baseRunner.withOptions(RunnerOptions.builder().
+                    pipelinedValidation(true).
+                    maxPendingValidations(1).
+                    validationExecutor(validationExecutor).
+                    build()).
+                    <String>publishActionsWithDetails(new CountingAction("first", executions), new CountingAction("second", executions),
+                            new CountingAction("third", executions)).
+                    subscribe(subscriber);
+
+            while (executions.get() < 2) {
+                Thread.yield();
+            }
+
+            Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+
+            assertThat(executions.get(), equalTo(2));
+
+            subscriber.subscription.request(Long.MAX_VALUE);
+
+            assertThat(Uninterruptibles.awaitUninterruptibly(subscriber.terminated, 5, TimeUnit.SECONDS), equalTo(true));
+        } finally {
+            validationExecutor.shutdownNow();
+        }
+
+        assertThat(subscriber.results, equalTo(Lists.newArrayList("first", "second", "third")));
+        assertThat(executions.get(), equalTo(3));
+    }
+
+    @Test
+    public void subscribe_deferredValidation_publishesBeforeValidation() {
+        List<Runnable> validations = Lists.newArrayList();
+        subscriber = new RecordingSubscriber(Long.MAX_VALUE, Integer.MAX_VALUE);
+
+        baseRunner.withOptions(RunnerOptions.builder().
+                asyncExecutor(Runnable::run).
+                deferredValidation(true).
+                validationExecutor(validations::add).
+                build()).
+                <String>publishActionsWithDetails(new ValueAction("first"), new ValueAction("second")).
+                subscribe(subscriber);
+
+        assertThat(subscriber.results, equalTo(Lists.newArrayList("first", "second")));
+        assertThat(validations.size(), equalTo(2));
+    }
+
+    @Test
+    public void subscribe_requestFromAnotherThreadDuringOnNext_requestReturnsBeforeOnNext() {
+        AtomicInteger returnedRequests = new AtomicInteger();
+        subscriber = new RecordingSubscriber(1, Integer.MAX_VALUE) {
+            @Override
+            public void onNext(ActionDetails<String> actionDetails) {
+                super.onNext(actionDetails);
+
+                Thread requester = new Thread(() -> subscriber.subscription.request(1));
+                requester.start();
+                Uninterruptibles.joinUninterruptibly(requester, 5, TimeUnit.SECONDS);
+
+                if (!requester.isAlive()) {
+                    returnedRequests.incrementAndGet();
+                }
+            }
+        };
+
+        actionRunner.<String>publishActionsWithDetails(new ValueAction("first"), new ValueAction("second")).subscribe(subscriber);
+
+        assertThat(returnedRequests.get(), equalTo(2));
+        assertThat(subscriber.results, equalTo(Lists.newArrayList("first", "second")));
+        assertThat(subscriber.completed, equalTo(true));
+    }
+
+    private static class RecordingSubscriber implements ActionDetailsSubscriber<String> {
+
+        private final long initialDemand;
+        private final int cancelAfter;
+        private final List<String> results = Lists.newArrayList();
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private ActionDetailsSubscription subscription;
+        private boolean completed;
+        private Throwable error;
+
+        private RecordingSubscriber(long initialDemand, int cancelAfter) {
+            this.initialDemand = initialDemand;
+            this.cancelAfter = cancelAfter;
+        }
+
+        @Override
+        public void onSubscribe(ActionDetailsSubscription subscription) {
+            this.subscription = subscription;
+
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(ActionDetails<String> actionDetails) {
+            results.add(actionDetails.getResult());
+
+            if (results.size() == cancelAfter) {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+    }
+
+    /**
+     * Returns its value once the latch has been released.
+     */
+    private static class AwaitingAction extends ActionImpl implements Actionable<String> {
+
+        private final String value;
+        private final transient CountDownLatch latch;
+
+        private AwaitingAction(String value, CountDownLatch latch) {
+            super(null);
+
+            this.value = value;
+            this.latch = latch;
+        }
+
+        @Override
+        public String doAction() {
+            if (!Uninterruptibles.awaitUninterruptibly(latch, 5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for the latch");
+            }
+
+            return value;
+        }
+    }
+
+    /**
+     * Returns its value and counts how many CountingActions have been executed.
+     */
+    private static class CountingAction extends ActionImpl implements Actionable<String> {
+
+        private final String value;
+        private final transient AtomicInteger executions;
+
+        private CountingAction(String value, AtomicInteger executions) {
+            super(null);
+
+            this.value = value;
+            this.executions = executions;
+        }
+
+        @Override
+        public String doAction() {
+            executions.incrementAndGet();
+
+            return value;
+        }
+    }
+}
@@ -0,0 +1,538 @@
+package com.github.keithwoelke.actions.core;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.github.keithwoelke.actions.core.filter.FilterControl;
+import com.github.keithwoelke.actions.core.filter.FilterObjectBuilder;
+import com.github.keithwoelke.actions.core.filter.FilterSet;
+import com.github.keithwoelke.actions.core.filter.filters.ExcludeFilter;
+import com.github.keithwoelke.actions.core.filter.filters.IncludeFilter;
+import com.github.keithwoelke.actions.core.metrics.RunnerMetrics;
+import com.github.keithwoelke.actions.core.result.ActionDetails;
+import com.github.keithwoelke.actions.core.result.Result;
+import com.github.keithwoelke.actions.core.stubs.ActionWithExport;
+import com.github.keithwoelke.actions.core.stubs.HttpRequestTestAction;
+import com.github.keithwoelke.actions.core.stubs.MacroAction;
+import com.github.keithwoelke.actions.core.stubs.TestAction;
+import com.github.keithwoelke.assertion.AssertionRecorder;
+import com.github.keithwoelke.assertion.ValidationResult;
+import com.github.keithwoelke.test.core.http.RequestMethod;
+import io.restassured.response.Response;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+@RunWith(MockitoJUnitRunner.class)
+public class ActionRunnerTest {
+
+    @Mock
+    private Response responseMock;
+    @Mock
+    private ActionDetails actionDetailsMock;
+    @Mock
+    private ActionDataImporter importAnnotationProcessorMock;
+    @Mock
+    private ActionDataExporter actionDataExporterMock;
+    @Mock
+    private IncludeFilter includeFilterMock;
+    @Mock
+    private ExcludeFilter excludeFilterMock;
+    @Mock
+    private FilterSet filterSetMock;
+    @Mock
+    private FilterObjectBuilder filterObjectBuilderMock;
+    @Mock
+    private TestAction testActionMock;
+    @Mock
+    private FilterControl filterControlMock;
+    @Mock
+    private HttpRequestTestAction httpRequestTestActionMock;
+    @Mock
+    private MacroAction macroActionMock;
+    @Mock
+    private Result resultMock;
+    @Mock
+    private Result filteredResultMock;
+    @Mock
+    private ActionWithExport actionWithExport;
+    @Mock
+    private AssertionRecorder assertionRecorderMock;
+    @Mock
+    private ActionRunListener actionRunListenerMock;
+
+    private ActionRunner actionRunner;
+
+    @Before
+    public void init() {
+        actionRunner = new ActionRunner(importAnnotationProcessorMock, actionDataExporterMock, filterObjectBuilderMock, assertionRecorderMock);
+
+        when(filterObjectBuilderMock.getFilterSet()).
+                thenReturn(filterSetMock);
+
+        when(filterObjectBuilderMock.getResult()).
+                thenReturn(resultMock);
+
+        when(httpRequestTestActionMock.doAction()).
+                thenReturn(responseMock);
+
+        when(httpRequestTestActionMock.isRecognizedRequestMethod(any(String.class))).
+                thenReturn(true);
+
+        when(testActionMock.doAction()).
+                thenReturn(responseMock);
+
+        when(filterSetMock.process(testActionMock)).
+                thenReturn(false);
+
+        when(filterSetMock.process(includeFilterMock)).
+                thenReturn(true);
+
+        when(filterSetMock.process(filterControlMock)).
+                thenReturn(true);
+
+        when(filterSetMock.applyFilters(resultMock)).
+                thenReturn(filteredResultMock);
+
+        ArrayListMultimap<Action, Response> resultsByAction = ArrayListMultimap.create();
+        resultsByAction.put(testActionMock, responseMock);
+
+        when(resultMock.getActionDetails()).
+                thenReturn(Lists.newArrayList(actionDetailsMock));
+
+        when(actionWithExport.doAction()).
+                thenReturn(resultMock);
+    }
+
+    @Test
+    public void doActionWithDetails_singleAction_returnsDetailResults() {
+        Result<Object> result = actionRunner.doActionWithDetails(testActionMock);
+
+        assertThat(result.getActionDetails().get(0), equalTo(actionDetailsMock));
+    }
+
+    @Test
+    public void doAction_actionImplementsAfterAction_callsAfterAction() {
+        actionRunner.doAction(actionWithExport);
+
+        verify(actionWithExport).afterAction(any());
+    }
+
+    @Test
+    public void doAction_actionImplementsBeforeAction_callsBeforeAction() {
+        actionRunner.doAction(actionWithExport);
+
+        verify(actionWithExport).beforeAction();
+    }
+
+    @Test
+    public void doAction_actionImplementsChangesState_callsGetCurrentStateTwice() {
+        actionRunner.doAction(testActionMock);
+
+        verify(testActionMock, times(2)).getCurrentState(any());
+    }
+
+    @Test
+    public void doAction_actionImplementsChangesState_callsGetExpectedState() {
+        actionRunner.doAction(testActionMock);
+
+        verify(testActionMock).getExpectedState(any(), any(), any());
+    }
+
+    @Test
+    public void doAction_actionImplementsChangesState_callsValidateState() {
+        actionRunner.doAction(testActionMock);
+
+        verify(testActionMock).validateState(any(), any());
+    }
+
+    @Test
+    public void doAction_httpOptionsRequestMethodNotSupported_callsValidateUnsupported() {
+        when(httpRequestTestActionMock.getRequestMethod()).thenReturn(RequestMethod.OPTIONS.name());
+        when(httpRequestTestActionMock.isSupportedRequestMethod(any(String.class))).thenReturn(false);
+
+        actionRunner.doAction(httpRequestTestActionMock);
+
+        verify(httpRequestTestActionMock).validateUnsupportedRequestMethod(any(Response.class), any(List.class));
+    }
+
+    @Test
+    public void doAction_httpOptionsRequestMethod_callsValidateOptions() {
+        when(httpRequestTestActionMock.getRequestMethod()).thenReturn(RequestMethod.OPTIONS.name());
+        when(httpRequestTestActionMock.isSupportedRequestMethod(any(String.class))).thenReturn(true);
+
+        actionRunner.doAction(httpRequestTestActionMock);
+
+        verify(httpRequestTestActionMock).validateOptionsRequestMethod(any(Response.class));
+    }
+
+    @Test
+    public void doAction_httpRequestMethodNotRecognized_callsValidateUnrecognized() {
+        when(httpRequestTestActionMock.isRecognizedRequestMethod(any(String.class))).thenReturn(false);
+        when(httpRequestTestActionMock.getRequestMethod()).thenReturn(RequestMethod.OPTIONS.name());
+
+        actionRunner.doAction(httpRequestTestActionMock);
+
+        verify(httpRequestTestActionMock).validateUnrecognizedRequestMethod(any(Response.class));
+    }
+
+    @Test
+    public void doAction_httpRequestMethod_callsValidate() {
+        actionRunner.doAction(httpRequestTestActionMock);
+
+        verify(httpRequestTestActionMock).validateResult(any(Response.class), isNull());
+    }
+
+    @Test
+    public void doAction_nonHttpRequestMethod_callsValidate() {
+        actionRunner.doAction(testActionMock);
+
+        verify(testActionMock).validateResult(any(Response.class), any());
+    }
+
+    @Test
+    public void doActionsWithDetails_multipleActions_returnsDetailResults() {
+        Result<Object> result = actionRunner.doActionsWithDetails(testActionMock, testActionMock);
+
+        assertThat(result.getActionDetails().get(0), equalTo(actionDetailsMock));
+    }
+
+    @Test
+    public void doActions_filterAction_finalResultNotFiltered() {
+        Result<Object> result = actionRunner.doActionsWithDetails(testActionMock, includeFilterMock);
+
+        assertThat(result, equalTo(resultMock));
+    }
+
+    @Test
+    public void doActions_filterAfterAction_actionExecutes() {
+        actionRunner.doActions(testActionMock, includeFilterMock);
+
+        verify(testActionMock).doAction();
+        verify(filterSetMock).applyFilters(any(Result.class));
+    }
+
+    @Test
+    public void doActions_filterBeforeAction_actionAndFilterExecute() {
+        actionRunner.doActions(includeFilterMock, testActionMock);
+
+        verify(testActionMock).doAction();
+        verify(filterSetMock).applyFilters(any(Result.class));
+    }
+
+    @Test
+    public void doActions_filterControlAfterAction_actionExecutes() {
+        actionRunner.doActions(testActionMock, filterControlMock);
+
+        verify(testActionMock).doAction();
+        verify(filterSetMock).applyFilters(any(Result.class));
+    }
+
+    @Test
+    public void doActions_filterControlBeforeAction_actionExecutes() {
+        actionRunner.doActions(filterControlMock, testActionMock);
+
+        verify(testActionMock).doAction();
+        verify(filterSetMock).applyFilters(any(Result.class));
+    }
+
+    @Test
+    public void doActions_macroWithAction_allActionsExecute() {
+        actionRunner.doActions(macroActionMock, testActionMock);
+
+        verify(macroActionMock).doAction();
+        verify(testActionMock).doAction();
+    }
+
+    @Test
+    public void doActions_multipleFilters_allFiltersAdded() {
+        actionRunner.doActions(includeFilterMock, excludeFilterMock);
+
+        verify(filterSetMock).process(includeFilterMock);
+        verify(filterSetMock).process(excludeFilterMock);
+    }
+
+    @Test
+    public void doActionsWithDetails_virtualThreadsWithoutParallel_executesOnCallingThread() {
+        AtomicReference<Thread> actionThread = new AtomicReference<>();
+        ActionRunner virtualThreadRunner = actionRunner.withOptions(RunnerOptions.builder().
+                virtualThreads(true).
+                build());
+
+        when(testActionMock.doAction()).
+                thenAnswer(invocation -> {
+                    actionThread.set(Thread.currentThread());
+
+                    return responseMock;
+                });
+
+        virtualThreadRunner.doActionsWithDetails(testActionMock);
+
+        assertThat(actionThread.get(), equalTo(Thread.currentThread()));
+    }
+
+    @Test
+    public void doActionsWithDetailsAsync_executorRunsScenario_completesWithDetails() {
+        ActionRunner asyncRunner = actionRunner.withOptions(RunnerOptions.builder().
+                asyncExecutor(Runnable::run).
+                build());
+
+        CompletableFuture<Result<Object>> future = asyncRunner.doActionsWithDetailsAsync(testActionMock);
+
+        assertThat(future.join(), equalTo(resultMock));
+    }
+
+    @Test
+    public void doActionsWithDetailsAsync_cancelledBeforeExecution_actionNotExecuted() {
+        List<Runnable> scenarios = Lists.newArrayList();
+        ActionRunner asyncRunner = actionRunner.withOptions(RunnerOptions.builder().
+                asyncExecutor(scenarios::add).
+                build());
+
+        CompletableFuture<Result<Object>> future = asyncRunner.doActionsWithDetailsAsync(testActionMock);
+        future.cancel(false);
+        scenarios.forEach(Runnable::run);
+
+        verify(testActionMock, never()).doAction();
+        assertThat(future.isCancelled(), equalTo(true));
+    }
+
+    @Test
+    public void doActions_pipelinedValidationFails_nextActionExecutesAndFailureRethrown() {
+        IllegalStateException failure = new IllegalStateException();
+        ActionRunner pipelinedRunner = actionRunner.withOptions(RunnerOptions.builder().
+                pipelinedValidation(true).
+                validationExecutor(Runnable::run).
+                build());
+
+        doThrow(failure).when(testActionMock).validateResult(any(), any());
+
+        try {
+            pipelinedRunner.doActions(testActionMock, macroActionMock);
+            fail();
+        } catch (IllegalStateException e) {
+            assertThat(e, equalTo(failure));
+        }
+
+        verify(macroActionMock).doAction();
+    }
+
+    @Test
+    public void doActions_pipelinedValidationFailsWithFailFast_nextActionNotExecuted() {
+        IllegalStateException failure = new IllegalStateException();
+        ActionRunner pipelinedRunner = actionRunner.withOptions(RunnerOptions.builder().
+                pipelinedValidation(true).
+                failFast(true).
+                validationExecutor(Runnable::run).
+                build());
+
+        doThrow(failure).when(testActionMock).validateResult(any(), any());
+
+        try {
+            pipelinedRunner.doActions(testActionMock, macroActionMock);
+            fail();
+        } catch (IllegalStateException e) {
+            assertThat(e, equalTo(failure));
+        }
+
+        verify(macroActionMock, never()).doAction();
+    }
+
+    @Test
+    public void doActions_pipelinedValidationFails_failureRecordedOnScenarioThread() {
+        ExecutorService validationExecutor = Executors.newSingleThreadExecutor();
+        AtomicReference<Thread> recordingThread = new AtomicReference<>();
+        ActionRunner pipelinedRunner = actionRunner.withOptions(RunnerOptions.builder().
+                pipelinedValidation(true).
+                validationExecutor(validationExecutor).
+                build());
+
+        doThrow(new IllegalStateException()).when(testActionMock).validateResult(any(), any());
+        doAnswer(invocation -> {
+            recordingThread.set(Thread.currentThread());
+
+            return null;
+        }).when(assertionRecorderMock).recordValidations(any(ValidationResult.class));
+
+        try {
+            pipelinedRunner.doActions(testActionMock);
+            fail();
+        } catch (IllegalStateException e) {
+            assertThat(recordingThread.get(), equalTo(Thread.currentThread()));
+        } finally {
+            validationExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void doActions_pipelinedSameActionTwice_validationSeesItsOwnExecution() {
+        ExecutorService validationExecutor = Executors.newSingleThreadExecutor();
+        RunCountingAction runCountingAction = new RunCountingAction();
+        ActionRunner pipelinedRunner = actionRunner.withOptions(RunnerOptions.builder().
+                pipelinedValidation(true).
+                validationExecutor(validationExecutor).
+                build());
+
+        try {
+            pipelinedRunner.doActions(runCountingAction, runCountingAction);
+        } finally {
+            validationExecutor.shutdownNow();
+        }
+
+        assertThat(runCountingAction.validatedRuns, equalTo(Lists.newArrayList(1, 2)));
+    }
+
+    @Test
+    public void doActions_deferredSameActionTwice_validationSeesItsOwnExecution() {
+        ExecutorService validationExecutor = Executors.newSingleThreadExecutor();
+        RunCountingAction runCountingAction = new RunCountingAction();
+        ActionRunner deferredRunner = actionRunner.withOptions(RunnerOptions.builder().
+                deferredValidation(true).
+                validationExecutor(validationExecutor).
+                build());
+
+        try {
+            deferredRunner.doActions(runCountingAction, runCountingAction);
+            deferredRunner.awaitValidations();
+        } finally {
+            validationExecutor.shutdownNow();
+        }
+
+        assertThat(runCountingAction.validatedRuns, equalTo(Lists.newArrayList(1, 2)));
+    }
+
+    @Test
+    public void doActionsWithDetails_validationSampled_unsampledExecutionsSkipValidation() {
+        ActionRunner sampledRunner = actionRunner.withOptions(RunnerOptions.builder().
+                validationSampler(ValidationSampler.oneIn(2)).
+                build());
+
+        Result<Object> result = sampledRunner.doActionsWithDetails(new Result<>(), testActionMock, testActionMock);
+
+        verify(testActionMock, times(2)).doAction();
+        verify(testActionMock, times(2)).getCurrentState(any());
+        verify(testActionMock, times(1)).validateResult(any(), any());
+        assertThat(result.getActionDetails().get(0).isValidated(), equalTo(true));
+        assertThat(result.getActionDetails().get(1).isValidated(), equalTo(false));
+    }
+
+    @Test
+    public void doActions_deferredValidationFails_failureRecordedOnAwait() {
+        ActionRunner deferredRunner = actionRunner.withOptions(RunnerOptions.builder().
+                deferredValidation(true).
+                validationExecutor(Runnable::run).
+                build());
+
+        doThrow(new IllegalStateException()).when(testActionMock).validateState(any(), any());
+
+        deferredRunner.doActions(testActionMock, macroActionMock);
+
+        verify(macroActionMock).doAction();
+        verify(assertionRecorderMock, never()).recordValidations(any(ValidationResult.class));
+        assertThat(deferredRunner.awaitValidations(), equalTo(1));
+        verify(assertionRecorderMock).recordValidations(any(ValidationResult.class));
+        assertThat(deferredRunner.awaitValidations(), equalTo(0));
+    }
+
+    @Test
+    public void doAction_metricsRegistered_stageLatenciesRecorded() {
+        RunnerMetrics metrics = new RunnerMetrics();
+        ActionRunner measuredRunner = actionRunner.withOptions(RunnerOptions.builder().
+                metrics(metrics).
+                build());
+
+        measuredRunner.doAction(testActionMock);
+
+        assertThat(metrics.getHistogram(testActionMock.getClass(), ActionRunner.ActionStage.DO_ACTION).getCount(), equalTo(1L));
+        assertThat(metrics.getHistogram(testActionMock.getClass(), ActionRunner.ActionStage.VALIDATE).getCount(), equalTo(1L));
+    }
+
+    @Test
+    public void doAction_listenerRegistered_notifiedOfStages() {
+        actionRunner.addListener(actionRunListenerMock);
+
+        actionRunner.doAction(testActionMock);
+
+        verify(actionRunListenerMock).stageStarted(testActionMock, ActionRunner.ActionStage.DO_ACTION);
+        verify(actionRunListenerMock).stageFinished(eq(testActionMock), eq(ActionRunner.ActionStage.DO_ACTION), anyLong());
+    }
+
+    @Test
+    public void doAction_stageFails_listenerNotifiedOfFailure() {
+        IllegalStateException failure = new IllegalStateException();
+        actionRunner.addListener(actionRunListenerMock);
+
+        doThrow(failure).when(testActionMock).validateState(any(), any());
+
+        try {
+            actionRunner.doAction(testActionMock);
+            fail();
+        } catch (IllegalStateException e) {
+            verify(actionRunListenerMock).stageFailed(eq(testActionMock), eq(ActionRunner.ActionStage.VALIDATE_STATE), anyLong(), eq(failure));
+        }
+    }
+
+    @Test
+    public void doAction_listenerRemoved_notNotified() {
+        actionRunner.addListener(actionRunListenerMock);
+        actionRunner.removeListener(actionRunListenerMock);
+
+        actionRunner.doAction(testActionMock);
+
+        verify(actionRunListenerMock, never()).stageStarted(any(), any());
+    }
+
+    /**
+     * Counts its executions. Validation is slow and records the execution count it sees.
+     */
+    private static class RunCountingAction extends ActionImpl implements ValidatableAction<Integer, Void, Void> {
+
+        private final List<Integer> validatedRuns = Collections.synchronizedList(Lists.newArrayList());
+        private int runs;
+
+        private RunCountingAction() {
+            super(null);
+        }
+
+        @Override
+        public Integer doAction() {
+            return ++runs;
+        }
+
+        @Override
+        public Void getExpectedResult(Integer result, Void baselineState, Void finalState, Void expectedState) {
+            return null;
+        }
+
+        @Override
+        public void validateResult(Integer result, Void expectedResult) {
+            Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+            validatedRuns.add(runs);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.keithwoelke.actions.core;
+
+import com.github.keithwoelke.actions.core.stubs.ActionWithExport;
+import com.github.keithwoelke.actions.core.stubs.ValueAction;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+public class ActionStagePlanTest {
+
+    @Test
+    public void of_actionableOnly_onlyActionableSet() {
+        ActionStagePlan plan = ActionStagePlan.of(ValueAction.class);
+
+        assertThat(plan.isActionable(), equalTo(true));
+        assertThat(plan.isBeforeState(), equalTo(false));
+        assertThat(plan.isChangesState(), equalTo(false));
+        assertThat(plan.isBeforeAction(), equalTo(false));
+        assertThat(plan.isSelfDescribing(), equalTo(false));
+        assertThat(plan.isAfterAction(), equalTo(false));
+        assertThat(plan.isAfterState(), equalTo(false));
+        assertThat(plan.isValidatable(), equalTo(false));
+        assertThat(plan.isHttpRequestMethod(), equalTo(false));
+    }
+
+    @Test
+    public void of_inheritedInterfaces_stagesIncluded() {
+        ActionStagePlan plan = ActionStagePlan.of(ActionWithExport.class);
+
+        assertThat(plan.isChangesState(), equalTo(true));
+        assertThat(plan.isSelfDescribing(), equalTo(true));
+        assertThat(plan.isBeforeAction(), equalTo(true));
+        assertThat(plan.isAfterAction(), equalTo(true));
+        assertThat(plan.isValidatable(), equalTo(true));
+        assertThat(plan.isBeforeState(), equalTo(false));
+        assertThat(plan.isHttpRequestMethod(), equalTo(false));
+    }
+
+    @Test
+    public void of_sameClass_cachedPlanReturned() {
+        assertThat(ActionStagePlan.of(ValueAction.class), sameInstance(ActionStagePlan.of(ValueAction.class)));
+    }
+}
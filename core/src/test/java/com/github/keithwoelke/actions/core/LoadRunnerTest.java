@@ -0,0 +1,194 @@
+package com.github.keithwoelke.actions.core;
+
+import com.github.keithwoelke.actions.core.ActionRunner.ActionStage;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.github.keithwoelke.actions.core.filter.FilterObjectBuilder;
+import com.github.keithwoelke.actions.core.stubs.ValueAction;
+import com.github.keithwoelke.actions.core.stubs.ValueImportAction;
+import com.github.keithwoelke.assertion.AssertionRecorder;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LoadRunnerTest {
+
+    @Mock
+    private AssertionRecorder assertionRecorderMock;
+    @Mock
+    private Actionable<String> failingActionMock;
+    @Mock
+    private Actionable<String> slowActionMock;
+    private LoadRunner loadRunner;
+
+    @Before
+    public void init() {
+        loadRunner = new LoadRunner(new ActionRunner(new ActionDataImporter(), new ActionDataExporter(), new FilterObjectBuilder(),
+                assertionRecorderMock));
+    }
+
+    @Test
+    public void run_closedModel_recordsEveryScenario() {
+        ClosedLoadModel model = ClosedLoadModel.builder().
+                virtualUsers(2).
+                thinkTime(Duration.ofMillis(5)).
+                rampUp(Duration.ofMillis(20)).
+                duration(Duration.ofMillis(200)).
+                build();
+
+        LoadReport report = loadRunner.run(model, () -> new Action[]{new ValueAction("value"), new ValueImportAction()});
+
+        assertThat(report.getScenarios() > 0, equalTo(true));
+        assertThat(report.getFailedScenarios(), equalTo(0L));
+        assertThat(report.getStageMetrics().getHistogram(ValueAction.class, ActionStage.DO_ACTION).getCount(), equalTo(report.getScenarios()));
+        assertThat(report.getStageMetrics().getHistogram(ValueImportAction.class, ActionStage.DO_ACTION).getCount(), equalTo(report.getScenarios()));
+        assertThat(report.getErrorsByClass().isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void run_failingScenario_countsErrorsByClass() {
+        when(failingActionMock.doAction()).
+                thenThrow(new IllegalStateException());
+
+        ClosedLoadModel model = ClosedLoadModel.builder().
+                virtualUsers(1).
+                duration(Duration.ofMillis(50)).
+                build();
+
+        LoadReport report = loadRunner.run(model, () -> new Action[]{new ValueAction("value"), failingActionMock});
+
+        assertThat(report.getFailedScenarios(), equalTo(report.getScenarios()));
+        assertThat(report.getErrorsByClass().get(failingActionMock.getClass()), equalTo(report.getScenarios()));
+        assertThat(report.getErrorsByClass().containsKey(ValueAction.class), equalTo(false));
+    }
+
+    @Test
+    public void run_closedModelExecutorRejectsVirtualUsers_returnsWithoutScenarios() {
+        LoadRunner rejectingLoadRunner = new LoadRunner(new ActionRunner(new ActionDataImporter(), new ActionDataExporter(),
+                new FilterObjectBuilder(), assertionRecorderMock), command -> {
+            throw new RejectedExecutionException();
+        });
+
+        ClosedLoadModel model = ClosedLoadModel.builder().
+                virtualUsers(2).
+                duration(Duration.ofMillis(50)).
+                build();
+
+        LoadReport report = rejectingLoadRunner.run(model, () -> new Action[]{new ValueAction("value")});
+
+        assertThat(report.getScenarios(), equalTo(0L));
+    }
+
+    @Test
+    public void run_withoutVirtualUsers_throwsIllegalArgumentException() {
+        ClosedLoadModel model = ClosedLoadModel.builder().
+                duration(Duration.ofMillis(50)).
+                build();
+
+        try {
+            loadRunner.run(model, () -> new Action[0]);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void run_openModel_startsScenariosAtArrivalRate() {
+        OpenLoadModel model = OpenLoadModel.builder().
+                arrivalProfile(ArrivalProfile.constant(100, Duration.ofMillis(200))).
+                maxConcurrency(20).
+                build();
+
+        LoadReport report = loadRunner.run(model, () -> new Action[]{new ValueAction("value"), new ValueImportAction()});
+
+        assertThat(report.getScenarios(), equalTo(20L));
+        assertThat(report.getMissedStarts(), equalTo(0L));
+        assertThat(report.getStageMetrics().getHistogram(ValueImportAction.class, ActionStage.DO_ACTION).getCount(), equalTo(20L));
+    }
+
+    @Test
+    public void run_openModelAtConcurrencyCap_countsMissedStarts() {
+        when(slowActionMock.doAction()).
+                thenAnswer(invocation -> {
+                    Uninterruptibles.sleepUninterruptibly(50, TimeUnit.MILLISECONDS);
+                    return "value";
+                });
+
+        OpenLoadModel model = OpenLoadModel.builder().
+                arrivalProfile(ArrivalProfile.constant(100, Duration.ofMillis(200))).
+                maxConcurrency(1).
+                build();
+
+        LoadReport report = loadRunner.run(model, () -> new Action[]{slowActionMock});
+
+        assertThat(report.getScenarios() + report.getMissedStarts(), equalTo(20L));
+        assertThat(report.getMissedStarts() > 0, equalTo(true));
+        assertThat(report.getScenarioLatency().getValueAtPercentile(0) >= TimeUnit.MILLISECONDS.toNanos(50), equalTo(true));
+    }
+
+    @Test
+    public void run_openModelRampFromZero_startsHalfOfPeakRateTimesDuration() {
+        OpenLoadModel model = OpenLoadModel.builder().
+                arrivalProfile(ArrivalProfile.ramp(0, 200, Duration.ofMillis(200))).
+                maxConcurrency(20).
+                build();
+
+        LoadReport report = loadRunner.run(model, () -> new Action[]{new ValueAction("value")});
+
+        assertThat(report.getScenarios() + report.getMissedStarts(), equalTo(20L));
+    }
+
+    @Test
+    public void getArrivalNanos_rampFromZero_arrivalsFollowIntegralOfRate() {
+        ArrivalProfile arrivalProfile = ArrivalProfile.ramp(0, 100, Duration.ofSeconds(1));
+
+        assertThat(countArrivals(arrivalProfile), equalTo(50L));
+        assertThat(arrivalProfile.getArrivalNanos(0), equalTo(0L));
+        assertThat(arrivalProfile.getArrivalNanos(8), equalTo(TimeUnit.MILLISECONDS.toNanos(400)));
+    }
+
+    @Test
+    public void getArrivalNanos_stepProfile_startsNextStepAtBoundary() {
+        ArrivalProfile arrivalProfile = ArrivalProfile.constant(10, Duration.ofSeconds(1)).
+                then(ArrivalProfile.constant(0, Duration.ofSeconds(1))).
+                then(ArrivalProfile.constant(20, Duration.ofSeconds(1)));
+
+        assertThat(countArrivals(arrivalProfile), equalTo(30L));
+        assertThat(arrivalProfile.getArrivalNanos(9), equalTo(TimeUnit.MILLISECONDS.toNanos(900)));
+        assertThat(arrivalProfile.getArrivalNanos(10), equalTo(TimeUnit.SECONDS.toNanos(2)));
+        assertThat(arrivalProfile.getArrivalNanos(11), equalTo(TimeUnit.MILLISECONDS.toNanos(2050)));
+        assertThat(arrivalProfile.getArrivalNanos(30), equalTo(-1L));
+    }
+
+    @Test
+    public void getRate_stepAndRampProfile_followsSegments() {
+        ArrivalProfile arrivalProfile = ArrivalProfile.constant(10, Duration.ofSeconds(1)).
+                then(ArrivalProfile.ramp(20, 40, Duration.ofSeconds(2)));
+
+        assertThat(arrivalProfile.getDurationNanos(), equalTo(TimeUnit.SECONDS.toNanos(3)));
+        assertThat(arrivalProfile.getRate(TimeUnit.MILLISECONDS.toNanos(500)), equalTo(10.0));
+        assertThat(arrivalProfile.getRate(TimeUnit.SECONDS.toNanos(2)), equalTo(30.0));
+        assertThat(arrivalProfile.getRate(TimeUnit.SECONDS.toNanos(3)), equalTo(0.0));
+    }
+
+    private static long countArrivals(ArrivalProfile arrivalProfile) {
+        long arrivals = 0;
+
+        while (arrivalProfile.getArrivalNanos(arrivals) >= 0) {
+            arrivals++;
+        }
+
+        return arrivals;
+    }
+}
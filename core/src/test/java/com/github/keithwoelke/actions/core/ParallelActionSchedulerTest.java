@@ -0,0 +1,155 @@
+package com.github.keithwoelke.actions.core;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.github.keithwoelke.actions.core.filter.FilterObjectBuilder;
+import com.github.keithwoelke.actions.core.result.Result;
+import com.github.keithwoelke.actions.core.stubs.ValueAction;
+import com.github.keithwoelke.actions.core.stubs.ValueImportAction;
+import com.github.keithwoelke.assertion.AssertionRecorder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ParallelActionSchedulerTest {
+
+    @Mock
+    private AssertionRecorder assertionRecorderMock;
+    @Mock
+    private Actionable<String> failingActionMock;
+    private ExecutorService executor;
+    private ActionRunner sequentialRunner;
+    private ActionRunner parallelRunner;
+
+    @Before
+    public void init() {
+        executor = Executors.newFixedThreadPool(4);
+        sequentialRunner = new ActionRunner(new ActionDataImporter(), new ActionDataExporter(), new FilterObjectBuilder(), assertionRecorderMock);
+        parallelRunner = sequentialRunner.withOptions(RunnerOptions.builder().
+                parallel(true).
+                executor(executor).
+                build());
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void doActions_importsFromEarlierActions_matchesSequentialExecution() {
+        List<Object> sequentialResults = sequentialRunner.doActions(new ValueAction("first"), new ValueImportAction(), new ValueAction("second"),
+                new ValueImportAction());
+        List<Object> parallelResults = parallelRunner.doActions(new ValueAction("first"), new ValueImportAction(), new ValueAction("second"),
+                new ValueImportAction());
+
+        assertThat(parallelResults, equalTo(sequentialResults));
+    }
+
+    @Test
+    public void doActions_independentActions_executeConcurrently() {
+        CountDownLatch rendezvous = new CountDownLatch(2);
+
+        List<Object> results = parallelRunner.doActions(new ValueAction("first", rendezvous), new ValueAction("second", rendezvous),
+                new ValueImportAction());
+
+        assertThat(results, equalTo(Lists.<Object>newArrayList("first", "second", "second")));
+    }
+
+    @Test
+    public void doActionsWithDetails_actionFails_keepsEarlierResultsAndRethrows() {
+        IllegalStateException failure = new IllegalStateException();
+        Result<Object> executionDetails = new Result<>();
+
+        when(failingActionMock.doAction()).
+                thenThrow(failure);
+
+        try {
+            parallelRunner.doActionsWithDetails(executionDetails, new ValueAction("first"), failingActionMock, new ValueAction("second"));
+            fail();
+        } catch (IllegalStateException e) {
+            assertThat(e, equalTo(failure));
+        }
+
+        assertThat(sequentialRunner.filterResults(executionDetails), equalTo(Lists.<Object>newArrayList("first")));
+    }
+
+    @Test
+    public void doActions_erasedResultType_executeConcurrently() {
+        CountDownLatch rendezvous = new CountDownLatch(2);
+
+        List<Object> results = parallelRunner.doActions(new ErasedResultAction(rendezvous), new ErasedResultAction(rendezvous));
+
+        assertThat(results, equalTo(Lists.<Object>newArrayList(rendezvous, rendezvous)));
+    }
+
+    @Test
+    public void doActions_returnsResult_laterActionsImportFromNestedResult() {
+        List<Object> sequentialResults = sequentialRunner.doActions(new ValueAction("first"), new NestedResultAction(sequentialRunner),
+                new ValueImportAction());
+        List<Object> parallelResults = parallelRunner.doActions(new ValueAction("first"), new NestedResultAction(sequentialRunner),
+                new ValueImportAction());
+
+        assertThat(parallelResults, equalTo(sequentialResults));
+        assertThat(parallelResults, equalTo(Lists.<Object>newArrayList("first", "nested", "nested")));
+    }
+
+    /**
+     * Returns the rendezvous latch once every party has reached doAction(). The Result Type is erased, so doAction() is declared to return Object.
+     */
+    private static class ErasedResultAction extends ActionImpl implements Actionable<Object> {
+
+        private final transient CountDownLatch rendezvous;
+
+        private ErasedResultAction(CountDownLatch rendezvous) {
+            super(null);
+
+            this.rendezvous = rendezvous;
+        }
+
+        @Override
+        public Object doAction() {
+            rendezvous.countDown();
+
+            if (!Uninterruptibles.awaitUninterruptibly(rendezvous, 5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for concurrent actions");
+            }
+
+            return rendezvous;
+        }
+    }
+
+    /**
+     * Executes a ValueAction and returns its details as a nested Result.
+     */
+    private static class NestedResultAction extends ActionImpl implements Actionable<Object>, ReturnsResult {
+
+        private final transient ActionRunner actionRunner;
+
+        private NestedResultAction(ActionRunner actionRunner) {
+            super(null);
+
+            this.actionRunner = actionRunner;
+        }
+
+        @Override
+        public Object doAction() {
+            return actionRunner.doActionsWithDetails(new ValueAction("nested"));
+        }
+    }
+}
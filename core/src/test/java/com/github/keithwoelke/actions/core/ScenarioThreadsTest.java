@@ -0,0 +1,48 @@
+package com.github.keithwoelke.actions.core;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+
+public class ScenarioThreadsTest {
+
+    @Test
+    public void threadPerTaskExecutor_taskExecuted_executesOnNewThread() {
+        AtomicReference<Thread> taskThread = new AtomicReference<>();
+        CountDownLatch executed = new CountDownLatch(1);
+
+        ScenarioThreads.threadPerTaskExecutor().execute(() -> {
+            taskThread.set(Thread.currentThread());
+            executed.countDown();
+        });
+
+        assertThat(Uninterruptibles.awaitUninterruptibly(executed, 5, TimeUnit.SECONDS), equalTo(true));
+        assertThat(taskThread.get(), not(equalTo(Thread.currentThread())));
+    }
+
+    @Test
+    public void threadPerTaskExecutor_multipleTasks_eachExecutesOnOwnThread() {
+        AtomicReference<Thread> firstThread = new AtomicReference<>();
+        AtomicReference<Thread> secondThread = new AtomicReference<>();
+        CountDownLatch executed = new CountDownLatch(2);
+
+        ScenarioThreads.threadPerTaskExecutor().execute(() -> {
+            firstThread.set(Thread.currentThread());
+            executed.countDown();
+        });
+        ScenarioThreads.threadPerTaskExecutor().execute(() -> {
+            secondThread.set(Thread.currentThread());
+            executed.countDown();
+        });
+
+        assertThat(Uninterruptibles.awaitUninterruptibly(executed, 5, TimeUnit.SECONDS), equalTo(true));
+        assertThat(firstThread.get(), not(equalTo(secondThread.get())));
+    }
+}
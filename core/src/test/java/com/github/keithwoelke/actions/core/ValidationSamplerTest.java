@@ -0,0 +1,40 @@
+package com.github.keithwoelke.actions.core;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.fail;
+
+public class ValidationSamplerTest {
+
+    @Test
+    public void oneIn_everyThirdExecution_sampledPerClass() {
+        ValidationSampler validationSampler = ValidationSampler.oneIn(3);
+
+        assertThat(validationSampler.sample(String.class), equalTo(true));
+        assertThat(validationSampler.sample(String.class), equalTo(false));
+        assertThat(validationSampler.sample(Integer.class), equalTo(true));
+        assertThat(validationSampler.sample(String.class), equalTo(false));
+        assertThat(validationSampler.sample(String.class), equalTo(true));
+    }
+
+    @Test
+    public void perSecond_limitReached_notSampled() {
+        ValidationSampler validationSampler = ValidationSampler.perSecond(2);
+
+        assertThat(validationSampler.sample(String.class), equalTo(true));
+        assertThat(validationSampler.sample(String.class), equalTo(true));
+        assertThat(validationSampler.sample(String.class), equalTo(false));
+        assertThat(validationSampler.sample(Integer.class), equalTo(true));
+    }
+
+    @Test
+    public void oneIn_zero_throwsIllegalArgumentException() {
+        try {
+            ValidationSampler.oneIn(0);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+}
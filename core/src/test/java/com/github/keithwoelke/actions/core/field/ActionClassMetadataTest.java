@@ -0,0 +1,52 @@
+package com.github.keithwoelke.actions.core.field;
+
+import com.google.common.collect.Lists;
+import com.github.keithwoelke.actions.core.stubs.ActionWithExport;
+import com.github.keithwoelke.actions.core.stubs.ActionWithExport2;
+import com.github.keithwoelke.actions.core.stubs.ActionWithImport;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+public class ActionClassMetadataTest {
+
+    @Test
+    public void of_calledTwice_returnsCachedMetadata() {
+        assertThat(ActionClassMetadata.of(ActionWithImport.class), sameInstance(ActionClassMetadata.of(ActionWithImport.class)));
+    }
+
+    @Test
+    public void getExportFields_exportWithName_resolvesOverride() {
+        List<String> exportNames = ActionClassMetadata.of(ActionWithExport.class).getExportFields().stream().
+                map(ActionExportFieldMetadata::getName).
+                collect(Collectors.toList());
+
+        assertThat(exportNames.contains(ActionWithExport.EXPORT_VALUE_OVERRIDE), is(true));
+        assertThat(exportNames.contains(ActionWithExport.EXPORT_FIELD_NAME), is(true));
+    }
+
+    @Test
+    public void getImportFields_multipleImportAnnotations_resolvesKeysByClass() throws NoSuchFieldException {
+        ActionImportFieldMetadata metadata = ActionClassMetadata.of(ActionWithImport.class).getImportField(ActionWithImport.class.getField
+                ("importWithMultipleAnnotations"));
+
+        assertThat(metadata.getImportClasses(), equalTo(Lists.<Class>newArrayList(ActionWithExport.class, ActionWithExport2.class)));
+        assertThat(metadata.getImportKeysByClass().get(ActionWithExport2.class), equalTo(Lists.newArrayList(ActionWithImport.IMPORT_FIELD)));
+        assertThat(metadata.isRequiredImport(), is(true));
+        assertThat(metadata.isListType(), is(false));
+    }
+
+    @Test
+    public void getImportFields_optionalListImport_resolvesFlags() throws NoSuchFieldException {
+        ActionClassMetadata actionClassMetadata = ActionClassMetadata.of(ActionWithImport.class);
+
+        assertThat(actionClassMetadata.getImportField(ActionWithImport.class.getField("importFields")).isListType(), is(true));
+        assertThat(actionClassMetadata.getImportField(ActionWithImport.class.getField("optionalImportField")).isRequiredImport(), is(false));
+    }
+}
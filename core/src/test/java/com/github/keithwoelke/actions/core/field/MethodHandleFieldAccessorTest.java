@@ -0,0 +1,61 @@
+package com.github.keithwoelke.actions.core.field;
+
+import com.github.keithwoelke.actions.core.stubs.ActionWithImport;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class MethodHandleFieldAccessorTest {
+
+    private static final String VALUE = "value";
+    private ActionWithImport actionWithImport;
+    private MethodHandleFieldAccessor fieldAccessor;
+
+    @Before
+    public void init() throws NoSuchFieldException {
+        Field field = ActionWithImport.class.getField("importField");
+
+        actionWithImport = new ActionWithImport();
+        fieldAccessor = new MethodHandleFieldAccessor(field);
+    }
+
+    @Test
+    public void get_unassignedField_returnsNull() {
+        assertThat(fieldAccessor.get(actionWithImport), nullValue());
+    }
+
+    @Test
+    public void set_assignValue_fieldUpdated() {
+        fieldAccessor.set(actionWithImport, VALUE);
+
+        assertThat(actionWithImport.importField, equalTo(VALUE));
+        assertThat(fieldAccessor.get(actionWithImport), equalTo(VALUE));
+    }
+
+    @Test
+    public void set_finalInstanceField_fieldUpdated() throws NoSuchFieldException {
+        ActionWithFinalImport actionWithFinalImport = new ActionWithFinalImport();
+        fieldAccessor = new MethodHandleFieldAccessor(ActionWithFinalImport.class.getDeclaredField("finalImportField"));
+
+        fieldAccessor.set(actionWithFinalImport, VALUE);
+
+        assertThat(fieldAccessor.get(actionWithFinalImport), equalTo(VALUE));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void set_staticFinalField_throwsException() throws NoSuchFieldException {
+        fieldAccessor = new MethodHandleFieldAccessor(ActionWithImport.class.getField("IMPORT_FIELD"));
+
+        fieldAccessor.set(actionWithImport, VALUE);
+    }
+
+    private static class ActionWithFinalImport {
+
+        private final Object finalImportField = new Object();
+    }
+}
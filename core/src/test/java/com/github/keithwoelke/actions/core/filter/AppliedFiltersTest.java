@@ -0,0 +1,78 @@
+package com.github.keithwoelke.actions.core.filter;
+
+import com.github.keithwoelke.actions.core.Action;
+import com.github.keithwoelke.actions.core.filter.strategies.FilterStrategy;
+import com.github.keithwoelke.actions.core.filter.strategies.IncludeFilterStrategy;
+import com.github.keithwoelke.actions.core.result.Result;
+import com.github.keithwoelke.actions.core.stubs.TestAction;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+public class AppliedFiltersTest {
+
+    private final TestAction testAction = new TestAction(null, null);
+    private final AtomicInteger evaluations = new AtomicInteger();
+    private Result<Object> result;
+    private AppliedFilters<Object> appliedFilters;
+    private List<FilterStrategy> filterStrategies;
+
+    @Test
+    public void apply_sameStrategiesAfterEachAddition_predicateTestedOncePerExecution() {
+        for (int i = 0; i < 100; i++) {
+            result.add(new Result<>(i % 2 == 0 ? testAction : new TestAction(null, null), null, null));
+
+            appliedFilters.apply(filterStrategies).getResultsByAction().get(testAction);
+        }
+
+        assertThat(evaluations.get(), equalTo(100));
+        assertThat(appliedFilters.apply(filterStrategies).getActionDetails().size(), equalTo(50));
+    }
+
+    @Test
+    public void apply_sameStrategies_reusesView() {
+        Result<Object> filteredResults = appliedFilters.apply(filterStrategies);
+
+        assertThat(appliedFilters.apply(Collections.singletonList(filterStrategies.get(0))), sameInstance(filteredResults));
+    }
+
+    @Test
+    public void apply_differentStrategies_filtersAgain() {
+        Result<Object> filteredResults = appliedFilters.apply(filterStrategies);
+
+        assertThat(appliedFilters.apply(Collections.emptyList()), sameInstance(result));
+        assertThat(appliedFilters.apply(Collections.singletonList(new IncludeFilterStrategy(testAction))), not(sameInstance(filteredResults)));
+    }
+
+    @Before
+    public void init() {
+        result = new Result<>();
+        appliedFilters = new AppliedFilters<>(result);
+        filterStrategies = Collections.singletonList(new CountingFilterStrategy());
+    }
+
+    private class CountingFilterStrategy implements FilterStrategy {
+
+        @Override
+        public <ResultType> Result<ResultType> apply(Result<ResultType> results) {
+            return results.filter(getActionPredicate());
+        }
+
+        @Override
+        public Predicate<Action> getActionPredicate() {
+            return action -> {
+                evaluations.incrementAndGet();
+                return action == testAction;
+            };
+        }
+    }
+}
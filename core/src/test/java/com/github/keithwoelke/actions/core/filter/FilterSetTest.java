@@ -0,0 +1,165 @@
+package com.github.keithwoelke.actions.core.filter;
+
+import com.github.keithwoelke.actions.core.Action;
+import com.github.keithwoelke.actions.core.filter.filters.Filter;
+import com.github.keithwoelke.actions.core.filter.strategies.ExcludeFilterStrategy;
+import com.github.keithwoelke.actions.core.filter.strategies.FilterStrategy;
+import com.github.keithwoelke.actions.core.filter.strategies.IncludeFilterStrategy;
+import com.github.keithwoelke.actions.core.result.Result;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.function.Predicate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+@RunWith(MockitoJUnitRunner.class)
+public class FilterSetTest {
+
+    @Mock
+    private Filter filterMock;
+    @Mock
+    private Filter filterMock2;
+    @Mock
+    private Persistence persistenceMock;
+    @Mock
+    private Persistence persistenceMock2;
+    @Mock
+    private FilterStrategy filterStrategyMock;
+    @Mock
+    private FilterStrategy filterStrategyMock2;
+    @Mock
+    private FilterControl filterControlMock;
+    @Mock
+    private Action actionMock;
+    @Mock
+    private Action actionMock2;
+    @Mock
+    private Result<Object> resultMock;
+    @Mock
+    private Result<Object> resultMock2;
+    @Mock
+    private Result<Object> resultMock3;
+
+    private FilterSet filterSet;
+
+    @Test
+    public void apply_multipleFilters_resultsFilteredMultipleTimes() {
+        filterSet.process(filterMock);
+        filterSet.process(filterMock2);
+
+        Result<Object> result = filterSet.applyFilters(resultMock);
+
+        assertThat(filterSet.getFilters().size(), equalTo(2));
+        verify(filterStrategyMock).apply(resultMock);
+        verify(filterStrategyMock2).apply(resultMock2);
+        assertThat(result, equalTo(resultMock3));
+    }
+
+    @Test
+    public void apply_singleFilter_resultsFilteredOnce() {
+        filterSet.process(filterMock);
+
+        Result<Object> result = filterSet.applyFilters(resultMock);
+
+        assertThat(filterSet.getFilters().size(), equalTo(1));
+        verify(filterStrategyMock).apply(resultMock);
+        verify(persistenceMock).consumeRunToken();
+        assertThat(result, equalTo(resultMock2));
+    }
+
+    @Test
+    public void apply_filterWithoutRunToken_filterSkipped() {
+        when(persistenceMock.consumeRunToken()).
+                thenReturn(false);
+
+        filterSet.process(filterMock);
+        filterSet.process(filterMock2);
+
+        filterSet.applyFilters(resultMock);
+
+        verify(filterStrategyMock, never()).apply(any());
+        verify(filterStrategyMock2).apply(resultMock);
+        verify(persistenceMock2).consumeRunToken();
+    }
+
+    @Test
+    public void apply_predicateStrategies_resultFilteredOnceWithCombinedPredicate() {
+        ArgumentCaptor<Predicate<Action>> predicateCaptor = ArgumentCaptor.forClass(Predicate.class);
+
+        when(filterMock.getFilterStrategy()).
+                thenReturn(new IncludeFilterStrategy(actionMock, actionMock2));
+
+        when(filterMock2.getFilterStrategy()).
+                thenReturn(new ExcludeFilterStrategy(actionMock2));
+
+        when(resultMock.filter(any())).
+                thenReturn(resultMock2);
+
+        filterSet.process(filterMock);
+        filterSet.process(filterMock2);
+
+        Result<Object> result = filterSet.applyFilters(resultMock);
+
+        verify(resultMock, times(1)).filter(predicateCaptor.capture());
+        assertThat(result, equalTo(resultMock2));
+        assertThat(predicateCaptor.getValue().test(actionMock), equalTo(true));
+        assertThat(predicateCaptor.getValue().test(actionMock2), equalTo(false));
+    }
+
+    @Before
+    public void init() {
+        filterSet = new FilterSet();
+
+        when(filterMock.getPersistence()).
+                thenReturn(persistenceMock);
+
+        when(filterMock2.getPersistence()).
+                thenReturn(persistenceMock2);
+
+        when(persistenceMock.consumeRunToken()).
+                thenReturn(true);
+
+        when(persistenceMock2.consumeRunToken()).
+                thenReturn(true);
+
+        when(filterMock.getFilterStrategy()).
+                thenReturn(filterStrategyMock);
+
+        when(filterMock2.getFilterStrategy()).
+                thenReturn(filterStrategyMock2);
+
+        when(filterStrategyMock.apply(resultMock)).
+                thenReturn(resultMock2);
+
+        when(filterStrategyMock2.apply(resultMock2)).
+                thenReturn(resultMock3);
+    }
+
+    @Test
+    public void process_filterControl_filterControlApplied() {
+        filterSet.process(filterControlMock);
+
+        assertThat(filterSet.getFilters().size(), equalTo(0));
+        verify(filterControlMock).apply();
+    }
+
+    @Test
+    public void process_filter_filterAdded() {
+        filterSet.process(filterMock);
+
+        assertThat(filterSet.getFilters().size(), equalTo(1));
+        verify(filterStrategyMock, times(0)).apply(resultMock);
+    }
+}
@@ -0,0 +1,145 @@
+package com.github.keithwoelke.actions.core.filter;
+
+import com.google.common.collect.Lists;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+@SuppressWarnings("FieldCanBeLocal")
+@RunWith(MockitoJUnitRunner.class)
+public class PersistenceTest {
+
+    private final int TIMES_TO_EXECUTE = 500;
+    private Persistence persistence;
+
+    @Test
+    public void getTimesToExecute_disabled_matchesEnum() {
+        int timesToExecute = persistence.getTimesToExecute();
+
+        assertThat(timesToExecute, equalTo(PersistenceStrategy.DISABLED.timesToExecute()));
+    }
+
+    @Test
+    public void getTimesToExecute_runOnce_matchesEnum() {
+        persistence = new Persistence(PersistenceStrategy.RUN_ONCE);
+
+        int timesToExecute = persistence.getTimesToExecute();
+
+        assertThat(timesToExecute, equalTo(PersistenceStrategy.RUN_ONCE.timesToExecute()));
+    }
+
+    @Test
+    public void consumeRunToken_concurrentThreads_eachTokenConsumedOnce() throws InterruptedException {
+        persistence = new Persistence(TIMES_TO_EXECUTE);
+        AtomicInteger consumedTokens = new AtomicInteger();
+        List<Thread> threads = Lists.newArrayList();
+
+        for (int i = 0; i < 4; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < TIMES_TO_EXECUTE; j++) {
+                    if (persistence.consumeRunToken()) {
+                        consumedTokens.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(consumedTokens.get(), equalTo(TIMES_TO_EXECUTE));
+        assertThat(persistence.getTimesToExecute(), equalTo(0));
+    }
+
+    @Test
+    public void consumeRunToken_runForever_notDecremented() {
+        persistence = new Persistence(PersistenceStrategy.RUN_FOREVER);
+
+        boolean isRunnable = persistence.consumeRunToken();
+
+        assertThat(isRunnable, equalTo(true));
+        assertThat(persistence.getTimesToExecute(), equalTo(PersistenceStrategy.RUN_FOREVER.timesToExecute()));
+    }
+
+    @Test
+    public void consumeRunToken_runForeverFromConcurrentThreads_neverDecremented() throws InterruptedException {
+        persistence = new Persistence(PersistenceStrategy.RUN_FOREVER);
+        AtomicInteger consumedTokens = new AtomicInteger();
+        List<Thread> threads = Lists.newArrayList();
+
+        for (int i = 0; i < 4; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < TIMES_TO_EXECUTE; j++) {
+                    if (persistence.consumeRunToken()) {
+                        consumedTokens.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(consumedTokens.get(), equalTo(4 * TIMES_TO_EXECUTE));
+        assertThat(persistence.getTimesToExecute(), equalTo(PersistenceStrategy.RUN_FOREVER.timesToExecute()));
+    }
+
+    @Test
+    public void consumeRunToken_intConstructorWithRunForeverCount_notDecremented() {
+        persistence = new Persistence(Integer.MAX_VALUE);
+
+        persistence.consumeRunToken();
+
+        assertThat(persistence.getTimesToExecute(), equalTo(PersistenceStrategy.RUN_FOREVER.timesToExecute()));
+    }
+
+    @Before
+    public void init() {
+        persistence = new Persistence(PersistenceStrategy.DISABLED);
+    }
+
+    @Test
+    public void isRunnable_callToIsRunnable_subtractsFromTimesToExecute() {
+        persistence = new Persistence(PersistenceStrategy.RUN_ONCE);
+
+        persistence.consumeRunToken();
+
+        assertThat(persistence.getTimesToExecute(), equalTo(0));
+    }
+
+    @Test
+    public void isRunnable_disabled_returnsFalse() {
+        boolean isRunnable = persistence.consumeRunToken();
+
+        assertThat(isRunnable, equalTo(false));
+    }
+
+    @Test
+    public void isRunnable_runOnce_returnsTrue() {
+        persistence = new Persistence(PersistenceStrategy.RUN_ONCE);
+
+        boolean isRunnable = persistence.consumeRunToken();
+
+        assertThat(isRunnable, equalTo(true));
+    }
+
+    @Test
+    public void persistence_intConstructor_setsCorrectValues() {
+        persistence = new Persistence(TIMES_TO_EXECUTE);
+
+        assertThat(persistence.getTimesToExecute(), equalTo(TIMES_TO_EXECUTE));
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.keithwoelke.actions.core.filter.strategies;
+
+import com.github.keithwoelke.actions.core.result.Result;
+import com.github.keithwoelke.actions.core.stubs.ActionWithExport;
+import com.github.keithwoelke.actions.core.stubs.ActionWithExport2;
+import com.github.keithwoelke.actions.core.stubs.TestAction;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class ActionClassFilterStrategyTest {
+
+    private final ActionWithExport actionWithExport = new ActionWithExport();
+    private final ActionWithExport2 actionWithExport2 = new ActionWithExport2();
+    private final TestAction testAction = new TestAction(null, null);
+    private Result<Object> result;
+
+    private ActionClassFilterStrategy actionClassFilterStrategy;
+
+    @Test
+    public void apply_multipleClasses_includeOnlySpecified() {
+        actionClassFilterStrategy = new ActionClassFilterStrategy(ActionWithExport2.class);
+
+        Result<Object> filteredResults = actionClassFilterStrategy.apply(result);
+
+        assertThat(filteredResults.getActionDetails().size(), equalTo(1));
+        assertThat(filteredResults.getActionDetails().get(0).getAction(), equalTo(actionWithExport2));
+        assertThat(filteredResults.getClassesByMostRecentExecution().size(), equalTo(1));
+    }
+
+    @Test
+    public void getActionPredicate_subclassOfSpecifiedClass_notMatched() {
+        actionClassFilterStrategy = new ActionClassFilterStrategy(TestAction.class);
+
+        assertThat(actionClassFilterStrategy.getActionPredicate().test(testAction), equalTo(true));
+        assertThat(actionClassFilterStrategy.getActionPredicate().test(actionWithExport2), equalTo(false));
+    }
+
+    @Before
+    public void init() {
+        result = new Result<>();
+        result.add(new Result<>(actionWithExport, null, null));
+        result.add(new Result<>(actionWithExport2, null, null));
+        result.add(new Result<>(testAction, null, null));
+    }
+}
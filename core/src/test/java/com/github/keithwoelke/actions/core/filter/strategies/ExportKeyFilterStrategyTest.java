@@ -0,0 +1,72 @@
+package com.github.keithwoelke.actions.core.filter.strategies;
+
+import com.github.keithwoelke.actions.core.result.ExportData;
+import com.github.keithwoelke.actions.core.result.Result;
+import com.github.keithwoelke.actions.core.stubs.ActionWithExport;
+import com.github.keithwoelke.actions.core.stubs.TestAction;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class ExportKeyFilterStrategyTest {
+
+    private final TestAction testAction = new TestAction(null, null);
+    private final ActionWithExport actionWithExport = new ActionWithExport();
+    private Result<Object> result;
+
+    private ExportKeyFilterStrategy exportKeyFilterStrategy;
+
+    @Test
+    public void apply_multipleExecutions_includeOnlyExecutionsWithKey() {
+        exportKeyFilterStrategy = new ExportKeyFilterStrategy(ActionWithExport.EXPORT_VALUE_OVERRIDE);
+
+        Result<Object> filteredResults = exportKeyFilterStrategy.apply(result);
+
+        assertThat(filteredResults.getActionDetails().size(), equalTo(1));
+        assertThat(filteredResults.getActionDetails().get(0).getAction(), equalTo(actionWithExport));
+    }
+
+    @Test
+    public void apply_sameActionExecutedTwice_decidedPerExecution() {
+        exportKeyFilterStrategy = new ExportKeyFilterStrategy(TestAction.EXPORT_FIELD_NAME);
+
+        Result<Object> filteredResults = exportKeyFilterStrategy.apply(result);
+
+        assertThat(filteredResults.getActionDetails().size(), equalTo(1));
+        assertThat(filteredResults.getExportedValues(TestAction.class, TestAction.EXPORT_FIELD_NAME), equalTo(Collections.singletonList("value")));
+    }
+
+    @Test
+    public void apply_classExportsKeyAfterApply_viewIncludesNewExecution() {
+        exportKeyFilterStrategy = new ExportKeyFilterStrategy(ActionWithExport.EXPORT_VALUE_OVERRIDE);
+
+        Result<Object> filteredResults = exportKeyFilterStrategy.apply(result);
+
+        assertThat(filteredResults.getExportedValues(TestAction.class, ActionWithExport.EXPORT_VALUE_OVERRIDE).isEmpty(), equalTo(true));
+
+        result.add(new Result<>(testAction, null, exportData(ActionWithExport.EXPORT_VALUE_OVERRIDE, "later")));
+
+        assertThat(filteredResults.getActionDetails().size(), equalTo(2));
+        assertThat(filteredResults.getExportedValues(TestAction.class, ActionWithExport.EXPORT_VALUE_OVERRIDE), equalTo(Collections.singletonList(
+                "later")));
+    }
+
+    @Before
+    public void init() {
+        result = new Result<>();
+        result.add(new Result<>(testAction, null, exportData(TestAction.EXPORT_FIELD_NAME, "value")));
+        result.add(new Result<>(testAction, null, new ExportData()));
+        result.add(new Result<>(actionWithExport, null, exportData(ActionWithExport.EXPORT_VALUE_OVERRIDE, "override")));
+    }
+
+    private static ExportData exportData(String exportKey, Object value) {
+        ExportData exportData = new ExportData();
+        exportData.put(exportKey, value);
+
+        return exportData;
+    }
+}
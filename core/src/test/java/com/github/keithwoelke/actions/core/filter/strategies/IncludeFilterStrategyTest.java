@@ -1,6 +1,8 @@
 package com.github.keithwoelke.actions.core.filter.strategies;
 
 import com.google.common.collect.Lists;
+import com.github.keithwoelke.actions.core.Action;
+import com.github.keithwoelke.actions.core.ActionImpl;
 import com.github.keithwoelke.actions.core.result.ActionDetails;
 import com.github.keithwoelke.actions.core.result.Result;
 import com.github.keithwoelke.actions.core.stubs.TestAction;
@@ -18,8 +20,6 @@ import static org.mockito.Mockito.when;
 @RunWith(MockitoJUnitRunner.class)
 public class IncludeFilterStrategyTest {
 
-    @Mock
-    private Result<Object> resultMock;
     @Mock
     private TestAction testActionMock;
     @Mock
@@ -28,6 +28,7 @@ public class IncludeFilterStrategyTest {
     private ActionDetails<Object> actionDetailsMock;
     @Mock
     private ActionDetails<Object> actionDetailsMock2;
+    private Result<Object> result;
 
     private IncludeFilterStrategy includeFilterStrategy;
 
@@ -35,21 +36,49 @@ public class IncludeFilterStrategyTest {
     public void apply_multipleActions_includeOnlySpecified() {
         includeFilterStrategy = new IncludeFilterStrategy(testActionMock);
 
-        Result<Object> filteredResults = includeFilterStrategy.apply(resultMock);
+        Result<Object> filteredResults = includeFilterStrategy.apply(result);
 
         assertThat(filteredResults.getActionDetails().size(), equalTo(1));
         assertThat(filteredResults.getActionDetails().get(0), equalTo(actionDetailsMock));
     }
 
+    @Test
+    public void getActionPredicate_equalButDistinctAction_matchedByIdentity() {
+        Action action = new EqualAction();
+        includeFilterStrategy = new IncludeFilterStrategy(action);
+
+        assertThat(includeFilterStrategy.getActionPredicate().test(new EqualAction()), equalTo(false));
+        assertThat(includeFilterStrategy.getActionPredicate().test(action), equalTo(true));
+    }
+
     @Before
     public void init() {
-        when(resultMock.getActionDetails()).
-                thenReturn(Lists.newArrayList(actionDetailsMock, actionDetailsMock2));
-
         when(actionDetailsMock.getAction()).
                 thenReturn(testActionMock);
 
         when(actionDetailsMock2.getAction()).
                 thenReturn(testActionMock2);
+
+        result = new Result<>(Lists.newArrayList(actionDetailsMock, actionDetailsMock2));
+    }
+
+    /**
+     * An Action which is equal to every other EqualAction, like a Lombok @Data Action with identical fields.
+     */
+    private static class EqualAction extends ActionImpl {
+
+        private EqualAction() {
+            super(null);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof EqualAction;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
     }
 }
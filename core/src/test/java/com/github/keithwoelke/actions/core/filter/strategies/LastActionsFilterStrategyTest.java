@@ -0,0 +1,70 @@
+package com.github.keithwoelke.actions.core.filter.strategies;
+
+import com.github.keithwoelke.actions.core.result.Result;
+import com.github.keithwoelke.actions.core.stubs.TestAction;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.fail;
+
+public class LastActionsFilterStrategyTest {
+
+    private final TestAction testAction = new TestAction(null, null);
+    private final TestAction testAction2 = new TestAction(null, null);
+    private final TestAction testAction3 = new TestAction(null, null);
+    private Result<Object> result;
+
+    private LastActionsFilterStrategy lastActionsFilterStrategy;
+
+    @Test
+    public void apply_countBelowSize_includeOnlyMostRecent() {
+        lastActionsFilterStrategy = new LastActionsFilterStrategy(2);
+
+        Result<Object> filteredResults = lastActionsFilterStrategy.apply(result);
+
+        assertThat(filteredResults.getActionDetails().size(), equalTo(2));
+        assertThat(filteredResults.getActionDetails().get(0).getAction(), equalTo(testAction2));
+        assertThat(filteredResults.getActionDetails().get(1).getAction(), equalTo(testAction3));
+    }
+
+    @Test
+    public void apply_countAboveSize_includeAll() {
+        lastActionsFilterStrategy = new LastActionsFilterStrategy(5);
+
+        Result<Object> filteredResults = lastActionsFilterStrategy.apply(result);
+
+        assertThat(filteredResults.getActionDetails(), equalTo(result.getActionDetails()));
+    }
+
+    @Test
+    public void apply_actionAddedAfterApply_viewMovesToMostRecent() {
+        lastActionsFilterStrategy = new LastActionsFilterStrategy(2);
+
+        Result<Object> filteredResults = lastActionsFilterStrategy.apply(result);
+        result.add(new Result<>(testAction, null, null));
+
+        assertThat(filteredResults.getActionDetails().size(), equalTo(2));
+        assertThat(filteredResults.getActionDetails().get(0).getAction(), equalTo(testAction3));
+        assertThat(filteredResults.getActionDetails().get(1).getAction(), equalTo(testAction));
+    }
+
+    @Test
+    public void lastActionsFilterStrategy_negativeCount_throwsException() {
+        try {
+            new LastActionsFilterStrategy(-1);
+
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Before
+    public void init() {
+        result = new Result<>();
+        result.add(new Result<>(testAction, null, null));
+        result.add(new Result<>(testAction2, null, null));
+        result.add(new Result<>(testAction3, null, null));
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.keithwoelke.actions.core.filter.strategies;
+
+import com.github.keithwoelke.actions.core.result.Result;
+import com.github.keithwoelke.actions.core.stubs.TestAction;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class SinceActionFilterStrategyTest {
+
+    private final TestAction testAction = new TestAction(null, null);
+    private final TestAction markerAction = new TestAction(null, null);
+    private final TestAction testAction2 = new TestAction(null, null);
+    private Result<Object> result;
+
+    private SinceActionFilterStrategy sinceActionFilterStrategy;
+
+    @Test
+    public void apply_markerExecutedTwice_includeOnlyActionsSinceMostRecentMarker() {
+        sinceActionFilterStrategy = new SinceActionFilterStrategy(markerAction);
+
+        Result<Object> filteredResults = sinceActionFilterStrategy.apply(result);
+
+        assertThat(filteredResults.getActionDetails().size(), equalTo(1));
+        assertThat(filteredResults.getActionDetails().get(0).getAction(), equalTo(testAction2));
+    }
+
+    @Test
+    public void apply_markerNotExecuted_excludeAll() {
+        sinceActionFilterStrategy = new SinceActionFilterStrategy(new TestAction(null, null));
+
+        Result<Object> filteredResults = sinceActionFilterStrategy.apply(result);
+
+        assertThat(filteredResults.getActionDetails().isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void apply_markerExecutedAfterApply_viewStartsAfterNewMarker() {
+        sinceActionFilterStrategy = new SinceActionFilterStrategy(markerAction);
+
+        Result<Object> filteredResults = sinceActionFilterStrategy.apply(result);
+        result.add(new Result<>(markerAction, null, null));
+        result.add(new Result<>(testAction, null, null));
+
+        assertThat(filteredResults.getActionDetails().size(), equalTo(1));
+        assertThat(filteredResults.getActionDetails().get(0).getAction(), equalTo(testAction));
+    }
+
+    @Before
+    public void init() {
+        result = new Result<>();
+        result.add(new Result<>(markerAction, null, null));
+        result.add(new Result<>(testAction, null, null));
+        result.add(new Result<>(markerAction, null, null));
+        result.add(new Result<>(testAction2, null, null));
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.keithwoelke.actions.core.metrics;
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getValueAtPercentile_uniformValues_withinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        long median = histogram.getValueAtPercentile(50);
+        long p99 = histogram.getValueAtPercentile(99);
+
+        assertThat(Math.abs(median - 50_000_000L) <= 50_000_000L / LatencyHistogram.SUB_BUCKET_HALF_COUNT, equalTo(true));
+        assertThat(Math.abs(p99 - 99_000_000L) <= 99_000_000L / LatencyHistogram.SUB_BUCKET_HALF_COUNT, equalTo(true));
+        assertThat(histogram.getValueAtPercentile(100), equalTo(100_000_000L));
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_recordedExactly() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(3);
+        histogram.record(7);
+
+        assertThat(histogram.getValueAtPercentile(50), equalTo(3L));
+        assertThat(histogram.getValueAtPercentile(100), equalTo(7L));
+    }
+
+    @Test
+    public void getIndex_everyBucket_highestEquivalentValueMapsBack() {
+        for (int index = 0; index < LatencyHistogram.BUCKET_COUNT; index++) {
+            long highestEquivalentValue = LatencyHistogram.getHighestEquivalentValue(index);
+
+            assertThat(LatencyHistogram.getIndex(highestEquivalentValue), equalTo(index));
+            assertThat(LatencyHistogram.getIndex(highestEquivalentValue + 1), equalTo(index + 1));
+        }
+    }
+
+    @Test
+    public void merge_twoHistograms_combinesCountsAndMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        LatencyHistogram other = new LatencyHistogram();
+
+        histogram.record(10);
+        other.record(20);
+        other.record(30);
+        histogram.merge(other);
+
+        assertThat(histogram.getCount(), equalTo(3L));
+        assertThat(histogram.getMax(), equalTo(30L));
+        assertThat(histogram.getMean(), equalTo(20.0));
+    }
+
+    @Test
+    public void record_concurrentThreads_everyValueCounted() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        for (int thread = 0; thread < 4; thread++) {
+            long offset = thread * 1000L;
+
+            executor.execute(() -> {
+                for (long value = 1; value <= 1000; value++) {
+                    histogram.record(offset + value);
+                }
+            });
+        }
+
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS), equalTo(true));
+        assertThat(histogram.getCount(), equalTo(4000L));
+        assertThat(histogram.getMax(), equalTo(4000L));
+        assertThat(histogram.getMean(), equalTo(2000.5));
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.keithwoelke.actions.core.metrics;
+
+import com.github.keithwoelke.actions.core.ActionRunner.ActionStage;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class RunnerMetricsTest {
+
+    @Test
+    public void record_stageOfClass_onlyThatHistogramUpdated() {
+        RunnerMetrics metrics = new RunnerMetrics();
+
+        metrics.record(String.class, ActionStage.DO_ACTION, 42);
+
+        assertThat(metrics.getHistogram(String.class, ActionStage.DO_ACTION).getCount(), equalTo(1L));
+        assertThat(metrics.getHistogram(String.class, ActionStage.VALIDATE), nullValue());
+        assertThat(metrics.getHistogram(Integer.class, ActionStage.DO_ACTION), nullValue());
+    }
+
+    @Test
+    public void merge_otherMetrics_histogramsCombined() {
+        RunnerMetrics metrics = new RunnerMetrics();
+        RunnerMetrics other = new RunnerMetrics();
+
+        metrics.record(String.class, ActionStage.DO_ACTION, 10);
+        other.record(String.class, ActionStage.DO_ACTION, 50);
+        other.record(Integer.class, ActionStage.IMPORT_DATA, 5);
+        metrics.merge(other);
+
+        assertThat(metrics.getValueAtPercentile(String.class, ActionStage.DO_ACTION, 100), equalTo(50L));
+        assertThat(metrics.getHistogram(Integer.class, ActionStage.IMPORT_DATA).getCount(), equalTo(1L));
+    }
+}
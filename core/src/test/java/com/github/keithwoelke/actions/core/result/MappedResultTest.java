@@ -0,0 +1,123 @@
+package com.github.keithwoelke.actions.core.result;
+
+import com.google.common.collect.Lists;
+import com.github.keithwoelke.actions.core.ActionDataImporter;
+import com.github.keithwoelke.actions.core.stubs.ValueAction;
+import com.github.keithwoelke.actions.core.stubs.ValueImportAction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class MappedResultTest {
+
+    private Path file;
+    private MappedResultLog log;
+    private MappedResult<Object> result;
+
+    @Before
+    public void init() throws IOException {
+        file = Files.createTempFile("mapped-result-test", ".log");
+        log = new MappedResultLog(file, 128, true);
+        result = new MappedResult<>(log);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        log.close();
+    }
+
+    @Test
+    public void add_manyActions_valuesReadBackFromLog() {
+        for (int i = 0; i < 100; i++) {
+            result.add(new Result<>(new ValueAction("value" + i), "result" + i, exportData("value" + i)));
+        }
+
+        assertThat(result.getActionDetails().size(), is(100));
+        assertThat(result.getActionDetails().get(42).getResult(), equalTo("result42"));
+        assertThat(result.getResultsByClass().get(ValueAction.class).get(99), equalTo("result99"));
+        assertThat(result.getExportedValues(ValueAction.class, ValueAction.VALUE).get(7), equalTo("value7"));
+        assertThat(result.getExportedDataByClass().get(ValueAction.class).get(3).get(ValueAction.VALUE), equalTo("value3"));
+        assertThat(log.getMappedSize() > 128, is(true));
+    }
+
+    @Test
+    public void add_nonSerializableResult_keptOnHeap() {
+        Object nonSerializable = new Object();
+
+        result.add(new Result<>(new ValueAction("value"), nonSerializable, exportData("value")));
+
+        assertThat(result.getActionDetails().get(0).getResult(), equalTo(nonSerializable));
+        assertThat(result.getExportedValues(ValueAction.class, ValueAction.VALUE), equalTo(Lists.<Object>newArrayList("value")));
+    }
+
+    @Test
+    public void importData_fromMappedResult_importsMostRecentValue() {
+        result.add(new Result<>(new ValueAction("first"), "first", exportData("first")));
+        result.add(new Result<>(new ValueAction("second"), "second", exportData("second")));
+        ValueImportAction valueImportAction = new ValueImportAction();
+
+        new ActionDataImporter().importData(result, valueImportAction);
+
+        assertThat(valueImportAction.importedValue, equalTo("second"));
+    }
+
+    @Test
+    public void read_serializableValue_returnsSharedCopy() {
+        ArrayList<String> value = Lists.newArrayList("value");
+
+        result.add(new Result<>(new ValueAction("value"), value, exportData("value")));
+
+        Object firstRead = result.getResultsByClass().get(ValueAction.class).get(0);
+        Object secondRead = result.getActionDetails().get(0).getResult();
+
+        assertThat(firstRead, equalTo(value));
+        assertThat(firstRead == value, is(false));
+        assertThat(secondRead == firstRead, is(true));
+    }
+
+    @Test
+    public void getActionDetails_referencedAction_returnsSameInstance() {
+        ValueAction valueAction = new ValueAction("value");
+
+        result.add(new Result<>(valueAction, "result", exportData("value")));
+
+        assertThat(result.getActionDetails().get(0).getAction() == valueAction, is(true));
+        assertThat(result.getResultsByAction().get(valueAction), equalTo(Lists.<Object>newArrayList("result")));
+    }
+
+    @Test
+    public void filter_mappedResult_matchesOnlySelectedDetails() {
+        ValueAction selected = new ValueAction("selected");
+
+        result.add(new Result<>(selected, "selected", exportData("selected")));
+        result.add(new Result<>(new ValueAction("other"), "other", exportData("other")));
+
+        Result<Object> filteredResult = result.filter(action -> action == selected);
+
+        assertThat(filteredResult.getExportedValues(ValueAction.class, ValueAction.VALUE), equalTo(Lists.<Object>newArrayList("selected")));
+        assertThat(filteredResult.getResultsByClass().get(ValueAction.class), equalTo(Lists.<Object>newArrayList("selected")));
+    }
+
+    @Test
+    public void close_deleteOnClose_fileDeleted() throws IOException {
+        log.close();
+
+        assertThat(Files.exists(file), is(false));
+    }
+
+    private static ExportData exportData(Object value) {
+        ExportData exportData = new ExportData();
+        exportData.put(ValueAction.VALUE, value);
+
+        return exportData;
+    }
+}
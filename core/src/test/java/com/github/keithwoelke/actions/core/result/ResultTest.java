@@ -0,0 +1,494 @@
+package com.github.keithwoelke.actions.core.result;
+
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.github.keithwoelke.actions.core.Action;
+import com.github.keithwoelke.actions.core.ActionImpl;
+import com.github.keithwoelke.actions.core.stubs.ActionWithExport;
+import com.github.keithwoelke.actions.core.stubs.ActionWithExport2;
+import com.github.keithwoelke.actions.core.stubs.MacroAction;
+import com.github.keithwoelke.actions.core.stubs.TestAction;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unused")
+@RunWith(MockitoJUnitRunner.class)
+public class ResultTest {
+
+    private final String ACTION_RESULT = "actionResult";
+    @Mock
+    private MacroAction macroActionMock;
+    @Mock
+    private TestAction testActionMock;
+    @Mock
+    private Result<Object> individualResultMock;
+    @Mock
+    private Result<Object> macroResultMock;
+    @Mock
+    private Result<Object> combinedResultMock;
+    @Mock
+    private Result<Object> macroFinalResultsMock;
+    @Mock
+    private ActionDetails<Object> individualActionDetailsMock;
+    @Mock
+    private ActionDetails<Object> macroActionDetailsMock;
+    @Mock
+    private ExportData exportDataMock;
+    private Result<Object> result;
+
+    @Test
+    public void addResults_individualResult_addedToResults() {
+        result.add(individualResultMock);
+
+        assertThat(result.getActionDetails().size(), equalTo(1));
+        assertThat(result.getActionDetails().get(0), equalTo(individualActionDetailsMock));
+    }
+
+    @Test
+    public void addResults_multipleIndividualResults_addedToResults() {
+        result.add(individualResultMock);
+        result.add(individualResultMock);
+
+        assertThat(result.getActionDetails().size(), equalTo(2));
+        assertThat(result.getActionDetails().get(0), equalTo(individualActionDetailsMock));
+        assertThat(result.getActionDetails().get(1), equalTo(individualActionDetailsMock));
+    }
+
+    @Test
+    public void addResults_singleMacroWithSingleAction_addsIndividualResults() {
+        result.add(macroResultMock);
+        result.add(individualResultMock);
+
+        assertThat(result.getActionDetails().size(), equalTo(3));
+        assertThat(result.getActionDetails().get(0), equalTo(individualActionDetailsMock));
+        assertThat(result.getActionDetails().get(1), equalTo(individualActionDetailsMock));
+        assertThat(result.getActionDetails().get(2), equalTo(individualActionDetailsMock));
+    }
+
+    @Test
+    public void addResults_singleMacro_addsIndividualResults() {
+        result.add(macroResultMock);
+
+        assertThat(result.getActionDetails().size(), equalTo(2));
+        assertThat(result.getActionDetails().get(0), equalTo(individualActionDetailsMock));
+        assertThat(result.getActionDetails().get(1), equalTo(individualActionDetailsMock));
+    }
+
+    @Test
+    public void getClassesByMostRecentExecution_nonContiguousExecutions_orderedByLastExecution() {
+        ActionWithExport actionWithExport = new ActionWithExport();
+        ActionWithExport2 actionWithExport2 = new ActionWithExport2();
+
+        result.add(new Result<>(actionWithExport, ACTION_RESULT, exportDataMock));
+        result.add(new Result<>(actionWithExport2, ACTION_RESULT, exportDataMock));
+        result.add(new Result<>(actionWithExport, ACTION_RESULT, exportDataMock));
+
+        assertThat(Lists.newArrayList(result.getClassesByMostRecentExecution()), equalTo(Lists.<Class>newArrayList(ActionWithExport2.class,
+                ActionWithExport.class)));
+        assertThat(result.getExportedDataByClass().get(ActionWithExport.class).size(), is(2));
+    }
+
+    @Test
+    public void getExportedDataByClass_resultAddedAfterLookup_lookupReflectsAddition() {
+        ListMultimap<Class, ExportData> exportedDataByClass = result.getExportedDataByClass();
+
+        result.add(individualResultMock);
+
+        assertThat(exportedDataByClass.get(testActionMock.getClass()).size(), is(1));
+    }
+
+    @Test
+    public void getExportedValues_multipleExports_valuesInExecutionOrder() {
+        ExportData exportData = new ExportData();
+        exportData.put(ActionWithExport.EXPORT_FIELD_NAME, ACTION_RESULT);
+        ExportData exportData2 = new ExportData();
+        exportData2.put(ActionWithExport.EXPORT_FIELD_NAME, exportDataMock);
+
+        result.add(new Result<>(new ActionWithExport(), ACTION_RESULT, exportData));
+        result.add(new Result<>(new ActionWithExport2(), ACTION_RESULT, exportData));
+        result.add(new Result<>(new ActionWithExport(), ACTION_RESULT, exportData2));
+
+        assertThat(result.getExportedValues(ActionWithExport.class, ActionWithExport.EXPORT_FIELD_NAME), equalTo(Lists.<Object>newArrayList(ACTION_RESULT,
+                exportDataMock)));
+        assertThat(result.getExportedValues(ActionWithExport.class, "nonMatchingExportField").isEmpty(), is(true));
+    }
+
+    @Test
+    public void add_slidingWindow_evictsOldestDetailsFromEveryIndex() {
+        result = new Result<>(RetentionPolicy.slidingWindow(2));
+        ActionWithExport firstAction = new ActionWithExport();
+
+        result.add(new Result<>(firstAction, "first", exportData("first")));
+        result.add(new Result<>(new ActionWithExport2(), "second", exportData("second")));
+        result.add(new Result<>(new ActionWithExport2(), "third", exportData("third")));
+
+        assertThat(result.getActionDetails().size(), is(2));
+        assertThat(result.getExportedDataByAction().containsKey(firstAction), is(false));
+        assertThat(result.getExportedValues(ActionWithExport.class, ActionWithExport.EXPORT_FIELD_NAME).isEmpty(), is(true));
+        assertThat(result.getExportedValues(ActionWithExport2.class, ActionWithExport.EXPORT_FIELD_NAME), equalTo(Lists.<Object>newArrayList(
+                "second", "third")));
+        assertThat(result.getResultsByClass().get(ActionWithExport2.class), equalTo(Lists.<Object>newArrayList("second", "third")));
+        assertThat(result.getClassesByMostRecentExecution().contains(ActionWithExport.class), is(false));
+    }
+
+    @Test
+    public void add_latestPerClass_keepsMostRecentDetailsOfEachClass() {
+        result = new Result<>(RetentionPolicy.latestPerClass());
+
+        result.add(new Result<>(new ActionWithExport(), "first", exportData("first")));
+        result.add(new Result<>(new ActionWithExport2(), "second", exportData("second")));
+        result.add(new Result<>(new ActionWithExport(), "third", exportData("third")));
+
+        assertThat(result.getActionDetails().size(), is(2));
+        assertThat(result.getExportedValues(ActionWithExport.class, ActionWithExport.EXPORT_FIELD_NAME), equalTo(Lists.<Object>newArrayList(
+                "third")));
+        assertThat(result.getExportedValues(ActionWithExport2.class, ActionWithExport.EXPORT_FIELD_NAME), equalTo(Lists.<Object>newArrayList(
+                "second")));
+        assertThat(Lists.newArrayList(result.getClassesByMostRecentExecution()), equalTo(Lists.<Class>newArrayList(ActionWithExport2.class,
+                ActionWithExport.class)));
+    }
+
+    @Test
+    public void add_exportsOnly_dropsResultsAndKeepsExports() {
+        result = new Result<>(RetentionPolicy.exportsOnly());
+
+        result.add(new Result<>(new ActionWithExport(), ACTION_RESULT, exportData("first")));
+
+        assertThat(result.getActionDetails().size(), is(1));
+        assertThat(result.getActionDetails().get(0).getResult() == null, is(true));
+        assertThat(result.getResultsByClass().isEmpty(), is(true));
+        assertThat(result.getExportedValues(ActionWithExport.class, ActionWithExport.EXPORT_FIELD_NAME), equalTo(Lists.<Object>newArrayList(
+                "first")));
+    }
+
+    @Test
+    public void filter_excludeMostRecentAction_viewAnswersLookupsFromMatchingActions() {
+        ActionWithExport firstAction = new ActionWithExport();
+        ActionWithExport2 secondAction = new ActionWithExport2();
+        ActionWithExport thirdAction = new ActionWithExport();
+
+        result.add(new Result<>(firstAction, "first", exportData("first")));
+        result.add(new Result<>(secondAction, "second", exportData("second")));
+        result.add(new Result<>(thirdAction, "third", exportData("third")));
+
+        Result<Object> filteredResult = result.filter(action -> action != thirdAction);
+
+        assertThat(filteredResult.getActionDetails().size(), is(2));
+        assertThat(filteredResult.getExportedValues(ActionWithExport.class, ActionWithExport.EXPORT_FIELD_NAME), equalTo(Lists.<Object>newArrayList(
+                "first")));
+        assertThat(Lists.newArrayList(filteredResult.getClassesByMostRecentExecution()), equalTo(Lists.<Class>newArrayList(ActionWithExport.class,
+                ActionWithExport2.class)));
+        assertThat(filteredResult.getResultsByClass().get(ActionWithExport.class), equalTo(Lists.<Object>newArrayList("first")));
+    }
+
+    @Test
+    public void filter_filteredTwice_predicatesCombinedAndAdditionsReflected() {
+        ActionWithExport firstAction = new ActionWithExport();
+        ActionWithExport2 secondAction = new ActionWithExport2();
+
+        Result<Object> filteredResult = result.filter(action -> action != firstAction).
+                filter(action -> action != secondAction);
+
+        result.add(new Result<>(firstAction, "first", exportData("first")));
+        result.add(new Result<>(secondAction, "second", exportData("second")));
+        result.add(new Result<>(new ActionWithExport2(), "third", exportData("third")));
+
+        assertThat(filteredResult.getExportedValues(ActionWithExport2.class, ActionWithExport.EXPORT_FIELD_NAME), equalTo(Lists
+                .<Object>newArrayList("third")));
+        assertThat(filteredResult.getActionDetails().size(), is(1));
+    }
+
+    @Test
+    public void filter_lookupsRepeatedAfterAddition_viewReflectsAddition() {
+        Result<Object> filteredResult = result.filter(action -> action instanceof ActionWithExport);
+
+        result.add(new Result<>(new ActionWithExport(), "first", exportData("first")));
+
+        assertThat(filteredResult.getExportedValues(ActionWithExport.class, ActionWithExport.EXPORT_FIELD_NAME), equalTo(Lists
+                .<Object>newArrayList("first")));
+        assertThat(filteredResult.getActionDetails().size(), is(1));
+
+        result.add(new Result<>(new ActionWithExport(), "second", exportData("second")));
+
+        assertThat(filteredResult.getExportedValues(ActionWithExport.class, ActionWithExport.EXPORT_FIELD_NAME), equalTo(Lists
+                .<Object>newArrayList("first", "second")));
+        assertThat(filteredResult.getActionDetails().size(), is(2));
+    }
+
+    @Test
+    public void filter_addToView_keepsMatchingDetailsAndLeavesSourceUnchanged() {
+        result.add(new Result<>(new ActionWithExport(), "first", exportData("first")));
+        result.add(new Result<>(new ActionWithExport2(), "second", exportData("second")));
+
+        Result<Object> filteredResult = result.filter(action -> action instanceof ActionWithExport);
+
+        filteredResult.add(new Result<>(new ActionWithExport2(), "third", exportData("third")));
+        result.add(new Result<>(new ActionWithExport(), "fourth", exportData("fourth")));
+
+        assertThat(filteredResult.getResultsByClass().get(ActionWithExport.class), equalTo(Lists.<Object>newArrayList("first")));
+        assertThat(filteredResult.getExportedValues(ActionWithExport2.class, ActionWithExport.EXPORT_FIELD_NAME), equalTo(Lists
+                .<Object>newArrayList("third")));
+        assertThat(result.getActionDetails().size(), is(3));
+    }
+
+    @Test
+    public void filter_lookupsRepeatedAfterEachAddition_predicateTestedOncePerExecution() {
+        AtomicInteger evaluations = new AtomicInteger();
+        Result<Object> filteredResult = result.filter(action -> {
+            evaluations.incrementAndGet();
+            return action instanceof ActionWithExport;
+        });
+
+        for (int i = 0; i < 100; i++) {
+            Action action = i % 2 == 0 ? new ActionWithExport() : new ActionWithExport2();
+            result.add(new Result<>(action, ACTION_RESULT, exportData(String.valueOf(i))));
+
+            for (Class actionClass : filteredResult.getClassesByMostRecentExecution()) {
+                filteredResult.getExportedValues(actionClass, ActionWithExport.EXPORT_FIELD_NAME);
+            }
+            filteredResult.getExportedDataByClass();
+        }
+
+        assertThat(evaluations.get(), is(100));
+        assertThat(filteredResult.getExportedValues(ActionWithExport.class, ActionWithExport.EXPORT_FIELD_NAME).size(), is(50));
+        assertThat(filteredResult.getExportedDataByClass().size(), is(50));
+    }
+
+    @Test
+    public void concat_laterResult_viewAnswersLookupsAsIfAdded() {
+        Result<Object> later = new Result<>();
+
+        result.add(new Result<>(new ActionWithExport(), "first", exportData("first")));
+        result.add(new Result<>(new ActionWithExport2(), "second", exportData("second")));
+        later.add(new Result<>(new ActionWithExport(), "third", exportData("third")));
+
+        Result<Object> concatenatedResult = result.concat(later);
+
+        assertThat(concatenatedResult.getActionDetails().size(), is(3));
+        assertThat(concatenatedResult.getExportedValues(ActionWithExport.class, ActionWithExport.EXPORT_FIELD_NAME), equalTo(Lists
+                .<Object>newArrayList("first", "third")));
+        assertThat(Lists.newArrayList(concatenatedResult.getClassesByMostRecentExecution()), equalTo(Lists.<Class>newArrayList(
+                ActionWithExport2.class, ActionWithExport.class)));
+        assertThat(concatenatedResult.getResultsByClass().get(ActionWithExport.class), equalTo(Lists.<Object>newArrayList("first", "third")));
+        assertThat(result.getActionDetails().size(), is(2));
+    }
+
+    @Test
+    public void filter_concatenatedResult_ordersClassesByMostRecentMatch() {
+        ActionWithExport thirdAction = new ActionWithExport();
+        Result<Object> later = new Result<>();
+
+        result.add(new Result<>(new ActionWithExport(), "first", exportData("first")));
+        later.add(new Result<>(new ActionWithExport2(), "second", exportData("second")));
+        later.add(new Result<>(thirdAction, "third", exportData("third")));
+
+        Result<Object> filteredResult = result.concat(later).filter(action -> action != thirdAction);
+
+        assertThat(filteredResult.getExportedValues(ActionWithExport.class, ActionWithExport.EXPORT_FIELD_NAME), equalTo(Lists
+                .<Object>newArrayList("first")));
+        assertThat(Lists.newArrayList(filteredResult.getClassesByMostRecentExecution()), equalTo(Lists.<Class>newArrayList(ActionWithExport.class,
+                ActionWithExport2.class)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void add_concatenatedResult_throwsUnsupportedOperationException() {
+        result.concat(new Result<>()).add(new Result<>(new ActionWithExport(), ACTION_RESULT, exportData("first")));
+    }
+
+    @Test
+    public void getResultsByAction_singleClassMultipleActionDetails_generatesExportDataByAction() {
+        result = new Result<>(Lists.newArrayList(individualActionDetailsMock, individualActionDetailsMock));
+
+        ListMultimap<Action, ExportData> results = result.getExportedDataByAction();
+
+        assertThat(results.size(), is(2));
+        assertThat(results.get(testActionMock).size(), is(2));
+        assertThat(results.get(testActionMock).get(0), is(exportDataMock));
+        assertThat(results.get(testActionMock).get(1), is(exportDataMock));
+    }
+
+    @Test
+    public void getResultsByAction_singleClassMultipleActionDetails_generatesResultsByAction() {
+        result = new Result<>(Lists.newArrayList(individualActionDetailsMock, individualActionDetailsMock));
+
+        ListMultimap<Action, Object> results = result.getResultsByAction();
+
+        assertThat(results.size(), is(2));
+        assertThat(results.get(testActionMock).size(), is(2));
+        assertThat(results.get(testActionMock).get(0), is(ACTION_RESULT));
+        assertThat(results.get(testActionMock).get(1), is(ACTION_RESULT));
+    }
+
+    @Test
+    public void getResultsByAction_singleClassSingleActionDetails_generatesExportDataByAction() {
+        result = new Result<>(Lists.newArrayList(individualActionDetailsMock));
+
+        ListMultimap<Action, ExportData> results = result.getExportedDataByAction();
+
+        assertThat(results.size(), is(1));
+        assertThat(results.get(testActionMock).size(), is(1));
+        assertThat(results.get(testActionMock).get(0), is(exportDataMock));
+    }
+
+    @Test
+    public void add_slidingWindowActionHashChangedAfterAdd_evictsAction() {
+        result = new Result<>(RetentionPolicy.slidingWindow(1));
+        MutableAction mutableAction = new MutableAction();
+
+        result.add(new Result<>(mutableAction, "first", exportData("first")));
+        mutableAction.value = "imported";
+        result.add(new Result<>(new ActionWithExport2(), "second", exportData("second")));
+
+        assertThat(result.getActionDetails().size(), is(1));
+        assertThat(result.getResultsByAction().containsKey(mutableAction), is(false));
+        assertThat(result.getExportedDataByAction().containsKey(mutableAction), is(false));
+    }
+
+    @Test
+    public void getResultsByAction_actionHashChangedAfterAdd_actionStillFound() {
+        MutableAction mutableAction = new MutableAction();
+
+        result.add(new Result<>(mutableAction, ACTION_RESULT, exportData("first")));
+        mutableAction.value = "imported";
+
+        assertThat(result.getResultsByAction().get(mutableAction), equalTo(Lists.<Object>newArrayList(ACTION_RESULT)));
+        assertThat(result.getExportedDataByAction().get(mutableAction).size(), is(1));
+    }
+
+    @Test
+    public void getResultsByAction_singleClassSingleActionDetails_generatesResultsByAction() {
+        result = new Result<>(Lists.newArrayList(individualActionDetailsMock));
+
+        ListMultimap<Action, Object> results = result.getResultsByAction();
+
+        assertThat(results.size(), is(1));
+        assertThat(results.get(testActionMock).size(), is(1));
+        assertThat(results.get(testActionMock).get(0), is(ACTION_RESULT));
+    }
+
+    @Test
+    public void getResultsByClass_singleClassMultipleActionDetails_generatesExportDataByClass() {
+        result = new Result<>(Lists.newArrayList(individualActionDetailsMock, individualActionDetailsMock));
+
+        ListMultimap<Class, ExportData> results = result.getExportedDataByClass();
+
+        assertThat(results.size(), is(2));
+        assertThat(results.get(testActionMock.getClass()).size(), is(2));
+        assertThat(results.get(testActionMock.getClass()).get(0), is(exportDataMock));
+        assertThat(results.get(testActionMock.getClass()).get(1), is(exportDataMock));
+    }
+
+    @Test
+    public void getResultsByClass_singleClassMultipleActionDetails_generatesResultsByClass() {
+        result = new Result<>(Lists.newArrayList(individualActionDetailsMock, individualActionDetailsMock));
+
+        ListMultimap<Class, Object> results = result.getResultsByClass();
+
+        assertThat(results.size(), is(2));
+        assertThat(results.get(testActionMock.getClass()).size(), is(2));
+        assertThat(results.get(testActionMock.getClass()).get(0), is(ACTION_RESULT));
+        assertThat(results.get(testActionMock.getClass()).get(1), is(ACTION_RESULT));
+    }
+
+    @Test
+    public void getResultsByClass_singleClassSingleActionDetails_generatesExportDataByClass() {
+        result = new Result<>(Lists.newArrayList(individualActionDetailsMock));
+
+        ListMultimap<Class, ExportData> results = result.getExportedDataByClass();
+
+        assertThat(results.size(), is(1));
+        assertThat(results.get(testActionMock.getClass()).size(), is(1));
+        assertThat(results.get(testActionMock.getClass()).get(0), is(exportDataMock));
+    }
+
+    @Test
+    public void getResultsByClass_singleClassSingleActionDetails_generatesResultsByClass() {
+        result = new Result<>(Lists.newArrayList(individualActionDetailsMock));
+
+        ListMultimap<Class, Object> results = result.getResultsByClass();
+
+        assertThat(results.size(), is(1));
+        assertThat(results.get(testActionMock.getClass()).size(), is(1));
+        assertThat(results.get(testActionMock.getClass()).get(0), is(ACTION_RESULT));
+    }
+
+    @Before
+    public void init() {
+        result = new Result<>();
+
+        when(macroResultMock.getActionDetails()).
+                thenReturn(Lists.newArrayList(macroActionDetailsMock));
+
+        when(macroActionDetailsMock.getResult()).
+                thenReturn(combinedResultMock);
+
+        when(combinedResultMock.getActionDetails()).
+                thenReturn(Lists.newArrayList(individualActionDetailsMock, individualActionDetailsMock));
+
+        when(individualResultMock.getActionDetails()).
+                thenReturn(Lists.newArrayList(individualActionDetailsMock));
+
+        when(individualActionDetailsMock.getActionClass()).
+                thenReturn(testActionMock.getClass());
+
+        when(individualActionDetailsMock.getResult()).
+                thenReturn(ACTION_RESULT);
+
+        when(individualActionDetailsMock.getAction()).
+                thenReturn(testActionMock);
+
+        when(individualActionDetailsMock.getActionExportData()).
+                thenReturn(exportDataMock);
+    }
+
+    @Test
+    public void result_actionResultExportedDataConstructor_setsCorrectValues() {
+        result = new Result<>(testActionMock, ACTION_RESULT, exportDataMock);
+
+        assertThat(result.getActionDetails().size(), equalTo(1));
+        assertThat(result.getActionDetails().get(0).getActionClass(), equalTo(testActionMock.getClass()));
+        assertThat(result.getActionDetails().get(0).getAction(), equalTo(testActionMock));
+        assertThat(result.getActionDetails().get(0).getResult(), equalTo(ACTION_RESULT));
+        assertThat(result.getActionDetails().get(0).getActionExportData(), equalTo(exportDataMock));
+    }
+
+    private static ExportData exportData(Object value) {
+        ExportData exportData = new ExportData();
+        exportData.put(ActionWithExport.EXPORT_FIELD_NAME, value);
+
+        return exportData;
+    }
+
+    /**
+     * An Action whose hashCode depends on a mutable field, like a Lombok @Data Action.
+     */
+    private static class MutableAction extends ActionImpl {
+
+        private Object value;
+
+        private MutableAction() {
+            super(null);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof MutableAction && Objects.equals(value, ((MutableAction) other).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(value);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.keithwoelke.actions.core.result;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class RingBufferTest {
+
+    @Test
+    public void remove_firstElementAfterWrapping_keepsOrder() {
+        RingBuffer<Integer> ringBuffer = new RingBuffer<>();
+
+        for (int i = 0; i < 20; i++) {
+            ringBuffer.add(i);
+
+            if (ringBuffer.size() > 5) {
+                assertThat(ringBuffer.remove(0), is(i - 5));
+            }
+        }
+
+        assertThat(ringBuffer, equalTo(Lists.newArrayList(15, 16, 17, 18, 19)));
+    }
+
+    @Test
+    public void remove_middleElement_shiftsLaterElements() {
+        RingBuffer<Integer> ringBuffer = new RingBuffer<>();
+        List<Integer> expected = Lists.newArrayList();
+
+        for (int i = 0; i < 12; i++) {
+            ringBuffer.add(i);
+            expected.add(i);
+        }
+
+        ringBuffer.remove(0);
+        expected.remove(0);
+        ringBuffer.add(1, 100);
+        expected.add(1, 100);
+
+        assertThat(ringBuffer.remove(4), equalTo(expected.remove(4)));
+        assertThat(ringBuffer, equalTo(expected));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void get_indexOutOfRange_throwsException() {
+        new RingBuffer<>().get(0);
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.keithwoelke.actions.core.stubs;
+
+import com.github.keithwoelke.actions.core.annotations.Export;
+
+@SuppressWarnings("unused")
+public class ActionWithAdapter extends TestAction {
+
+    @Export
+    public Object adaptedExport;
+
+    public ActionWithAdapter() {
+        super();
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.keithwoelke.actions.core.stubs;
+
+import com.github.keithwoelke.actions.core.field.ExportAdapter;
+import com.github.keithwoelke.actions.core.result.ExportData;
+
+/**
+ * Stands in for the adapter the annotation processor would generate for ActionWithAdapter.
+ */
+public final class ActionWithAdapter_ExportAdapter implements ExportAdapter<ActionWithAdapter> {
+
+    public static final String ADAPTER_EXPORT = "adapterExport";
+
+    @Override
+    public ExportData exportData(ActionWithAdapter action) {
+        ExportData exportData = new ExportData();
+
+        exportData.put(ADAPTER_EXPORT, action.adaptedExport);
+
+        return exportData;
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.keithwoelke.actions.core.stubs;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.github.keithwoelke.actions.core.ActionImpl;
+import com.github.keithwoelke.actions.core.Actionable;
+import com.github.keithwoelke.actions.core.annotations.Export;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings("unused")
+public class ValueAction extends ActionImpl implements Actionable<String> {
+
+    public static final String VALUE = "value";
+
+    @Export(VALUE)
+    public String value;
+    private final transient CountDownLatch rendezvous;
+
+    public ValueAction(String value) {
+        this(value, null);
+    }
+
+    /**
+     * @param rendezvous if provided, doAction() will only return once every party of the latch has reached doAction()
+     */
+    public ValueAction(String value, CountDownLatch rendezvous) {
+        super(null);
+
+        this.value = value;
+        this.rendezvous = rendezvous;
+    }
+
+    @Override
+    public String doAction() {
+        if (rendezvous != null) {
+            rendezvous.countDown();
+
+            if (!Uninterruptibles.awaitUninterruptibly(rendezvous, 5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for concurrent actions");
+            }
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.keithwoelke.actions.core.stubs;
+
+import com.github.keithwoelke.actions.core.ActionImpl;
+import com.github.keithwoelke.actions.core.Actionable;
+import com.github.keithwoelke.actions.core.annotations.Import;
+
+@SuppressWarnings("unused")
+public class ValueImportAction extends ActionImpl implements Actionable<String> {
+
+    @Import(actionClass = ValueAction.class, importKey = ValueAction.VALUE)
+    public String importedValue;
+
+    public ValueImportAction() {
+        super(null);
+    }
+
+    @Override
+    public String doAction() {
+        return importedValue;
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.keithwoelke.actions.flow;
+
+import com.github.keithwoelke.actions.core.ActionDetailsPublisher;
+import com.github.keithwoelke.actions.core.ActionDetailsSubscriber;
+import com.github.keithwoelke.actions.core.ActionDetailsSubscription;
+import com.github.keithwoelke.actions.core.result.ActionDetails;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+/**
+ * Adapts the publishers of actions-core, which follow the contract of java.util.concurrent.Flow without depending on it, to the Flow interfaces.
+ * Every call is delegated as is, so the adapted publisher keeps the ordering, threading and backpressure described by ActionDetailsPublisher.
+ *
+ * @author wkwoelke
+ */
+public final class FlowAdapters {
+
+    private FlowAdapters() {
+    }
+
+    /**
+     * @param publisher    the publisher of the details of a scenario. It supports a single subscriber, and subscribing starts the scenario
+     * @param <ResultType> the Result Type of the Actions
+     * @return a Flow.Publisher which subscribes its subscribers to the publisher
+     */
+    public static <ResultType> Flow.Publisher<ActionDetails<ResultType>> toFlowPublisher(ActionDetailsPublisher<ResultType> publisher) {
+        Objects.requireNonNull(publisher);
+
+        return subscriber -> publisher.subscribe(toActionDetailsSubscriber(subscriber));
+    }
+
+    /**
+     * @param subscriber   the Flow.Subscriber to deliver the details to
+     * @param <ResultType> the Result Type of the Actions
+     * @return an ActionDetailsSubscriber which delegates every signal to the subscriber
+     */
+    public static <ResultType> ActionDetailsSubscriber<ResultType> toActionDetailsSubscriber(Flow.Subscriber<? super ActionDetails<ResultType>>
+            subscriber) {
+        Objects.requireNonNull(subscriber);
+
+        return new ActionDetailsSubscriber<ResultType>() {
+            @Override
+            public void onSubscribe(ActionDetailsSubscription subscription) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                        subscription.request(n);
+                    }
+
+                    @Override
+                    public void cancel() {
+                        subscription.cancel();
+                    }
+                });
+            }
+
+            @Override
+            public void onNext(ActionDetails<ResultType> actionDetails) {
+                subscriber.onNext(actionDetails);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                subscriber.onError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                subscriber.onComplete();
+            }
+        };
+    }
+}
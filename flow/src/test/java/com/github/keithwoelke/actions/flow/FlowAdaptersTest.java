@@ -0,0 +1,100 @@
+package com.github.keithwoelke.actions.flow;
+
+import com.github.keithwoelke.actions.core.ActionDataExporter;
+import com.github.keithwoelke.actions.core.ActionDataImporter;
+import com.github.keithwoelke.actions.core.ActionImpl;
+import com.github.keithwoelke.actions.core.ActionRunner;
+import com.github.keithwoelke.actions.core.Actionable;
+import com.github.keithwoelke.actions.core.RunnerOptions;
+import com.github.keithwoelke.actions.core.filter.FilterObjectBuilder;
+import com.github.keithwoelke.actions.core.result.ActionDetails;
+import com.github.keithwoelke.assertion.AssertionRecorder;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FlowAdaptersTest {
+
+    @Mock
+    private AssertionRecorder assertionRecorderMock;
+    private ActionRunner actionRunner;
+
+    @Before
+    public void init() {
+        actionRunner = new ActionRunner(new ActionDataImporter(), new ActionDataExporter(), new FilterObjectBuilder(), assertionRecorderMock).
+                withOptions(RunnerOptions.builder().
+                        asyncExecutor(Runnable::run).
+                        build());
+    }
+
+    @Test
+    public void toFlowPublisher_subscriberRequestsOneAtATime_publishesEveryActionAndCompletes() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        FlowAdapters.toFlowPublisher(actionRunner.<String>publishActionsWithDetails(new ValueAction("first"), new ValueAction("second"))).
+                subscribe(subscriber);
+
+        assertThat(subscriber.results, equalTo(Arrays.asList("first", "second")));
+        assertThat(subscriber.completed, equalTo(true));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void toFlowPublisher_nullSubscriber_throwsNullPointerException() {
+        FlowAdapters.toFlowPublisher(actionRunner.<String>publishActionsWithDetails(new ValueAction("first"))).subscribe(null);
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<ActionDetails<String>> {
+
+        private final List<String> results = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ActionDetails<String> actionDetails) {
+            results.add(actionDetails.getResult());
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    private static class ValueAction extends ActionImpl implements Actionable<String> {
+
+        private final String value;
+
+        private ValueAction(String value) {
+            super(null);
+
+            this.value = value;
+        }
+
+        @Override
+        public String doAction() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.github.keithwoelke.actions.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This annotation processor generates an ExportAdapter and an ImportAdapter for every class which declares Export/Import annotated fields. The
+ * generated adapters access the fields directly, which allows the ActionDataExporter and ActionDataImporter to skip Reflection entirely.
+ * <p>
+ * An adapter is only generated when every annotated field of the class (including inherited fields) can be accessed from the package of the class.
+ * Classes with private annotated fields, final Import fields or Import fields which shadow each other are skipped and will continue to be processed
+ * through Reflection at runtime.
+ *
+ * @author wkwoelke
+ */
+@SupportedAnnotationTypes({ActionAdapterProcessor.EXPORT, ActionAdapterProcessor.IMPORT, ActionAdapterProcessor.IMPORTS})
+public class ActionAdapterProcessor extends AbstractProcessor {
+
+    static final String EXPORT = "com.github.keithwoelke.actions.core.annotations.Export";
+    static final String IMPORT = "com.github.keithwoelke.actions.core.annotations.Import";
+    static final String IMPORTS = "com.github.keithwoelke.actions.core.annotations.Imports";
+
+    private static final String EXPORT_ADAPTER = "com.github.keithwoelke.actions.core.field.ExportAdapter";
+    private static final String IMPORT_ADAPTER = "com.github.keithwoelke.actions.core.field.ImportAdapter";
+    private static final String EXPORT_DATA = "com.github.keithwoelke.actions.core.result.ExportData";
+    private static final String FIELD_ACCESSOR = "com.github.keithwoelke.actions.core.field.FieldAccessor";
+    private static final String EXPORT_ADAPTER_SUFFIX = "_ExportAdapter";
+    private static final String IMPORT_ADAPTER_SUFFIX = "_ImportAdapter";
+
+    private final Set<String> generatedAdapters = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> actionTypes = new LinkedHashSet<>();
+
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD && element.getEnclosingElement() instanceof TypeElement) {
+                    actionTypes.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+
+        for (TypeElement actionType : actionTypes) {
+            if (isAccessibleType(actionType)) {
+                generateExportAdapter(actionType);
+                generateImportAdapter(actionType);
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Generate the ExportAdapter for the class. Fields are written in the same order Reflection would visit them, so that duplicate export names
+     * resolve to the same value.
+     *
+     * @param actionType the class to generate the adapter for
+     */
+    private void generateExportAdapter(TypeElement actionType) {
+        List<VariableElement> exportFields = getAnnotatedFields(actionType, EXPORT);
+
+        if (exportFields.isEmpty() || !allAccessible(actionType, exportFields)) {
+            return;
+        }
+
+        String actionTypeName = getErasedName(actionType.asType());
+        StringBuilder body = new StringBuilder();
+
+        body.append("    @Override\n");
+        body.append("    public ").append(EXPORT_DATA).append(" exportData(").append(actionTypeName).append(" action) {\n");
+        body.append("        ").append(EXPORT_DATA).append(" exportData = new ").append(EXPORT_DATA).append("();\n\n");
+
+        for (VariableElement field : exportFields) {
+            body.append("        exportData.put(").append(quote(getExportName(field))).append(", action.").append(field.getSimpleName()).
+                    append(");\n");
+        }
+
+        body.append("\n        return exportData;\n");
+        body.append("    }\n");
+
+        writeAdapter(actionType, EXPORT_ADAPTER_SUFFIX, EXPORT_ADAPTER, body);
+    }
+
+    /**
+     * Generate the ImportAdapter for the class. Every field gets its own FieldAccessor class, which reads and writes the field directly. The adapter
+     * only dispatches on the field name when an accessor is requested, which happens once per field when the metadata of the class is resolved.
+     *
+     * @param actionType the class to generate the adapter for
+     */
+    private void generateImportAdapter(TypeElement actionType) {
+        List<VariableElement> importFields = getAnnotatedFields(actionType, IMPORT);
+        importFields.addAll(getAnnotatedFields(actionType, IMPORTS));
+
+        if (importFields.isEmpty() || !allAccessible(actionType, importFields) || !allAssignable(importFields) || hasShadowedFields(importFields)) {
+            return;
+        }
+
+        String actionTypeName = getErasedName(actionType.asType());
+        StringBuilder body = new StringBuilder();
+
+        body.append("    @Override\n");
+        body.append("    public ").append(FIELD_ACCESSOR).append(" getAccessor(String fieldName) {\n");
+        body.append("        switch (fieldName) {\n");
+
+        for (VariableElement field : importFields) {
+            String fieldName = field.getSimpleName().toString();
+
+            body.append("            case ").append(quote(fieldName)).append(":\n");
+            body.append("                return new ").append(FIELD_ACCESSOR).append("() {\n\n");
+            body.append("                    @Override\n");
+            body.append("                    public Object get(Object target) {\n");
+            body.append("                        return ((").append(actionTypeName).append(") target).").append(fieldName).append(";\n");
+            body.append("                    }\n\n");
+            body.append("                    @Override\n");
+            body.append("                    public void set(Object target, Object value) {\n");
+            body.append("                        ((").append(actionTypeName).append(") target).").append(fieldName).append(" = (").
+                    append(getCastName(field.asType())).append(") value;\n");
+            body.append("                    }\n");
+            body.append("                };\n");
+        }
+
+        body.append("            default:\n");
+        body.append("                return null;\n");
+        body.append("        }\n");
+        body.append("    }\n");
+
+        writeAdapter(actionType, IMPORT_ADAPTER_SUFFIX, IMPORT_ADAPTER, body);
+    }
+
+    private void writeAdapter(TypeElement actionType, String suffix, String adapterInterface, StringBuilder body) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(actionType).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(actionType).toString();
+        String adapterName = binaryName.replace('$', '_') + suffix;
+        String adapterSimpleName = packageName.isEmpty() ? adapterName : adapterName.substring(packageName.length() + 1);
+
+        if (!generatedAdapters.add(adapterName)) {
+            return;
+        }
+
+        try (PrintWriter writer = new PrintWriter(processingEnv.getFiler().createSourceFile(adapterName, actionType).openWriter())) {
+            if (!packageName.isEmpty()) {
+                writer.println("package " + packageName + ";");
+                writer.println();
+            }
+
+            writer.println("/**");
+            writer.println(" * Generated by " + ActionAdapterProcessor.class.getName() + " for " + actionType.getQualifiedName() + ". Do not edit.");
+            writer.println(" */");
+            writer.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+            writer.println("public final class " + adapterSimpleName + " implements " + adapterInterface + "<" + getErasedName(actionType.asType()) +
+                    "> {");
+            writer.println();
+            writer.print(body);
+            writer.println("}");
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format("Unable to write %s: %s", adapterName, e), actionType);
+        }
+    }
+
+    /**
+     * Get the annotated fields of the class and all its superclasses, in the order Reflection would return them.
+     */
+    private List<VariableElement> getAnnotatedFields(TypeElement actionType, String annotation) {
+        List<VariableElement> fields = new ArrayList<>();
+        TypeElement type = actionType;
+
+        while (type != null) {
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (getAnnotation(field, annotation) != null) {
+                    fields.add(field);
+                }
+            }
+
+            TypeMirror superclass = type.getSuperclass();
+            type = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+
+        return fields;
+    }
+
+    private AnnotationMirror getAnnotation(Element element, String annotation) {
+        for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+
+            if (annotationType.getQualifiedName().contentEquals(annotation)) {
+                return annotationMirror;
+            }
+        }
+
+        return null;
+    }
+
+    private String getExportName(VariableElement field) {
+        AnnotationMirror export = getAnnotation(field, EXPORT);
+
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : export.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                String name = (String) entry.getValue().getValue();
+
+                if (!name.isEmpty()) {
+                    return name;
+                }
+            }
+        }
+
+        return field.getSimpleName().toString();
+    }
+
+    /**
+     * The generated adapter lives in the package of the class and must be able to name it.
+     */
+    private boolean isAccessibleType(TypeElement type) {
+        Element element = type;
+
+        while (element instanceof TypeElement) {
+            TypeElement typeElement = (TypeElement) element;
+
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+
+            if (typeElement.getNestingKind() == NestingKind.LOCAL || typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+
+            element = typeElement.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    private boolean allAccessible(TypeElement actionType, List<VariableElement> fields) {
+        String actionPackage = processingEnv.getElementUtils().getPackageOf(actionType).getQualifiedName().toString();
+
+        for (VariableElement field : fields) {
+            Set<Modifier> modifiers = field.getModifiers();
+            String fieldPackage = processingEnv.getElementUtils().getPackageOf(field).getQualifiedName().toString();
+
+            if (modifiers.contains(Modifier.PRIVATE) || (!modifiers.contains(Modifier.PUBLIC) && !fieldPackage.equals(actionPackage))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean allAssignable(List<VariableElement> fields) {
+        for (VariableElement field : fields) {
+            if (field.getModifiers().contains(Modifier.FINAL)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean hasShadowedFields(List<VariableElement> fields) {
+        Set<String> names = new HashSet<>();
+
+        for (VariableElement field : fields) {
+            if (!names.add(field.getSimpleName().toString())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private String getErasedName(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private String getCastName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+
+        return getErasedName(type);
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+
+        for (char character : value.toCharArray()) {
+            if (character == '"' || character == '\\') {
+                quoted.append('\\').append(character);
+            } else if (character < 0x20 || character > 0x7e) {
+                quoted.append(String.format("\\u%04x", (int) character));
+            } else {
+                quoted.append(character);
+            }
+        }
+
+        return quoted.append('"').toString();
+    }
+}
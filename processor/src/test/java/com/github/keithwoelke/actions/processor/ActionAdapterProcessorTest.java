@@ -0,0 +1,143 @@
+package com.github.keithwoelke.actions.processor;
+
+import com.google.common.io.ByteStreams;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import com.github.keithwoelke.actions.core.Action;
+import com.github.keithwoelke.actions.core.field.ExportAdapter;
+import com.github.keithwoelke.actions.core.field.FieldAccessor;
+import com.github.keithwoelke.actions.core.field.ImportAdapter;
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+@SuppressWarnings("unchecked")
+public class ActionAdapterProcessorTest {
+
+    private static final JavaFileObject CREATE_USER = JavaFileObjects.forSourceLines("test.CreateUser",
+            "package test;",
+            "",
+            "import com.github.keithwoelke.actions.core.Action;",
+            "import com.github.keithwoelke.actions.core.annotations.Export;",
+            "import com.github.keithwoelke.actions.core.annotations.Import;",
+            "",
+            "public class CreateUser implements Action {",
+            "",
+            "    @Export(\"userId\")",
+            "    public String id = \"42\";",
+            "",
+            "    @Import(actionClass = CreateUser.class, importKey = \"userId\")",
+            "    public String parentId;",
+            "",
+            "    @Import(actionClass = CreateUser.class, importKey = \"count\")",
+            "    int count;",
+            "}");
+
+    private static final JavaFileObject PRIVATE_IMPORT = JavaFileObjects.forSourceLines("test.PrivateImport",
+            "package test;",
+            "",
+            "import com.github.keithwoelke.actions.core.Action;",
+            "import com.github.keithwoelke.actions.core.annotations.Import;",
+            "",
+            "public class PrivateImport implements Action {",
+            "",
+            "    @Import(actionClass = PrivateImport.class, importKey = \"userId\")",
+            "    private String parentId;",
+            "}");
+
+    @Test
+    public void process_accessibleExportFields_generatesExportAdapter() throws ReflectiveOperationException {
+        Compilation compilation = compile(CREATE_USER);
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("test.CreateUser_ExportAdapter").contentsAsUtf8String().contains(
+                "exportData.put(\"userId\", action.id);");
+
+        CompilationClassLoader classLoader = new CompilationClassLoader(compilation);
+        ExportAdapter<Action> exportAdapter = (ExportAdapter<Action>) classLoader.newInstance("test.CreateUser_ExportAdapter");
+
+        assertThat(exportAdapter.exportData((Action) classLoader.newInstance("test.CreateUser")).get("userId"), equalTo("42"));
+    }
+
+    @Test
+    public void process_accessibleImportFields_generatesAccessorPerField() throws ReflectiveOperationException {
+        Compilation compilation = compile(CREATE_USER);
+
+        assertThat(compilation).succeeded();
+
+        CompilationClassLoader classLoader = new CompilationClassLoader(compilation);
+        ImportAdapter<Action> importAdapter = (ImportAdapter<Action>) classLoader.newInstance("test.CreateUser_ImportAdapter");
+        Object createUser = classLoader.newInstance("test.CreateUser");
+        FieldAccessor parentIdAccessor = importAdapter.getAccessor("parentId");
+        FieldAccessor countAccessor = importAdapter.getAccessor("count");
+
+        parentIdAccessor.set(createUser, "parent");
+        countAccessor.set(createUser, 5);
+
+        assertThat(parentIdAccessor.get(createUser), equalTo("parent"));
+        assertThat(countAccessor.get(createUser), equalTo(5));
+        assertThat(countAccessor.getClass(), not(equalTo(parentIdAccessor.getClass())));
+        assertThat(importAdapter.getAccessor("unknownField"), nullValue());
+    }
+
+    @Test
+    public void process_privateImportField_noImportAdapterGenerated() {
+        Compilation compilation = compile(PRIVATE_IMPORT);
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation.generatedSourceFiles().stream().
+                anyMatch(file -> file.getName().endsWith("PrivateImport_ImportAdapter.java")), equalTo(false));
+    }
+
+    private static Compilation compile(JavaFileObject source) {
+        return javac().
+                withProcessors(new ActionAdapterProcessor()).
+                compile(source);
+    }
+
+    /**
+     * Loads the classes produced by a Compilation, so the generated adapters can be exercised.
+     */
+    private static class CompilationClassLoader extends ClassLoader {
+
+        private final Compilation compilation;
+
+        private CompilationClassLoader(Compilation compilation) {
+            super(ActionAdapterProcessorTest.class.getClassLoader());
+
+            this.compilation = compilation;
+        }
+
+        private Object newInstance(String className) throws ReflectiveOperationException {
+            return loadClass(className).getDeclaredConstructor().newInstance();
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            String path = "/" + name.replace('.', '/') + ".class";
+
+            for (JavaFileObject file : compilation.generatedFiles()) {
+                if (file.getKind() == JavaFileObject.Kind.CLASS && file.toUri().getPath().endsWith(path)) {
+                    try (InputStream input = file.openInputStream()) {
+                        byte[] bytes = ByteStreams.toByteArray(input);
+
+                        return defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+            }
+
+            throw new ClassNotFoundException(name);
+        }
+    }
+}